@@ -0,0 +1,76 @@
+package org.gojul.gojulutils.data;
+
+/**
+ * Class {@code GojulBloomFilter} is a Bloom filter over the hashes of JOIN keys. It answers whether a key
+ * may be present, with a configurable rate of false positives, using far less memory than a hash table
+ * and without ever comparing keys. Probes are only a few multiplications and bit lookups, which makes
+ * it cheap to discard the keys which do not match anything before probing the actual hash table.
+ * Once built, this class is thread-safe.
+ */
+final class GojulBloomFilter {
+
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * Constructor.
+     *
+     * @param expectedInsertions the number of keys which will be put in the filter.
+     * @param falsePositiveRate  the expected rate of false positives, strictly between 0 and 1.
+     */
+    GojulBloomFilter(final int expectedInsertions, final double falsePositiveRate) {
+        int n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2.0) * Math.log(2.0)));
+        m = Math.max(64L, m);
+        this.bits = new long[(int) Math.min(Integer.MAX_VALUE - 8L, (m + 63L) >>> 6)];
+        this.bitCount = bits.length * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2.0)));
+    }
+
+    /**
+     * Add the key whose hash is {@code hash} to this filter.
+     *
+     * @param hash the hash of the key.
+     */
+    void put(final int hash) {
+        long h1 = mix(hash);
+        long h2 = mix(h1) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            bits[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    /**
+     * Return {@code false} if the key whose hash is {@code hash} has definitely not been added to
+     * this filter, {@code true} if it may have been.
+     *
+     * @param hash the hash of the key.
+     * @return {@code false} if the key has definitely not been added to this filter, {@code true} otherwise.
+     */
+    boolean mightContain(final int hash) {
+        long h1 = mix(hash);
+        long h2 = mix(h1) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Spread the bits of {@code value}, using the finalizer of MurmurHash3.
+     */
+    private static long mix(final long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
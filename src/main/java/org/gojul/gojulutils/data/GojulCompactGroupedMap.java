@@ -0,0 +1,364 @@
+package org.gojul.gojulutils.data;
+
+import org.gojul.gojulutils.data.GojulJoinData.GojulJoinDataKey;
+
+import java.util.*;
+
+/**
+ * <p>
+ * Class {@code GojulCompactGroupedMap} is an immutable map of elements grouped per key, stored in
+ * a compressed sparse row layout : the keys are stored once in an open-addressing hash table, and
+ * the elements of all the keys are packed in a single flat array, each key pointing to a range of
+ * this array. Compared to a {@code LinkedHashMap<K, List<V>>} this saves one map entry and one
+ * {@link ArrayList}, with its slack capacity, per distinct key.
+ * </p>
+ * <p>The keys are iterated in the order in which they first appear in the input, and the
+ * elements of a key keep their input order. The lists returned by this map are unmodifiable
+ * views of the flat array, created on demand. The {@code null} key is supported. The keys are
+ * compared using a {@link GojulKeyEquivalence}, so that {@link #get(Object)} and
+ * {@link #containsKey(Object)} return the group of any key equivalent to the one looked for.</p>
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the elements.
+ */
+final class GojulCompactGroupedMap<K, V> extends AbstractMap<K, List<V>> {
+
+    private final static float MAX_LOAD_FACTOR = 0.6f;
+
+    /**
+     * Marker stored in the hash table in place of the {@code null} key, as
+     * {@code null} there means the slot is free.
+     */
+    private final static Object NULL_KEY = new Object();
+
+    private final GojulKeyEquivalence<Object> equivalence;
+    private final Object[] slotKeys;
+    private final int[] slotGroups;
+    private final Object[] groupKeys;
+    // The elements of group i range from groupOffsets[i] to groupOffsets[i + 1].
+    private final int[] groupOffsets;
+    private final Object[] values;
+
+    private Set<Entry<K, List<V>>> entrySet;
+
+    /**
+     * Constructor. The keys are compared using their {@link Object#equals(Object)} method.
+     *
+     * @param keyGen the function in charge of generating the key of the elements.
+     * @param data   the elements to group.
+     */
+    GojulCompactGroupedMap(final GojulJoinDataKey<K, V> keyGen, final Iterable<V> data) {
+        this(keyGen, data, GojulKeyEquivalence.natural());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param keyGen      the function in charge of generating the key of the elements.
+     * @param data        the elements to group.
+     * @param equivalence the equivalence used to compare the keys.
+     */
+    GojulCompactGroupedMap(final GojulJoinDataKey<K, V> keyGen, final Iterable<V> data,
+                           final GojulKeyEquivalence<? super K> equivalence) {
+        this(group(keyGen, data, equivalence));
+    }
+
+    private GojulCompactGroupedMap(final Builder<K, V> builder) {
+        int groupCount = builder.groupCount;
+        int[] counts = builder.counts;
+        int[] offsets = new int[groupCount + 1];
+        for (int i = 0; i < groupCount; i++) {
+            offsets[i + 1] = offsets[i] + counts[i];
+        }
+
+        // The counts array is reused there as the fill position of each group.
+        Object[] packedValues = new Object[builder.size];
+        System.arraycopy(offsets, 0, counts, 0, groupCount);
+        for (int i = 0; i < builder.size; i++) {
+            packedValues[counts[builder.elementGroups[i]]++] = builder.elements[i];
+        }
+
+        this.equivalence = builder.equivalence;
+        this.slotKeys = builder.tableKeys;
+        this.slotGroups = builder.tableGroups;
+        this.groupKeys = Arrays.copyOf(builder.keys, groupCount);
+        this.groupOffsets = offsets;
+        this.values = packedValues;
+    }
+
+    private static <K, V> Builder<K, V> group(final GojulJoinDataKey<K, V> keyGen, final Iterable<V> data,
+                                              final GojulKeyEquivalence<? super K> equivalence) {
+        Builder<K, V> builder = new Builder<>(equivalence);
+        for (V element : data) {
+            builder.add(keyGen.getKey(element), element);
+        }
+        return builder;
+    }
+
+    /**
+     * Return the slot containing {@code maskedKey}, or the first free slot found while probing.
+     */
+    private static int slotOf(final GojulKeyEquivalence<Object> equivalence, final Object[] tableKeys,
+                              final Object maskedKey) {
+        int mask = tableKeys.length - 1;
+        boolean nullKey = maskedKey == NULL_KEY;
+        int h = nullKey ? 0 : equivalence.hash(maskedKey);
+        int slot = (h ^ (h >>> 16)) & mask;
+        while (tableKeys[slot] != null) {
+            Object slotKey = tableKeys[slot];
+            if (nullKey ? slotKey == NULL_KEY : slotKey != NULL_KEY && equivalence.equivalent(slotKey, maskedKey)) {
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Return the index of the group of {@code key}, or {@code -1} if there's no such key.
+     * Group indexes follow the order in which keys first appear in the input.
+     *
+     * @param key the key to look for.
+     * @return the index of the group of {@code key}, or {@code -1} if there's no such key.
+     */
+    int groupIndex(final Object key) {
+        int slot = slotOf(equivalence, slotKeys, key == null ? NULL_KEY : key);
+        return slotKeys[slot] == null ? -1 : slotGroups[slot];
+    }
+
+    /**
+     * Return the hash of {@code key}, as computed by the equivalence of this map.
+     *
+     * @param key the key.
+     * @return the hash of {@code key}.
+     */
+    int hashOf(final Object key) {
+        return key == null ? 0 : equivalence.hash(key);
+    }
+
+    /**
+     * Return the number of groups, i.e. of distinct keys.
+     *
+     * @return the number of groups.
+     */
+    int groupCount() {
+        return groupKeys.length;
+    }
+
+    /**
+     * Return the key of group {@code index}.
+     *
+     * @param index the group index.
+     * @return the key of group {@code index}.
+     */
+    @SuppressWarnings("unchecked")
+    K groupKey(final int index) {
+        return (K) groupKeys[index];
+    }
+
+    /**
+     * Return the elements of group {@code index}, as an unmodifiable view.
+     *
+     * @param index the group index.
+     * @return the elements of group {@code index}.
+     */
+    List<V> group(final int index) {
+        return new GroupView(groupOffsets[index], groupOffsets[index + 1]);
+    }
+
+    /**
+     * Return the total number of elements stored in this map.
+     *
+     * @return the total number of elements stored in this map.
+     */
+    int elementCount() {
+        return values.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return groupKeys.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(final Object key) {
+        return groupIndex(key) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<V> get(final Object key) {
+        int index = groupIndex(key);
+        return index < 0 ? null : group(index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Entry<K, List<V>>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<Entry<K, List<V>>>() {
+                @Override
+                public Iterator<Entry<K, List<V>>> iterator() {
+                    return new Iterator<Entry<K, List<V>>>() {
+                        private int index;
+
+                        @Override
+                        public boolean hasNext() {
+                            return index < groupKeys.length;
+                        }
+
+                        @Override
+                        public Entry<K, List<V>> next() {
+                            if (index >= groupKeys.length) {
+                                throw new NoSuchElementException();
+                            }
+                            Entry<K, List<V>> result = new SimpleImmutableEntry<>(groupKey(index), group(index));
+                            index++;
+                            return result;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return groupKeys.length;
+                }
+            };
+        }
+        return entrySet;
+    }
+
+    /**
+     * Class {@code GroupView} is an unmodifiable view of a range of the flat value array.
+     */
+    private final class GroupView extends AbstractList<V> implements RandomAccess {
+
+        private final int from;
+        private final int to;
+
+        private GroupView(final int from, final int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V get(final int index) {
+            if (index < 0 || index >= to - from) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", size: " + (to - from));
+            }
+            return (V) values[from + index];
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+
+    /**
+     * Class {@code Builder} groups elements whose keys are already known, and then packs them into a
+     * {@link GojulCompactGroupedMap}. A builder must not be used anymore once the map is built. Note that
+     * this class is package private because outer classes should not use it directly.
+     *
+     * @param <K> the type of the keys.
+     * @param <V> the type of the elements.
+     */
+    final static class Builder<K, V> {
+
+        private final GojulKeyEquivalence<Object> equivalence;
+
+        private Object[] elements = new Object[16];
+        private int[] elementGroups = new int[16];
+        private int size;
+
+        private Object[] tableKeys = new Object[16];
+        private int[] tableGroups = new int[16];
+        private Object[] keys = new Object[16];
+        private int[] counts = new int[16];
+        private int groupCount;
+
+        /**
+         * Constructor.
+         *
+         * @param equivalence the equivalence used to compare the keys.
+         */
+        @SuppressWarnings("unchecked")
+        Builder(final GojulKeyEquivalence<? super K> equivalence) {
+            this.equivalence = (GojulKeyEquivalence<Object>) equivalence;
+        }
+
+        /**
+         * Add {@code element} to the group of {@code key}.
+         *
+         * @param key     the key of the element.
+         * @param element the element to add.
+         */
+        void add(final K key, final V element) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, size * 2);
+                elementGroups = Arrays.copyOf(elementGroups, size * 2);
+            }
+            if (groupCount + 1 > tableKeys.length * MAX_LOAD_FACTOR) {
+                Object[] newTableKeys = new Object[tableKeys.length * 2];
+                int[] newTableGroups = new int[tableKeys.length * 2];
+                for (int i = 0; i < tableKeys.length; i++) {
+                    if (tableKeys[i] != null) {
+                        int slot = slotOf(equivalence, newTableKeys, tableKeys[i]);
+                        newTableKeys[slot] = tableKeys[i];
+                        newTableGroups[slot] = tableGroups[i];
+                    }
+                }
+                tableKeys = newTableKeys;
+                tableGroups = newTableGroups;
+            }
+
+            Object maskedKey = key == null ? NULL_KEY : key;
+            int slot = slotOf(equivalence, tableKeys, maskedKey);
+            if (tableKeys[slot] == null) {
+                if (groupCount == keys.length) {
+                    keys = Arrays.copyOf(keys, groupCount * 2);
+                    counts = Arrays.copyOf(counts, groupCount * 2);
+                }
+                tableKeys[slot] = maskedKey;
+                tableGroups[slot] = groupCount;
+                keys[groupCount++] = key;
+            }
+
+            int group = tableGroups[slot];
+            counts[group]++;
+            elements[size] = element;
+            elementGroups[size] = group;
+            size++;
+        }
+
+        /**
+         * Return the number of groups added so far. Group indexes follow the order in which keys
+         * were first added.
+         *
+         * @return the number of groups added so far.
+         */
+        int groupCount() {
+            return groupCount;
+        }
+
+        /**
+         * Pack the elements added so far into a map.
+         *
+         * @return the map of the elements added so far.
+         */
+        GojulCompactGroupedMap<K, V> build() {
+            return new GojulCompactGroupedMap<>(this);
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package org.gojul.gojulutils.data;
+
+import org.gojul.gojulutils.data.GojulJoinData.GojulJoinDataKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * Class {@code GojulGraceHashJoin} performs the JOIN operations described by a
+ * {@link GojulGraceHashJoinData} instance. Partitions whose right side still exceeds the
+ * memory budget are partitioned again, using a different hash function, up to the depth
+ * at which evenly distributed keys would fit in the memory budget, plus one. A partition
+ * which is still too big beyond this depth, or which has not been split at all by its
+ * last partitioning, is most likely made of a single huge key group, and partitioning it
+ * any further would be pointless.
+ *
+ * @param <K> the type of the JOIN key.
+ * @param <S> the type of the first object to join.
+ * @param <T> the type of the second object to join.
+ */
+final class GojulGraceHashJoin<K, S, T> {
+
+    private final static Logger log = LoggerFactory.getLogger(GojulGraceHashJoin.class);
+
+    private final GojulGraceHashJoinData<K, S, T> joinData;
+    private final boolean innerJoin;
+    private final BiConsumer<? super S, ? super T> consumer;
+
+    /**
+     * Constructor.
+     *
+     * @param joinData  the JOIN data.
+     * @param innerJoin {@code true} for an INNER JOIN, {@code false} for a LEFT JOIN.
+     * @param consumer  the consumer of the matches.
+     */
+    GojulGraceHashJoin(final GojulGraceHashJoinData<K, S, T> joinData, final boolean innerJoin,
+                       final BiConsumer<? super S, ? super T> consumer) {
+        this.joinData = joinData;
+        this.innerJoin = innerJoin;
+        this.consumer = consumer;
+    }
+
+    /**
+     * Perform the JOIN.
+     *
+     * @throws IOException if an I/O error occurs while using temporary files.
+     */
+    void join() throws IOException {
+        int budget = joinData.getMaxInMemoryElements();
+        List<T> rightBuffer = new ArrayList<>();
+        Iterator<T> rightElements = joinData.getRightElements().iterator();
+        while (rightElements.hasNext() && rightBuffer.size() <= budget) {
+            rightBuffer.add(rightElements.next());
+        }
+
+        if (rightBuffer.size() <= budget) {
+            probe(GojulJoinData.buildElementsMapPerKey(joinData.getRightKey(), rightBuffer),
+                    joinData.getLeftElements().iterator());
+            return;
+        }
+
+        log.info("More than {} right elements to join - spilling JOIN data to disk", budget);
+
+        Path directory = Files.createTempDirectory(joinData.getTempDirectory(), "gojul-join");
+        try {
+            Iterator<T> allRightElements = concat(rightBuffer.iterator(), rightElements);
+            rightBuffer = null;
+
+            Partitions rightPartitions = partition(directory, "right", allRightElements, joinData.getRightKey(),
+                    joinData.getRightSerializer(), 0);
+            Partitions leftPartitions = partition(directory, "left", joinData.getLeftElements().iterator(),
+                    joinData.getLeftKey(), joinData.getLeftSerializer(), 0);
+
+            long rightCount = 0L;
+            for (long count : rightPartitions.counts) {
+                rightCount += count;
+            }
+            joinPartitions(directory, leftPartitions, rightPartitions, 1, maxDepth(rightCount), rightCount);
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    /**
+     * Return the maximum number of partitionings of {@code rightCount} right elements, which is the
+     * number of partitionings after which evenly distributed keys fit in the memory budget, plus one
+     * in order to absorb the uneven distribution of the hashes.
+     */
+    private int maxDepth(final long rightCount) {
+        int result = 1;
+        for (long size = rightCount; size > joinData.getMaxInMemoryElements(); size /= joinData.getPartitionCount()) {
+            result++;
+        }
+        return result;
+    }
+
+    private void joinPartitions(final Path directory, final Partitions leftPartitions,
+                                final Partitions rightPartitions, final int depth, final int maxDepth,
+                                final long parentRightCount) throws IOException {
+        for (int i = 0; i < leftPartitions.files.length; i++) {
+            long rightCount = rightPartitions.counts[i];
+            long leftCount = leftPartitions.counts[i];
+            // A partition which contains all the elements of its parent has not been split by
+            // the last partitioning, so that its elements most likely all have the same key.
+            boolean skewed = rightCount == parentRightCount;
+
+            if (leftCount > 0L && rightCount > joinData.getMaxInMemoryElements() && depth < maxDepth && !skewed) {
+                Path subDirectory = Files.createDirectory(directory.resolve("p" + depth + "-" + i));
+                Partitions subRightPartitions = repartition(subDirectory, "right", rightPartitions.files[i],
+                        rightCount, joinData.getRightKey(), joinData.getRightSerializer(), depth);
+                Partitions subLeftPartitions = repartition(subDirectory, "left", leftPartitions.files[i],
+                        leftCount, joinData.getLeftKey(), joinData.getLeftSerializer(), depth);
+                joinPartitions(subDirectory, subLeftPartitions, subRightPartitions, depth + 1, maxDepth, rightCount);
+                deleteRecursively(subDirectory);
+            } else if (leftCount > 0L && (rightCount > 0L || !innerJoin)) {
+                if (rightCount > joinData.getMaxInMemoryElements()) {
+                    log.warn("Partition {} still contains {} right elements after {} partitionings, its keys are most "
+                            + "likely skewed - joining it in memory", i, rightCount, depth);
+                }
+                Map<K, List<T>> rightElements = GojulJoinData.buildElementsMapPerKey(joinData.getRightKey(),
+                        readAll(rightPartitions.files[i], rightCount, joinData.getRightSerializer()));
+                try (InputStream in = new GojulMappedInputStream(leftPartitions.files[i])) {
+                    probe(rightElements, new PartitionIterator<>(new DataInputStream(in), leftCount,
+                            joinData.getLeftSerializer()));
+                }
+            }
+
+            Files.deleteIfExists(rightPartitions.files[i]);
+            Files.deleteIfExists(leftPartitions.files[i]);
+        }
+    }
+
+    private void probe(final Map<K, List<T>> rightElements, final Iterator<S> leftElements) {
+        GojulJoinDataKey<K, S> leftKey = joinData.getLeftKey();
+
+        while (leftElements.hasNext()) {
+            S element = leftElements.next();
+            List<T> targetElements = rightElements.get(leftKey.getKey(element));
+            if (targetElements != null) {
+                for (T targetElement : targetElements) {
+                    if (targetElement != null || !innerJoin) {
+                        consumer.accept(element, targetElement);
+                    }
+                }
+            } else if (!innerJoin) {
+                consumer.accept(element, null);
+            }
+        }
+    }
+
+    private <V> Partitions repartition(final Path directory, final String prefix, final Path file, final long count,
+                                       final GojulJoinDataKey<K, V> keyGen, final GojulJoinSerializer<V> serializer,
+                                       final int depth) throws IOException {
+        try (InputStream in = new GojulMappedInputStream(file)) {
+            return partition(directory, prefix, new PartitionIterator<>(new DataInputStream(in), count, serializer),
+                    keyGen, serializer, depth);
+        }
+    }
+
+    private <V> Partitions partition(final Path directory, final String prefix, final Iterator<V> elements,
+                                     final GojulJoinDataKey<K, V> keyGen, final GojulJoinSerializer<V> serializer,
+                                     final int depth) throws IOException {
+        int partitionCount = joinData.getPartitionCount();
+        Partitions result = new Partitions(partitionCount);
+        DataOutputStream[] outputs = new DataOutputStream[partitionCount];
+
+        try {
+            for (int i = 0; i < partitionCount; i++) {
+                result.files[i] = directory.resolve(prefix + "-" + i);
+                outputs[i] = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(result.files[i])));
+            }
+
+            while (elements.hasNext()) {
+                V element = elements.next();
+                int partition = partitionOf(keyGen.getKey(element), depth, partitionCount);
+                serializer.write(element, outputs[partition]);
+                result.counts[partition]++;
+            }
+        } finally {
+            for (DataOutputStream output : outputs) {
+                if (output != null) {
+                    output.close();
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private static int partitionOf(final Object key, final int depth, final int partitionCount) {
+        // Each depth uses a different hash function, so that a partition
+        // which is too big gets actually split when partitioned again.
+        int h = Objects.hashCode(key) ^ (depth * 0x9E3779B9);
+        h *= 0x85EBCA6B;
+        h ^= h >>> 16;
+        return Math.floorMod(h, partitionCount);
+    }
+
+    private static <V> List<V> readAll(final Path file, final long count, final GojulJoinSerializer<V> serializer)
+            throws IOException {
+        List<V> result = new ArrayList<>();
+        try (InputStream in = new GojulMappedInputStream(file)) {
+            DataInputStream dataIn = new DataInputStream(in);
+            for (long i = 0L; i < count; i++) {
+                result.add(serializer.read(dataIn));
+            }
+        }
+        return result;
+    }
+
+    private static <V> Iterator<V> concat(final Iterator<V> first, final Iterator<V> second) {
+        return new Iterator<V>() {
+            @Override
+            public boolean hasNext() {
+                return first.hasNext() || second.hasNext();
+            }
+
+            @Override
+            public V next() {
+                return first.hasNext() ? first.next() : second.next();
+            }
+        };
+    }
+
+    private static void deleteRecursively(final Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+            for (Path entry : entries) {
+                if (Files.isDirectory(entry)) {
+                    deleteRecursively(entry);
+                } else {
+                    Files.deleteIfExists(entry);
+                }
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    /**
+     * Class {@code Partitions} describes a set of partition files, along with
+     * the number of elements each of them contains.
+     */
+    private final static class Partitions {
+
+        private final Path[] files;
+        private final long[] counts;
+
+        private Partitions(final int partitionCount) {
+            this.files = new Path[partitionCount];
+            this.counts = new long[partitionCount];
+        }
+    }
+
+    /**
+     * Class {@code PartitionIterator} reads the elements of a partition file one at a time.
+     *
+     * @param <V> the type of the elements.
+     */
+    private final static class PartitionIterator<V> implements Iterator<V> {
+
+        private final DataInput in;
+        private final GojulJoinSerializer<V> serializer;
+        private long remaining;
+
+        private PartitionIterator(final DataInput in, final long count, final GojulJoinSerializer<V> serializer) {
+            this.in = in;
+            this.remaining = count;
+            this.serializer = serializer;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0L;
+        }
+
+        @Override
+        public V next() {
+            if (remaining <= 0L) {
+                throw new NoSuchElementException();
+            }
+            remaining--;
+            try {
+                return serializer.read(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package org.gojul.gojulutils.data;
+
+import org.gojul.gojulutils.data.GojulJoinData.GojulJoinDataKey;
+import org.gojul.gojulutils.validation.GojulPreconditions;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Class {@code GojulGraceHashJoinData} contains the data required in order to perform a JOIN
+ * operation whose inputs may not fit in the Java heap. The right elements are read in memory
+ * until a memory budget, expressed as a maximum number of right elements, is exceeded. If it is
+ * not exceeded the JOIN is performed in memory. Otherwise both sides are hash-partitioned per key to
+ * temporary files using the supplied serializers, and the JOIN is then performed partition per
+ * partition, reading the temporary files through memory mapping. This is what is called a
+ * "Grace hash join".
+ * </p>
+ * <p>The JOIN operations performed with this object return the same pairs as the ones performed with
+ * a {@link GojulJoinData} built with the same inputs, but not in the same order : the pairs follow the
+ * input order of the left elements within each partition. As the inputs are iterated each time a JOIN
+ * is performed, their {@link Iterable} must support being iterated several times if you intend to
+ * perform several JOIN operations with the same instance.</p>
+ *
+ * @param <K> the type of the JOIN key.
+ * @param <S> the type of the first object to join.
+ * @param <T> the type of the second object to join.
+ * @see org.gojul.gojulutils.data.GojulJoinDataService
+ */
+public class GojulGraceHashJoinData<K, S, T> {
+
+    /**
+     * The default number of partitions created when the memory budget is exceeded.
+     */
+    public final static int DEFAULT_PARTITION_COUNT = 32;
+
+    private final GojulJoinDataKey<K, S> leftKey;
+    private final Iterable<S> leftElements;
+    private final GojulJoinSerializer<S> leftSerializer;
+    private final GojulJoinDataKey<K, T> rightKey;
+    private final Iterable<T> rightElements;
+    private final GojulJoinSerializer<T> rightSerializer;
+    private final int maxInMemoryElements;
+    private final Path tempDirectory;
+    private final int partitionCount;
+
+    /**
+     * Constructor. Temporary files are created in the default temporary directory, and
+     * {@link #DEFAULT_PARTITION_COUNT} partitions are created when the budget is exceeded.
+     *
+     * @param leftKey             the function in charge of generating the key for the left elements to join.
+     * @param leftElements        the left elements to join.
+     * @param leftSerializer      the serializer of the left elements.
+     * @param rightKey            the function in charge of generating the key for the right elements to join.
+     * @param rightElements       the right elements to join.
+     * @param rightSerializer     the serializer of the right elements.
+     * @param maxInMemoryElements the maximum number of right elements to hold in memory at once.
+     * @throws NullPointerException     if any of the method parameters is {@code null}.
+     * @throws IllegalArgumentException if {@code maxInMemoryElements} is not strictly positive.
+     */
+    public GojulGraceHashJoinData(final GojulJoinDataKey<K, S> leftKey, final Iterable<S> leftElements,
+                                  final GojulJoinSerializer<S> leftSerializer,
+                                  final GojulJoinDataKey<K, T> rightKey, final Iterable<T> rightElements,
+                                  final GojulJoinSerializer<T> rightSerializer, final int maxInMemoryElements) {
+        this(leftKey, leftElements, leftSerializer, rightKey, rightElements, rightSerializer, maxInMemoryElements,
+                Paths.get(System.getProperty("java.io.tmpdir")), DEFAULT_PARTITION_COUNT);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param leftKey             the function in charge of generating the key for the left elements to join.
+     * @param leftElements        the left elements to join.
+     * @param leftSerializer      the serializer of the left elements.
+     * @param rightKey            the function in charge of generating the key for the right elements to join.
+     * @param rightElements       the right elements to join.
+     * @param rightSerializer     the serializer of the right elements.
+     * @param maxInMemoryElements the maximum number of right elements to hold in memory at once.
+     * @param tempDirectory       the directory in which temporary files are created.
+     * @param partitionCount      the number of partitions created when the budget is exceeded.
+     * @throws NullPointerException     if any of the method parameters is {@code null}.
+     * @throws IllegalArgumentException if {@code maxInMemoryElements} is not strictly positive, or if
+     *                                  {@code partitionCount} is lower than 2.
+     */
+    public GojulGraceHashJoinData(final GojulJoinDataKey<K, S> leftKey, final Iterable<S> leftElements,
+                                  final GojulJoinSerializer<S> leftSerializer,
+                                  final GojulJoinDataKey<K, T> rightKey, final Iterable<T> rightElements,
+                                  final GojulJoinSerializer<T> rightSerializer, final int maxInMemoryElements,
+                                  final Path tempDirectory, final int partitionCount) {
+        Objects.requireNonNull(leftKey, "leftKey is null");
+        Objects.requireNonNull(leftElements, "leftElements is null");
+        Objects.requireNonNull(leftSerializer, "leftSerializer is null");
+        Objects.requireNonNull(rightKey, "rightKey is null");
+        Objects.requireNonNull(rightElements, "rightElements is null");
+        Objects.requireNonNull(rightSerializer, "rightSerializer is null");
+        Objects.requireNonNull(tempDirectory, "tempDirectory is null");
+        GojulPreconditions.checkAssertion(maxInMemoryElements > 0, "maxInMemoryElements must be strictly positive");
+        GojulPreconditions.checkAssertion(partitionCount > 1, "partitionCount must be at least 2");
+
+        this.leftKey = leftKey;
+        this.leftElements = leftElements;
+        this.leftSerializer = leftSerializer;
+        this.rightKey = rightKey;
+        this.rightElements = rightElements;
+        this.rightSerializer = rightSerializer;
+        this.maxInMemoryElements = maxInMemoryElements;
+        this.tempDirectory = tempDirectory;
+        this.partitionCount = partitionCount;
+    }
+
+    /**
+     * Return the function which generates the key of the left elements. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the function which generates the key of the left elements.
+     */
+    GojulJoinDataKey<K, S> getLeftKey() {
+        return leftKey;
+    }
+
+    /**
+     * Return the left elements. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the left elements.
+     */
+    Iterable<S> getLeftElements() {
+        return leftElements;
+    }
+
+    /**
+     * Return the serializer of the left elements. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the serializer of the left elements.
+     */
+    GojulJoinSerializer<S> getLeftSerializer() {
+        return leftSerializer;
+    }
+
+    /**
+     * Return the function which generates the key of the right elements. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the function which generates the key of the right elements.
+     */
+    GojulJoinDataKey<K, T> getRightKey() {
+        return rightKey;
+    }
+
+    /**
+     * Return the right elements. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the right elements.
+     */
+    Iterable<T> getRightElements() {
+        return rightElements;
+    }
+
+    /**
+     * Return the serializer of the right elements. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the serializer of the right elements.
+     */
+    GojulJoinSerializer<T> getRightSerializer() {
+        return rightSerializer;
+    }
+
+    /**
+     * Return the maximum number of right elements to hold in memory at once. Note that this method
+     * is package private because outer classes should not use it directly.
+     *
+     * @return the maximum number of right elements to hold in memory at once.
+     */
+    int getMaxInMemoryElements() {
+        return maxInMemoryElements;
+    }
+
+    /**
+     * Return the directory in which temporary files are created. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the directory in which temporary files are created.
+     */
+    Path getTempDirectory() {
+        return tempDirectory;
+    }
+
+    /**
+     * Return the number of partitions created when the budget is exceeded. Note that this method
+     * is package private because outer classes should not use it directly.
+     *
+     * @return the number of partitions created when the budget is exceeded.
+     */
+    int getPartitionCount() {
+        return partitionCount;
+    }
+}
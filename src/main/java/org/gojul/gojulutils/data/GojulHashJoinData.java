@@ -0,0 +1,299 @@
+package org.gojul.gojulutils.data;
+
+import org.gojul.gojulutils.data.GojulJoinData.GojulJoinDataKey;
+import org.gojul.gojulutils.validation.GojulPreconditions;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Class {@code GojulHashJoinData} contains the data required in order to perform a JOIN
+ * operation like {@link GojulJoinData}, except that only one side of the JOIN is indexed
+ * per key. This side is called the build side, while the other one, called the probe side,
+ * is simply kept as is and will be iterated in its input order when the JOIN is performed.
+ * Compared to {@link GojulJoinData} this roughly halves the memory and the time required
+ * to prepare the JOIN.
+ * </p>
+ * <p>As the probe side is iterated each time a JOIN is performed, its {@link Iterable} must
+ * support being iterated several times if you intend to perform several JOIN operations with
+ * the same instance. Note that this object is immutable if and only if S and T are immutable
+ * classes, and if the probe side {@link Iterable} is not modified.</p>
+ * <p>When few elements of the probe side match anything, the build side keys can optionally be
+ * summarized in a Bloom filter, which is checked before probing the build side. It discards most
+ * of the probe elements which do not match without comparing any key, at the cost of a small
+ * amount of memory.</p>
+ *
+ * @param <K> the type of the JOIN key.
+ * @param <S> the type of the first object to join.
+ * @param <T> the type of the second object to join.
+ * @see org.gojul.gojulutils.data.GojulJoinDataService
+ */
+public class GojulHashJoinData<K, S, T> {
+
+    private final BuildSide buildSide;
+
+    private final GojulJoinDataKey<K, S> leftKey;
+    private final Iterable<S> leftElements;
+    private final GojulJoinDataKey<K, T> rightKey;
+    private final Iterable<T> rightElements;
+
+    private final GojulCompactGroupedMap<K, S> leftElementsPerKey;
+    private final GojulCompactGroupedMap<K, T> rightElementsPerKey;
+
+    private final GojulBloomFilter bloomFilter;
+    private final LongAdder bloomFilterEliminatedCount;
+
+    /**
+     * Constructor. The build side is chosen automatically : if both {@code leftElements} and
+     * {@code rightElements} are {@link Collection} instances the smallest one is used as the build
+     * side, otherwise the right side is used as the build side.
+     *
+     * @param leftKey       the function in charge of generating the key for the left elements to join.
+     * @param leftElements  the left elements to join.
+     * @param rightKey      the function in charge of generating the key for the right elements to join.
+     * @param rightElements the right elements to join.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     */
+    public GojulHashJoinData(final GojulJoinDataKey<K, S> leftKey, final Iterable<S> leftElements,
+                             final GojulJoinDataKey<K, T> rightKey, final Iterable<T> rightElements) {
+        this(leftKey, leftElements, rightKey, rightElements, chooseBuildSide(leftElements, rightElements));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param leftKey       the function in charge of generating the key for the left elements to join.
+     * @param leftElements  the left elements to join.
+     * @param rightKey      the function in charge of generating the key for the right elements to join.
+     * @param rightElements the right elements to join.
+     * @param buildSide     the side which must be indexed per key.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     */
+    public GojulHashJoinData(final GojulJoinDataKey<K, S> leftKey, final Iterable<S> leftElements,
+                             final GojulJoinDataKey<K, T> rightKey, final Iterable<T> rightElements,
+                             final BuildSide buildSide) {
+        this(leftKey, leftElements, rightKey, rightElements, buildSide, GojulKeyEquivalence.natural());
+    }
+
+    /**
+     * Constructor. The keys are compared using {@code equivalence} instead of their
+     * {@link Object#equals(Object)} method.
+     *
+     * @param leftKey       the function in charge of generating the key for the left elements to join.
+     * @param leftElements  the left elements to join.
+     * @param rightKey      the function in charge of generating the key for the right elements to join.
+     * @param rightElements the right elements to join.
+     * @param buildSide     the side which must be indexed per key.
+     * @param equivalence   the equivalence used to compare the keys.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     */
+    public GojulHashJoinData(final GojulJoinDataKey<K, S> leftKey, final Iterable<S> leftElements,
+                             final GojulJoinDataKey<K, T> rightKey, final Iterable<T> rightElements,
+                             final BuildSide buildSide, final GojulKeyEquivalence<? super K> equivalence) {
+        this(leftKey, leftElements, rightKey, rightElements, buildSide, equivalence, null);
+    }
+
+    /**
+     * Constructor. The keys of the build side are also put in a Bloom filter, which is checked before
+     * probing the build side, so that most of the probe elements which do not match anything are
+     * discarded without any key comparison. This is worth it when only a small fraction of the probe
+     * elements match.
+     *
+     * @param leftKey                      the function in charge of generating the key for the left elements to join.
+     * @param leftElements                 the left elements to join.
+     * @param rightKey                     the function in charge of generating the key for the right elements to join.
+     * @param rightElements                the right elements to join.
+     * @param buildSide                    the side which must be indexed per key.
+     * @param equivalence                  the equivalence used to compare the keys.
+     * @param bloomFilterFalsePositiveRate the rate of non matching probe elements which the Bloom filter
+     *                                     lets through, strictly between 0 and 1. The lower it is, the bigger
+     *                                     the filter.
+     * @throws NullPointerException     if any of the method parameters is {@code null}.
+     * @throws IllegalArgumentException if {@code bloomFilterFalsePositiveRate} is not strictly between 0 and 1.
+     */
+    public GojulHashJoinData(final GojulJoinDataKey<K, S> leftKey, final Iterable<S> leftElements,
+                             final GojulJoinDataKey<K, T> rightKey, final Iterable<T> rightElements,
+                             final BuildSide buildSide, final GojulKeyEquivalence<? super K> equivalence,
+                             final double bloomFilterFalsePositiveRate) {
+        this(leftKey, leftElements, rightKey, rightElements, buildSide, equivalence,
+                checkFalsePositiveRate(bloomFilterFalsePositiveRate));
+    }
+
+    private GojulHashJoinData(final GojulJoinDataKey<K, S> leftKey, final Iterable<S> leftElements,
+                              final GojulJoinDataKey<K, T> rightKey, final Iterable<T> rightElements,
+                              final BuildSide buildSide, final GojulKeyEquivalence<? super K> equivalence,
+                              final Double bloomFilterFalsePositiveRate) {
+        Objects.requireNonNull(leftKey, "leftKey is null");
+        Objects.requireNonNull(leftElements, "leftElements is null");
+        Objects.requireNonNull(rightKey, "rightKey is null");
+        Objects.requireNonNull(rightElements, "rightElements is null");
+        Objects.requireNonNull(buildSide, "buildSide is null");
+        Objects.requireNonNull(equivalence, "equivalence is null");
+
+        this.buildSide = buildSide;
+        this.leftKey = leftKey;
+        this.leftElements = leftElements;
+        this.rightKey = rightKey;
+        this.rightElements = rightElements;
+
+        this.leftElementsPerKey = buildSide == BuildSide.LEFT
+                ? GojulJoinData.buildElementsMapPerKey(leftKey, leftElements, equivalence) : null;
+        this.rightElementsPerKey = buildSide == BuildSide.RIGHT
+                ? GojulJoinData.buildElementsMapPerKey(rightKey, rightElements, equivalence) : null;
+
+        this.bloomFilter = bloomFilterFalsePositiveRate == null ? null
+                : buildBloomFilter(buildSide == BuildSide.LEFT ? leftElementsPerKey : rightElementsPerKey,
+                bloomFilterFalsePositiveRate);
+        this.bloomFilterEliminatedCount = new LongAdder();
+    }
+
+    private static Double checkFalsePositiveRate(final double falsePositiveRate) {
+        GojulPreconditions.checkAssertion(falsePositiveRate > 0.0 && falsePositiveRate < 1.0,
+                "bloomFilterFalsePositiveRate is not strictly between 0 and 1");
+        return falsePositiveRate;
+    }
+
+    private static GojulBloomFilter buildBloomFilter(final GojulCompactGroupedMap<?, ?> elementsPerKey,
+                                                     final double falsePositiveRate) {
+        GojulBloomFilter result = new GojulBloomFilter(elementsPerKey.groupCount(), falsePositiveRate);
+        for (int i = 0, len = elementsPerKey.groupCount(); i < len; i++) {
+            result.put(elementsPerKey.hashOf(elementsPerKey.groupKey(i)));
+        }
+        return result;
+    }
+
+    private static BuildSide chooseBuildSide(final Iterable<?> leftElements, final Iterable<?> rightElements) {
+        if (leftElements instanceof Collection && rightElements instanceof Collection
+                && ((Collection<?>) leftElements).size() < ((Collection<?>) rightElements).size()) {
+            return BuildSide.LEFT;
+        }
+        return BuildSide.RIGHT;
+    }
+
+    /**
+     * Return the side of the JOIN which is indexed per key.
+     *
+     * @return the side of the JOIN which is indexed per key.
+     */
+    public BuildSide getBuildSide() {
+        return buildSide;
+    }
+
+    /**
+     * Return {@code true} if a Bloom filter is checked before probing the build side, {@code false} otherwise.
+     *
+     * @return {@code true} if a Bloom filter is checked before probing the build side, {@code false} otherwise.
+     */
+    public boolean hasBloomFilter() {
+        return bloomFilter != null;
+    }
+
+    /**
+     * Return the number of probe elements which the Bloom filter has discarded so far, summed over all the
+     * JOIN operations performed with this instance. This is always 0 if there's no Bloom filter.
+     *
+     * @return the number of probe elements which the Bloom filter has discarded so far.
+     */
+    public long getBloomFilterEliminatedCount() {
+        return bloomFilterEliminatedCount.sum();
+    }
+
+    /**
+     * Return {@code false} if the Bloom filter proves that {@code key} does not match any key of the
+     * build side, in which case the build side does not need to be probed, {@code true} otherwise. Note
+     * that this method is package private because outer classes should not use it directly.
+     *
+     * @param key the key of a probe element.
+     * @return {@code false} if {@code key} does not match any key of the build side, {@code true} if it may.
+     */
+    boolean mightMatch(final K key) {
+        if (bloomFilter == null) {
+            return true;
+        }
+        GojulCompactGroupedMap<K, ?> elementsPerKey = buildSide == BuildSide.LEFT ? leftElementsPerKey
+                : rightElementsPerKey;
+        if (bloomFilter.mightContain(elementsPerKey.hashOf(key))) {
+            return true;
+        }
+        bloomFilterEliminatedCount.increment();
+        return false;
+    }
+
+    /**
+     * Return the function which generates the key of the left elements. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the function which generates the key of the left elements.
+     */
+    GojulJoinDataKey<K, S> getLeftKey() {
+        return leftKey;
+    }
+
+    /**
+     * Return the left elements, in their input order. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the left elements, in their input order.
+     */
+    Iterable<S> getLeftElements() {
+        return leftElements;
+    }
+
+    /**
+     * Return the function which generates the key of the right elements. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the function which generates the key of the right elements.
+     */
+    GojulJoinDataKey<K, T> getRightKey() {
+        return rightKey;
+    }
+
+    /**
+     * Return the right elements, in their input order. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the right elements, in their input order.
+     */
+    Iterable<T> getRightElements() {
+        return rightElements;
+    }
+
+    /**
+     * Return the left elements, stored per key, or {@code null} if the left side is not
+     * the build side. The returned map is not copied. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the left elements stored per key.
+     */
+    GojulCompactGroupedMap<K, S> getLeftElementsPerKey() {
+        return leftElementsPerKey;
+    }
+
+    /**
+     * Return the right elements, stored per key, or {@code null} if the right side is not
+     * the build side. The returned map is not copied. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the right elements stored per key.
+     */
+    GojulCompactGroupedMap<K, T> getRightElementsPerKey() {
+        return rightElementsPerKey;
+    }
+
+    /**
+     * Enum {@code BuildSide} identifies the side of the JOIN which is indexed per key.
+     */
+    public enum BuildSide {
+        /**
+         * The left elements are indexed, and the right elements are iterated.
+         */
+        LEFT,
+        /**
+         * The right elements are indexed, and the left elements are iterated.
+         */
+        RIGHT
+    }
+}
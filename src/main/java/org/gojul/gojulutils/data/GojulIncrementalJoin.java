@@ -0,0 +1,258 @@
+package org.gojul.gojulutils.data;
+
+import org.gojul.gojulutils.data.GojulJoinData.GojulJoinDataKey;
+
+import java.util.*;
+
+/**
+ * <p>
+ * Class {@code GojulIncrementalJoin} maintains the result of a JOIN operation incrementally. It
+ * keeps the elements of both sides of the JOIN indexed per key, and each time an element is
+ * inserted, updated or deleted on either side it returns a {@link GojulJoinDelta} which contains
+ * only the pairs added to and removed from the JOIN result. The work performed for each change is
+ * thus proportional to the number of elements sharing the key of the changed element, instead of
+ * to the size of the whole data set as when performing the JOIN again from scratch.
+ * </p>
+ * <p>The JOIN result follows the semantics of {@link GojulJoinDataService} : elements which have
+ * a {@code null} key are bound to the elements of the other side which have a {@code null} key,
+ * and for a LEFT JOIN each left element which does not match anything is bound to {@code null}.
+ * Elements are compared using their {@link Object#equals(Object)} method when deleted or updated.
+ * This class is not thread-safe.</p>
+ *
+ * @param <K> the type of the JOIN key.
+ * @param <S> the type of the left elements to join.
+ * @param <T> the type of the right elements to join.
+ */
+public class GojulIncrementalJoin<K, S, T> {
+
+    private final GojulJoinDataKey<K, S> leftKey;
+    private final GojulJoinDataKey<K, T> rightKey;
+    private final JoinType joinType;
+
+    private final Map<K, List<S>> leftElementsPerKey;
+    private final Map<K, List<T>> rightElementsPerKey;
+
+    /**
+     * Constructor. Both sides are initially empty.
+     *
+     * @param leftKey  the function in charge of generating the key for the left elements to join.
+     * @param rightKey the function in charge of generating the key for the right elements to join.
+     * @param joinType the type of JOIN to maintain.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     */
+    public GojulIncrementalJoin(final GojulJoinDataKey<K, S> leftKey, final GojulJoinDataKey<K, T> rightKey,
+                                final JoinType joinType) {
+        Objects.requireNonNull(leftKey, "leftKey is null");
+        Objects.requireNonNull(rightKey, "rightKey is null");
+        Objects.requireNonNull(joinType, "joinType is null");
+
+        this.leftKey = leftKey;
+        this.rightKey = rightKey;
+        this.joinType = joinType;
+        this.leftElementsPerKey = new HashMap<>();
+        this.rightElementsPerKey = new HashMap<>();
+    }
+
+    /**
+     * Return the type of JOIN maintained by this instance.
+     *
+     * @return the type of JOIN maintained by this instance.
+     */
+    public JoinType getJoinType() {
+        return joinType;
+    }
+
+    /**
+     * Insert {@code element} on the left side of the JOIN.
+     *
+     * @param element the element to insert.
+     * @return the change of the JOIN result.
+     */
+    public GojulJoinDelta<S, T> insertLeft(final S element) {
+        List<GojulPair<S, T>> added = new ArrayList<>();
+        insertLeft(element, added);
+        return GojulJoinDelta.of(added, Collections.emptyList());
+    }
+
+    /**
+     * Delete one occurrence of {@code element} from the left side of the JOIN. If the element is not
+     * there, the JOIN result does not change.
+     *
+     * @param element the element to delete.
+     * @return the change of the JOIN result.
+     */
+    public GojulJoinDelta<S, T> deleteLeft(final S element) {
+        List<GojulPair<S, T>> removed = new ArrayList<>();
+        deleteLeft(element, removed);
+        return GojulJoinDelta.of(Collections.emptyList(), removed);
+    }
+
+    /**
+     * Replace one occurrence of {@code oldElement} with {@code newElement} on the left side of the JOIN.
+     * If {@code oldElement} is not there, this is the same as inserting {@code newElement}.
+     *
+     * @param oldElement the element to replace.
+     * @param newElement the element which replaces {@code oldElement}.
+     * @return the change of the JOIN result.
+     */
+    public GojulJoinDelta<S, T> updateLeft(final S oldElement, final S newElement) {
+        List<GojulPair<S, T>> added = new ArrayList<>();
+        List<GojulPair<S, T>> removed = new ArrayList<>();
+        deleteLeft(oldElement, removed);
+        insertLeft(newElement, added);
+        return GojulJoinDelta.of(added, removed);
+    }
+
+    /**
+     * Insert {@code element} on the right side of the JOIN.
+     *
+     * @param element the element to insert.
+     * @return the change of the JOIN result.
+     */
+    public GojulJoinDelta<S, T> insertRight(final T element) {
+        List<GojulPair<S, T>> added = new ArrayList<>();
+        List<GojulPair<S, T>> removed = new ArrayList<>();
+        insertRight(element, added, removed);
+        return GojulJoinDelta.of(added, removed);
+    }
+
+    /**
+     * Delete one occurrence of {@code element} from the right side of the JOIN. If the element is not
+     * there, the JOIN result does not change.
+     *
+     * @param element the element to delete.
+     * @return the change of the JOIN result.
+     */
+    public GojulJoinDelta<S, T> deleteRight(final T element) {
+        List<GojulPair<S, T>> added = new ArrayList<>();
+        List<GojulPair<S, T>> removed = new ArrayList<>();
+        deleteRight(element, added, removed);
+        return GojulJoinDelta.of(added, removed);
+    }
+
+    /**
+     * Replace one occurrence of {@code oldElement} with {@code newElement} on the right side of the JOIN.
+     * If {@code oldElement} is not there, this is the same as inserting {@code newElement}.
+     *
+     * @param oldElement the element to replace.
+     * @param newElement the element which replaces {@code oldElement}.
+     * @return the change of the JOIN result.
+     */
+    public GojulJoinDelta<S, T> updateRight(final T oldElement, final T newElement) {
+        List<GojulPair<S, T>> added = new ArrayList<>();
+        List<GojulPair<S, T>> removed = new ArrayList<>();
+        deleteRight(oldElement, added, removed);
+        insertRight(newElement, added, removed);
+        return GojulJoinDelta.of(added, removed);
+    }
+
+    /**
+     * Return the whole current JOIN result. Unlike the other methods of this class, this
+     * one costs work proportional to the size of the result. The pairs are grouped per key,
+     * but the order of the keys is not specified.
+     *
+     * @return the whole current JOIN result.
+     */
+    public List<GojulPair<S, T>> getResult() {
+        List<GojulPair<S, T>> result = new ArrayList<>();
+        for (Map.Entry<K, List<S>> entry : leftElementsPerKey.entrySet()) {
+            List<T> targetElements = rightElementsPerKey.get(entry.getKey());
+            for (S element : entry.getValue()) {
+                addPairs(element, targetElements, result);
+            }
+        }
+        return result;
+    }
+
+    private void insertLeft(final S element, final List<GojulPair<S, T>> added) {
+        K key = leftKey.getKey(element);
+        leftElementsPerKey.computeIfAbsent(key, k -> new ArrayList<>()).add(element);
+        addPairs(element, rightElementsPerKey.get(key), added);
+    }
+
+    private void deleteLeft(final S element, final List<GojulPair<S, T>> removed) {
+        K key = leftKey.getKey(element);
+        if (removeElement(leftElementsPerKey, key, element)) {
+            addPairs(element, rightElementsPerKey.get(key), removed);
+        }
+    }
+
+    private void insertRight(final T element, final List<GojulPair<S, T>> added,
+                             final List<GojulPair<S, T>> removed) {
+        K key = rightKey.getKey(element);
+        List<T> targetElements = rightElementsPerKey.computeIfAbsent(key, k -> new ArrayList<>());
+        List<S> sourceElements = leftElementsPerKey.get(key);
+
+        if (sourceElements != null) {
+            // The left elements of the key did not match anything so far.
+            if (joinType == JoinType.LEFT && targetElements.isEmpty()) {
+                for (S sourceElement : sourceElements) {
+                    removed.add(new GojulPair<>(sourceElement, null));
+                }
+            }
+            for (S sourceElement : sourceElements) {
+                added.add(new GojulPair<>(sourceElement, element));
+            }
+        }
+
+        targetElements.add(element);
+    }
+
+    private void deleteRight(final T element, final List<GojulPair<S, T>> added,
+                             final List<GojulPair<S, T>> removed) {
+        K key = rightKey.getKey(element);
+        if (!removeElement(rightElementsPerKey, key, element)) {
+            return;
+        }
+
+        List<S> sourceElements = leftElementsPerKey.get(key);
+        if (sourceElements != null) {
+            for (S sourceElement : sourceElements) {
+                removed.add(new GojulPair<>(sourceElement, element));
+            }
+            // The left elements of the key do not match anything anymore.
+            if (joinType == JoinType.LEFT && !rightElementsPerKey.containsKey(key)) {
+                for (S sourceElement : sourceElements) {
+                    added.add(new GojulPair<>(sourceElement, null));
+                }
+            }
+        }
+    }
+
+    private void addPairs(final S element, final List<T> targetElements, final List<GojulPair<S, T>> result) {
+        if (targetElements == null) {
+            if (joinType == JoinType.LEFT) {
+                result.add(new GojulPair<>(element, null));
+            }
+        } else {
+            for (T targetElement : targetElements) {
+                result.add(new GojulPair<>(element, targetElement));
+            }
+        }
+    }
+
+    private static <K, V> boolean removeElement(final Map<K, List<V>> elementsPerKey, final K key, final V element) {
+        List<V> elements = elementsPerKey.get(key);
+        if (elements == null || !elements.remove(element)) {
+            return false;
+        }
+        if (elements.isEmpty()) {
+            elementsPerKey.remove(key);
+        }
+        return true;
+    }
+
+    /**
+     * Enum {@code JoinType} identifies the type of JOIN maintained incrementally.
+     */
+    public enum JoinType {
+        /**
+         * LEFT JOIN : each left element which does not match anything is bound to {@code null}.
+         */
+        LEFT,
+        /**
+         * INNER JOIN : only the left elements which match a right element appear in the result.
+         */
+        INNER
+    }
+}
@@ -0,0 +1,157 @@
+package org.gojul.gojulutils.data;
+
+import org.gojul.gojulutils.data.GojulJoinData.GojulJoinDataKey;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Class {@code GojulIntervalIndex} indexes elements which describe half-open intervals
+ * {@code [start, end)}, so that the elements whose interval contains a given point can be found
+ * in {@code O(log n + k log n)}, {@code k} being the number of elements found, instead of scanning
+ * all the elements. The intervals are sorted by start, and a segment tree stores the greatest end of
+ * each range of intervals, which makes it possible to skip the ranges in which all the intervals end
+ * before the point. A {@code null} start or end means that the interval is unbounded on that side.
+ * Once built, this class is thread-safe.
+ *
+ * @param <P> the type of the points and interval bounds.
+ * @param <T> the type of the indexed elements.
+ */
+final class GojulIntervalIndex<P, T> {
+
+    /**
+     * Marker of an unbounded end, as {@code null} there means that the node is empty.
+     */
+    private final static Object UNBOUNDED = new Object();
+
+    private final Comparator<? super P> comparator;
+    private final Object[] elements;
+    private final Object[] starts;
+    private final Object[] ends;
+    // Segment tree of the greatest end of each range of intervals. Node i has children 2i and 2i + 1,
+    // and the leaves start at index leafCount.
+    private final Object[] maxEnds;
+    private final int leafCount;
+
+    /**
+     * Constructor.
+     *
+     * @param startKey   the function in charge of generating the start of the interval of the elements.
+     * @param endKey     the function in charge of generating the end of the interval of the elements.
+     * @param data       the elements to index.
+     * @param comparator the comparator of the points.
+     */
+    @SuppressWarnings("unchecked")
+    GojulIntervalIndex(final GojulJoinDataKey<P, T> startKey, final GojulJoinDataKey<P, T> endKey,
+                       final Iterable<T> data, final Comparator<? super P> comparator) {
+        this.comparator = comparator;
+
+        List<Object[]> intervals = new ArrayList<>();
+        for (T element : data) {
+            P end = endKey.getKey(element);
+            intervals.add(new Object[]{element, startKey.getKey(element), end == null ? UNBOUNDED : end});
+        }
+        // The sort is stable, so that intervals which have the same start keep their input order.
+        intervals.sort((i1, i2) -> compareStarts((P) i1[1], (P) i2[1]));
+
+        int size = intervals.size();
+        this.elements = new Object[size];
+        this.starts = new Object[size];
+        this.ends = new Object[size];
+        for (int i = 0; i < size; i++) {
+            Object[] interval = intervals.get(i);
+            elements[i] = interval[0];
+            starts[i] = interval[1];
+            ends[i] = interval[2];
+        }
+
+        int leaves = 1;
+        while (leaves < size) {
+            leaves <<= 1;
+        }
+        this.leafCount = leaves;
+        this.maxEnds = new Object[2 * leaves];
+        System.arraycopy(ends, 0, maxEnds, leaves, size);
+        for (int i = leaves - 1; i > 0; i--) {
+            maxEnds[i] = maxEnd(maxEnds[2 * i], maxEnds[2 * i + 1]);
+        }
+    }
+
+    private int compareStarts(final P start1, final P start2) {
+        if (start1 == null || start2 == null) {
+            return start1 == null ? (start2 == null ? 0 : -1) : 1;
+        }
+        return comparator.compare(start1, start2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object maxEnd(final Object end1, final Object end2) {
+        if (end1 == null || end2 == UNBOUNDED) {
+            return end2;
+        }
+        if (end2 == null || end1 == UNBOUNDED) {
+            return end1;
+        }
+        return comparator.compare((P) end1, (P) end2) >= 0 ? end1 : end2;
+    }
+
+    /**
+     * Return {@code true} if {@code end} is strictly after {@code point}.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean endsAfter(final Object end, final P point) {
+        return end != null && (end == UNBOUNDED || comparator.compare((P) end, point) > 0);
+    }
+
+    /**
+     * Call {@code action} for each element whose interval contains {@code point}, in the order of the
+     * interval starts. A {@code null} point is not contained in any interval.
+     *
+     * @param point  the point.
+     * @param action the action to perform.
+     */
+    @SuppressWarnings("unchecked")
+    void forEachContaining(final P point, final Consumer<? super T> action) {
+        if (point == null || elements.length == 0) {
+            return;
+        }
+
+        // Number of intervals which start at or before the point.
+        int low = 0;
+        int high = starts.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compareStarts((P) starts[middle], point) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        collect(1, 0, leafCount, low, point, action);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void collect(final int node, final int nodeFrom, final int nodeTo, final int limit, final P point,
+                         final Consumer<? super T> action) {
+        if (nodeFrom >= limit || !endsAfter(maxEnds[node], point)) {
+            return;
+        }
+        if (node >= leafCount) {
+            action.accept((T) elements[nodeFrom]);
+            return;
+        }
+        int middle = (nodeFrom + nodeTo) >>> 1;
+        collect(2 * node, nodeFrom, middle, limit, point, action);
+        collect(2 * node + 1, middle, nodeTo, limit, point, action);
+    }
+
+    /**
+     * Return the number of indexed elements.
+     *
+     * @return the number of indexed elements.
+     */
+    int size() {
+        return elements.length;
+    }
+}
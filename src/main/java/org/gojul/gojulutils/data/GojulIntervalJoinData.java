@@ -0,0 +1,94 @@
+package org.gojul.gojulutils.data;
+
+import org.gojul.gojulutils.data.GojulJoinData.GojulJoinDataKey;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Class {@code GojulIntervalJoinData} contains the data required in order to perform a range based
+ * JOIN operation, also called a band JOIN, typically in order to match events with the validity
+ * periods they fall in. Each left element has a point, and each right element has a half-open interval
+ * {@code [start, end)} : a left element matches the right elements whose interval contains its point.
+ * A {@code null} start or end means that the interval is unbounded on that side, while a left element
+ * which has a {@code null} point does not match anything.
+ * </p>
+ * <p>The right elements are indexed in a sorted interval index when this object is created, so that
+ * the JOIN costs {@code O((n + m) log m)} plus the size of the result, {@code n} being the number of
+ * left elements and {@code m} the number of right elements, instead of the {@code O(n.m)} of nested
+ * loops. The left elements are kept as is and iterated in their input order when the JOIN is performed,
+ * so their {@link Iterable} must support being iterated several times if you intend to perform several
+ * JOIN operations with the same instance. Note that this object is immutable if and only if S and T are
+ * immutable classes, and if the left {@link Iterable} is not modified.</p>
+ *
+ * @param <P> the type of the points and interval bounds.
+ * @param <S> the type of the first object to join.
+ * @param <T> the type of the second object to join.
+ * @see org.gojul.gojulutils.data.GojulJoinDataService
+ */
+public class GojulIntervalJoinData<P, S, T> {
+
+    private final GojulJoinDataKey<P, S> leftPoint;
+    private final Iterable<S> leftElements;
+    private final GojulIntervalIndex<P, T> rightIndex;
+
+    /**
+     * Constructor.
+     *
+     * @param leftPoint     the function in charge of generating the point of the left elements.
+     * @param leftElements  the left elements to join.
+     * @param rightStart    the function in charge of generating the inclusive start of the interval of the
+     *                      right elements.
+     * @param rightEnd      the function in charge of generating the exclusive end of the interval of the
+     *                      right elements.
+     * @param rightElements the right elements to join.
+     * @param comparator    the comparator of the points and interval bounds, for example
+     *                      {@link Comparator#naturalOrder()}.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     */
+    public GojulIntervalJoinData(final GojulJoinDataKey<P, S> leftPoint, final Iterable<S> leftElements,
+                                 final GojulJoinDataKey<P, T> rightStart, final GojulJoinDataKey<P, T> rightEnd,
+                                 final Iterable<T> rightElements, final Comparator<? super P> comparator) {
+        Objects.requireNonNull(leftPoint, "leftPoint is null");
+        Objects.requireNonNull(leftElements, "leftElements is null");
+        Objects.requireNonNull(rightStart, "rightStart is null");
+        Objects.requireNonNull(rightEnd, "rightEnd is null");
+        Objects.requireNonNull(rightElements, "rightElements is null");
+        Objects.requireNonNull(comparator, "comparator is null");
+
+        this.leftPoint = leftPoint;
+        this.leftElements = leftElements;
+        this.rightIndex = new GojulIntervalIndex<>(rightStart, rightEnd, rightElements, comparator);
+    }
+
+    /**
+     * Return the function which generates the point of the left elements. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the function which generates the point of the left elements.
+     */
+    GojulJoinDataKey<P, S> getLeftPoint() {
+        return leftPoint;
+    }
+
+    /**
+     * Return the left elements, in their input order. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the left elements, in their input order.
+     */
+    Iterable<S> getLeftElements() {
+        return leftElements;
+    }
+
+    /**
+     * Return the index of the right elements. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the index of the right elements.
+     */
+    GojulIntervalIndex<P, T> getRightIndex() {
+        return rightIndex;
+    }
+}
@@ -0,0 +1,167 @@
+package org.gojul.gojulutils.data;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * <p>
+ * Interface {@code GojulJoinAggregator} describes how to fold the matches of a JOIN operation into a
+ * result, in the same way as a {@link Collector}, except that the matches are received as a left
+ * element and a right element, so that no {@link GojulPair} needs to be built for them. It is used by the
+ * JOIN-aggregate operations of {@link GojulJoinDataService}, which aggregate the matches of each key
+ * while probing instead of materializing the JOIN result first.
+ * </p>
+ * <p>As with a {@link Collector}, the containers of partial results must be independent from each other,
+ * and {@link #combine(Object, Object)} must be associative, as parallel aggregations combine partial
+ * results computed concurrently.</p>
+ *
+ * @param <S> the type of the left elements of the JOIN.
+ * @param <T> the type of the right elements of the JOIN.
+ * @param <A> the type of the mutable container of partial results.
+ * @param <R> the type of the result.
+ * @see org.gojul.gojulutils.data.GojulJoinDataService
+ */
+public interface GojulJoinAggregator<S, T, A, R> {
+
+    /**
+     * Create a new, empty, container of partial results.
+     *
+     * @return a new, empty, container of partial results.
+     */
+    A supply();
+
+    /**
+     * Fold the match of {@code left} and {@code right} into {@code container}.
+     *
+     * @param container the container of partial results.
+     * @param left      the left element.
+     * @param right     the right element, which is {@code null} for the unmatched left elements of a LEFT JOIN.
+     */
+    void accumulate(final A container, final S left, final T right);
+
+    /**
+     * Combine two containers of partial results, the second one following the first one.
+     *
+     * @param container1 the first container.
+     * @param container2 the second container.
+     * @return the combined container, which may be one of the parameters.
+     */
+    A combine(final A container1, final A container2);
+
+    /**
+     * Transform the container of partial results into the final result.
+     *
+     * @param container the container of partial results.
+     * @return the final result.
+     */
+    R finish(final A container);
+
+    /**
+     * Create an aggregator from its components.
+     *
+     * @param supplier    the function which creates a new, empty, container of partial results.
+     * @param accumulator the function which folds a match into a container.
+     * @param combiner    the function which combines two containers.
+     * @param finisher    the function which transforms a container into the final result.
+     * @param <S>         the type of the left elements of the JOIN.
+     * @param <T>         the type of the right elements of the JOIN.
+     * @param <A>         the type of the mutable container of partial results.
+     * @param <R>         the type of the result.
+     * @return the aggregator.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     */
+    static <S, T, A, R> GojulJoinAggregator<S, T, A, R> of(final Supplier<A> supplier,
+                                                           final GojulJoinAccumulator<A, ? super S, ? super T> accumulator,
+                                                           final BinaryOperator<A> combiner,
+                                                           final Function<A, R> finisher) {
+        Objects.requireNonNull(supplier, "supplier is null");
+        Objects.requireNonNull(accumulator, "accumulator is null");
+        Objects.requireNonNull(combiner, "combiner is null");
+        Objects.requireNonNull(finisher, "finisher is null");
+
+        return new GojulJoinAggregator<S, T, A, R>() {
+            @Override
+            public A supply() {
+                return supplier.get();
+            }
+
+            @Override
+            public void accumulate(final A container, final S left, final T right) {
+                accumulator.accumulate(container, left, right);
+            }
+
+            @Override
+            public A combine(final A container1, final A container2) {
+                return combiner.apply(container1, container2);
+            }
+
+            @Override
+            public R finish(final A container) {
+                return finisher.apply(container);
+            }
+        };
+    }
+
+    /**
+     * Create an aggregator which feeds the matches to {@code collector}. As collectors only accept
+     * a single element, a short-lived {@link GojulPair} is built for each match, which is not kept
+     * afterwards unless the collector itself keeps it.
+     *
+     * @param collector the collector.
+     * @param <S>       the type of the left elements of the JOIN.
+     * @param <T>       the type of the right elements of the JOIN.
+     * @param <A>       the type of the mutable container of partial results.
+     * @param <R>       the type of the result.
+     * @return the aggregator.
+     * @throws NullPointerException if {@code collector} is {@code null}.
+     */
+    static <S, T, A, R> GojulJoinAggregator<S, T, A, R> fromCollector(
+            final Collector<? super GojulPair<S, T>, A, R> collector) {
+        Objects.requireNonNull(collector, "collector is null");
+
+        BiConsumer<A, ? super GojulPair<S, T>> accumulator = collector.accumulator();
+        return of(collector.supplier(), (A container, S left, T right) ->
+                        accumulator.accept(container, new GojulPair<>(left, right)),
+                collector.combiner(), collector.finisher());
+    }
+
+    /**
+     * Return an aggregator which counts the matches.
+     *
+     * @param <S> the type of the left elements of the JOIN.
+     * @param <T> the type of the right elements of the JOIN.
+     * @return an aggregator which counts the matches.
+     */
+    static <S, T> GojulJoinAggregator<S, T, long[], Long> counting() {
+        return of(() -> new long[1], (long[] container, S left, T right) -> container[0]++,
+                (container1, container2) -> {
+                    container1[0] += container2[0];
+                    return container1;
+                }, container -> container[0]);
+    }
+
+    /**
+     * Interface {@code GojulJoinAccumulator} folds a match of a JOIN operation into a container of
+     * partial results.
+     *
+     * @param <A> the type of the mutable container of partial results.
+     * @param <S> the type of the left elements of the JOIN.
+     * @param <T> the type of the right elements of the JOIN.
+     */
+    @FunctionalInterface
+    interface GojulJoinAccumulator<A, S, T> {
+
+        /**
+         * Fold the match of {@code left} and {@code right} into {@code container}.
+         *
+         * @param container the container of partial results.
+         * @param left      the left element.
+         * @param right     the right element.
+         */
+        void accumulate(final A container, final S left, final T right);
+    }
+}
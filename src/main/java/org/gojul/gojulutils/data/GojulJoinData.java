@@ -1,6 +1,8 @@
 package org.gojul.gojulutils.data;
 
-import java.util.*;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * <p>
@@ -46,22 +48,63 @@ public class GojulJoinData<K, S, T> {
         this.rightElementsKey = buildElementsMapPerKey(rightKey, rightElements);
     }
 
-    private <V> Map<K, List<V>> buildElementsMapPerKey(final GojulJoinDataKey<K, V> keyGen, final Iterable<V> data) {
+    /**
+     * Constructor. The keys are compared using {@code equivalence} instead of their
+     * {@link Object#equals(Object)} method, so that for example a case insensitive JOIN does not
+     * require {@code leftKey} and {@code rightKey} to allocate normalized keys.
+     *
+     * @param leftKey       the function in charge of generating the key for the left elements to join.
+     * @param leftElements  the left elements to join.
+     * @param rightKey      the function in charge of generating the key for the right elements to join.
+     * @param rightElements the right elements to join.
+     * @param equivalence   the equivalence used to compare the keys.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     */
+    public GojulJoinData(final GojulJoinDataKey<K, S> leftKey, final Iterable<S> leftElements,
+                         final GojulJoinDataKey<K, T> rightKey, final Iterable<T> rightElements,
+                         final GojulKeyEquivalence<? super K> equivalence) {
+        Objects.requireNonNull(leftKey, "leftKey is null");
+        Objects.requireNonNull(leftElements, "leftElements is null");
+        Objects.requireNonNull(rightKey, "rightKey is null");
+        Objects.requireNonNull(rightElements, "rightElements is null");
+        Objects.requireNonNull(equivalence, "equivalence is null");
+
+        this.leftElementsPerKey = buildElementsMapPerKey(leftKey, leftElements, equivalence);
+        this.rightElementsKey = buildElementsMapPerKey(rightKey, rightElements, equivalence);
+    }
+
+    /**
+     * Group the elements of {@code data} per key. The resulting map is immutable and uses a compact
+     * layout, so that it can be handed out as is without any defensive copy.
+     *
+     * @param keyGen the function in charge of generating the key for the elements.
+     * @param data   the elements to group.
+     * @param <K>    the type of the key.
+     * @param <V>    the type of the elements.
+     * @return the elements grouped per key, in the order in which keys first appear.
+     */
+    static <K, V> GojulCompactGroupedMap<K, V> buildElementsMapPerKey(final GojulJoinDataKey<K, V> keyGen,
+                                                                    final Iterable<V> data) {
         // Here we cannot simply use a groupingBy as groupingBy does not accept null keys.
-        // Thus we use a LinkedHashMap to make it easier to write unit tests later on.
-        Map<K, List<V>> result = new LinkedHashMap<>();
-
-        for (V elem : data) {
-            K key = keyGen.getKey(elem);
-            List<V> valuesForKey = result.get(key);
-            if (valuesForKey == null) {
-                valuesForKey = new ArrayList<>();
-                result.put(key, valuesForKey);
-            }
-            valuesForKey.add(elem);
-        }
+        // The compact map keeps the keys order, which makes it easier to write unit tests later on.
+        return new GojulCompactGroupedMap<>(keyGen, data);
+    }
 
-        return result;
+    /**
+     * Group the elements of {@code data} per key, comparing the keys using {@code equivalence}.
+     *
+     * @param keyGen      the function in charge of generating the key for the elements.
+     * @param data        the elements to group.
+     * @param equivalence the equivalence used to compare the keys.
+     * @param <K>         the type of the key.
+     * @param <V>         the type of the elements.
+     * @return the elements grouped per key, in the order in which keys first appear.
+     * @see #buildElementsMapPerKey(GojulJoinDataKey, Iterable)
+     */
+    static <K, V> GojulCompactGroupedMap<K, V> buildElementsMapPerKey(final GojulJoinDataKey<K, V> keyGen,
+                                                                    final Iterable<V> data,
+                                                                    final GojulKeyEquivalence<? super K> equivalence) {
+        return new GojulCompactGroupedMap<>(keyGen, data, equivalence);
     }
 
     /**
@@ -71,7 +114,7 @@ public class GojulJoinData<K, S, T> {
      * @return the left elements stored per key.
      */
     Map<K, List<S>> getLeftElementsPerKey() {
-        return deepUnmodifiableMap(leftElementsPerKey);
+        return leftElementsPerKey;
     }
 
     /**
@@ -81,17 +124,7 @@ public class GojulJoinData<K, S, T> {
      * @return the right elements stored per key.
      */
     Map<K, List<T>> getRightElementsPerKey() {
-        return deepUnmodifiableMap(rightElementsKey);
-    }
-
-    private <V> Map<K, List<V>> deepUnmodifiableMap(final Map<K, List<V>> map) {
-        Map<K, List<V>> result = new LinkedHashMap<>();
-
-        for (Map.Entry<K, List<V>> entry : map.entrySet()) {
-            result.put(entry.getKey(), Collections.unmodifiableList(entry.getValue()));
-        }
-
-        return Collections.unmodifiableMap(result);
+        return rightElementsKey;
     }
 
     /**
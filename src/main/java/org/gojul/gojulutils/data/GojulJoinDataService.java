@@ -1,10 +1,16 @@
 package org.gojul.gojulutils.data;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * <p>
@@ -21,12 +27,19 @@ import java.util.stream.Collectors;
  * are even more. However these algorithms are not suited for very
  * huge amounts of data, because of memory constraints. It is safe
  * to consider they're fine for joinings for files which have a size
- * up to roughly 100k lines.</p>
+ * up to roughly 100k lines. For bigger inputs the streaming variants
+ * of the JOIN operations should be preferred, as they do not materialize
+ * the JOIN result.</p>
  *
  * @author julien
  */
 public class GojulJoinDataService {
 
+    /**
+     * Approximate number of matches aggregated by each task of the parallel JOIN-aggregate operations.
+     */
+    private final static int PARALLEL_AGGREGATION_UNIT = 4096;
+
     /**
      * Constructor.
      */
@@ -49,43 +62,484 @@ public class GojulJoinDataService {
      * @throws NullPointerException if {@code joinData} is {@code null}.
      */
     public <K, S, T> List<GojulPair<S, T>> leftJoin(final GojulJoinData<K, S, T> joinData) {
+        return leftJoinStream(joinData).collect(Collectors.toList());
+    }
+
+    /**
+     * Perform a LEFT JOIN using the data contained in {@code joinData}, and return the result as a lazy
+     * {@link Stream}. The pairs are built as the stream is consumed, which means that short-circuiting
+     * operations like {@link Stream#limit(long)} or {@link Stream#findFirst()} do not require the whole
+     * JOIN result to be computed. The pairs are returned in the same order as with
+     * {@link #leftJoin(GojulJoinData)}.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @return a stream of pair of elements. Each of them binds an element of the left to either an
+     * element of the right, or {@code null} as it is a left join.
+     * @throws NullPointerException if {@code joinData} is {@code null}.
+     */
+    public <K, S, T> Stream<GojulPair<S, T>> leftJoinStream(final GojulJoinData<K, S, T> joinData) {
+        Objects.requireNonNull(joinData, "joinData is null");
+
+        return StreamSupport.stream(new GojulJoinSpliterator<>(joinData.getLeftElementsPerKey(),
+                joinData.getRightElementsPerKey(), false), false);
+    }
+
+    /**
+     * Perform an INNER JOIN using the data contained in {@code joinData}. Note that elements
+     * on the left which have a {@code null} key are attached in the resulting pair list to
+     * the elements which have a {@code null} key on the right, and that the elements of the
+     * right which are {@code null} themselves never match anything.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @return a list of pair of elements. Each of them binds an element of the left to an
+     * element of the right.
+     * @throws NullPointerException if {@code joinData} is {@code null}.
+     */
+    public <K, S, T> List<GojulPair<S, T>> innerJoin(final GojulJoinData<K, S, T> joinData) {
+        return innerJoinStream(joinData).collect(Collectors.toList());
+    }
+
+    /**
+     * Perform an INNER JOIN using the data contained in {@code joinData}, and return the result as a lazy
+     * {@link Stream}. The pairs are built as the stream is consumed, and left elements which do not match
+     * any right element are skipped without creating any pair for them. The pairs are returned in the same
+     * order as with {@link #innerJoin(GojulJoinData)}.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @return a stream of pair of elements. Each of them binds an element of the left to an
+     * element of the right.
+     * @throws NullPointerException if {@code joinData} is {@code null}.
+     */
+    public <K, S, T> Stream<GojulPair<S, T>> innerJoinStream(final GojulJoinData<K, S, T> joinData) {
+        Objects.requireNonNull(joinData, "joinData is null");
+
+        return StreamSupport.stream(new GojulJoinSpliterator<>(joinData.getLeftElementsPerKey(),
+                joinData.getRightElementsPerKey(), true), false);
+    }
+
+    /**
+     * Perform a LEFT JOIN using the data contained in {@code joinData}, and push each match to
+     * {@code consumer} instead of building a {@link GojulPair} for it. The matches are pushed in the
+     * same order as the pairs of {@link #leftJoin(GojulJoinData)}.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param consumer the consumer which receives each element of the left, along with either an
+     *                 element of the right or {@code null} as it is a left join.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     */
+    public <K, S, T> void leftJoin(final GojulJoinData<K, S, T> joinData, final BiConsumer<? super S, ? super T> consumer) {
+        Objects.requireNonNull(joinData, "joinData is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+
+        joinGroups(joinData.getLeftElementsPerKey(), joinData.getRightElementsPerKey(), false, consumer);
+    }
+
+    /**
+     * Perform an INNER JOIN using the data contained in {@code joinData}, and push each match to
+     * {@code consumer} instead of building a {@link GojulPair} for it. The matches are pushed in the
+     * same order as the pairs of {@link #innerJoin(GojulJoinData)}.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param consumer the consumer which receives each element of the left along with the element
+     *                 of the right it matches.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     */
+    public <K, S, T> void innerJoin(final GojulJoinData<K, S, T> joinData, final BiConsumer<? super S, ? super T> consumer) {
+        Objects.requireNonNull(joinData, "joinData is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+
+        joinGroups(joinData.getLeftElementsPerKey(), joinData.getRightElementsPerKey(), true, consumer);
+    }
+
+    /**
+     * Perform a LEFT JOIN using the data contained in {@code joinData}, and return the result as
+     * a {@link GojulPairList}, which does not create any {@link GojulPair} instance. The pairs are
+     * in the same order as with {@link #leftJoin(GojulJoinData)}.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @return a list of pairs. Each of them binds an element of the left to either an
+     * element of the right, or {@code null} as it is a left join.
+     * @throws NullPointerException if {@code joinData} is {@code null}.
+     */
+    public <K, S, T> GojulPairList<S, T> leftJoinPairList(final GojulJoinData<K, S, T> joinData) {
+        GojulPairList<S, T> result = new GojulPairList<>();
+        leftJoin(joinData, result);
+        return result;
+    }
+
+    /**
+     * Perform an INNER JOIN using the data contained in {@code joinData}, and return the result as
+     * a {@link GojulPairList}, which does not create any {@link GojulPair} instance. The pairs are
+     * in the same order as with {@link #innerJoin(GojulJoinData)}.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @return a list of pairs. Each of them binds an element of the left to an
+     * element of the right.
+     * @throws NullPointerException if {@code joinData} is {@code null}.
+     */
+    public <K, S, T> GojulPairList<S, T> innerJoinPairList(final GojulJoinData<K, S, T> joinData) {
+        GojulPairList<S, T> result = new GojulPairList<>();
+        innerJoin(joinData, result);
+        return result;
+    }
+
+    /**
+     * Perform a LEFT JOIN using the data contained in {@code joinData}, and map each match directly
+     * using {@code mapper}, without building any intermediate {@link GojulPair}.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param mapper   the function which maps each element of the left, along with either an
+     *                 element of the right or {@code null} as it is a left join, to a result.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @param <R>      the type of the results.
+     * @return the list of the mapped matches, in the same order as the pairs of {@link #leftJoin(GojulJoinData)}.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     */
+    public <K, S, T, R> List<R> leftJoinMap(final GojulJoinData<K, S, T> joinData,
+                                            final BiFunction<? super S, ? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+
+        List<R> result = new ArrayList<>();
+        leftJoin(joinData, (s, t) -> result.add(mapper.apply(s, t)));
+        return result;
+    }
+
+    /**
+     * Perform an INNER JOIN using the data contained in {@code joinData}, and map each match directly
+     * using {@code mapper}, without building any intermediate {@link GojulPair}.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param mapper   the function which maps each element of the left, along with the element
+     *                 of the right it matches, to a result.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @param <R>      the type of the results.
+     * @return the list of the mapped matches, in the same order as the pairs of {@link #innerJoin(GojulJoinData)}.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     */
+    public <K, S, T, R> List<R> innerJoinMap(final GojulJoinData<K, S, T> joinData,
+                                             final BiFunction<? super S, ? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+
+        List<R> result = new ArrayList<>();
+        innerJoin(joinData, (s, t) -> result.add(mapper.apply(s, t)));
+        return result;
+    }
+
+    /**
+     * Perform a RIGHT JOIN using the data contained in {@code joinData}. Note that elements
+     * on the right which have a {@code null} key are attached in the resulting pair list to
+     * the elements which have a {@code null} key on the left. The pairs follow the order of the
+     * right key groups, which is the order in which their keys first appear in the right elements.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @return a list of pair of elements. Each of them binds either an element of the left, or
+     * {@code null} as it is a right join, to an element of the right.
+     * @throws NullPointerException if {@code joinData} is {@code null}.
+     */
+    public <K, S, T> List<GojulPair<S, T>> rightJoin(final GojulJoinData<K, S, T> joinData) {
+        Objects.requireNonNull(joinData, "joinData is null");
+
+        List<GojulPair<S, T>> result = new ArrayList<>();
+        joinGroups(joinData.getRightElementsPerKey(), joinData.getLeftElementsPerKey(), false,
+                (T t, S s) -> result.add(new GojulPair<>(s, t)));
+        return result;
+    }
+
+    /**
+     * Perform a FULL OUTER JOIN using the data contained in {@code joinData}. The result starts
+     * with the pairs of {@link #leftJoin(GojulJoinData)}, followed by the right elements which do
+     * not match any left element, bound to {@code null}.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @return a list of pair of elements. Each of them binds an element of the left to an element of
+     * the right, or one of them to {@code null} if it does not match anything on the other side.
+     * @throws NullPointerException if {@code joinData} is {@code null}.
+     */
+    public <K, S, T> List<GojulPair<S, T>> fullOuterJoin(final GojulJoinData<K, S, T> joinData) {
         Objects.requireNonNull(joinData, "joinData is null");
 
         Map<K, List<S>> leftElements = joinData.getLeftElementsPerKey();
+        List<GojulPair<S, T>> result = new ArrayList<>();
+        joinGroups(leftElements, joinData.getRightElementsPerKey(), false,
+                (S s, T t) -> result.add(new GojulPair<>(s, t)));
+
+        for (Map.Entry<K, List<T>> entry : joinData.getRightElementsPerKey().entrySet()) {
+            if (!leftElements.containsKey(entry.getKey())) {
+                for (T targetElement : entry.getValue()) {
+                    result.add(new GojulPair<>((S) null, targetElement));
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Perform a SEMI JOIN using the data contained in {@code joinData}, that is to say return the
+     * left elements which match at least one right element. Each left element is returned once,
+     * no matter how many right elements it matches, and the matching only checks whether the key
+     * exists on the right, so that no pair is ever built.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @return the left elements which match at least one right element, following the order of
+     * the left key groups.
+     * @throws NullPointerException if {@code joinData} is {@code null}.
+     */
+    public <K, S, T> List<S> semiJoin(final GojulJoinData<K, S, T> joinData) {
+        Objects.requireNonNull(joinData, "joinData is null");
+
+        return filterLeftGroups(joinData, true);
+    }
+
+    /**
+     * Perform an ANTI JOIN using the data contained in {@code joinData}, that is to say return the
+     * left elements which do not match any right element. The matching only checks whether the key
+     * exists on the right, so that no pair is ever built.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @return the left elements which do not match any right element, following the order of
+     * the left key groups.
+     * @throws NullPointerException if {@code joinData} is {@code null}.
+     */
+    public <K, S, T> List<S> antiJoin(final GojulJoinData<K, S, T> joinData) {
+        Objects.requireNonNull(joinData, "joinData is null");
+
+        return filterLeftGroups(joinData, false);
+    }
+
+    private <K, S, T> List<S> filterLeftGroups(final GojulJoinData<K, S, T> joinData, final boolean matching) {
         Map<K, List<T>> rightElements = joinData.getRightElementsPerKey();
+        List<S> result = new ArrayList<>();
 
-        List<GojulPair<S, T>> result = new ArrayList<>();
+        for (Map.Entry<K, List<S>> entry : joinData.getLeftElementsPerKey().entrySet()) {
+            if (rightElements.containsKey(entry.getKey()) == matching) {
+                result.addAll(entry.getValue());
+            }
+        }
 
+        return result;
+    }
+
+    private <K, S, T> void joinGroups(final Map<K, List<S>> leftElements, final Map<K, List<T>> rightElements,
+                                      final boolean innerJoin, final BiConsumer<? super S, ? super T> consumer) {
         for (Map.Entry<K, List<S>> entry : leftElements.entrySet()) {
-            result.addAll(joinForKey(entry.getKey(), entry.getValue(), rightElements));
+            List<T> targetElements = rightElements.get(entry.getKey());
+
+            if (targetElements == null) {
+                if (!innerJoin) {
+                    for (S element : entry.getValue()) {
+                        consumer.accept(element, null);
+                    }
+                }
+            } else {
+                for (S element : entry.getValue()) {
+                    for (T targetElement : targetElements) {
+                        if (targetElement != null || !innerJoin) {
+                            consumer.accept(element, targetElement);
+                        }
+                    }
+                }
+            }
         }
+    }
 
-        return result;
+    /**
+     * Perform a LEFT JOIN using the data contained in {@code joinData}, and aggregate the matches of
+     * each key using {@code aggregator} while probing, without ever materializing the JOIN result.
+     * The left elements which do not match anything are aggregated along with a {@code null} right
+     * element, as they would appear in the result of {@link #leftJoin(GojulJoinData)}. Within each key,
+     * the matches are aggregated in the same order as the pairs of {@link #leftJoin(GojulJoinData)}.
+     * When {@code parallel} is {@code true}, the keys, and the big keys themselves, are aggregated
+     * concurrently on the common fork-join pool, and the partial results of each key are combined
+     * in order.
+     *
+     * @param joinData   the object which contains the elements used to perform the JOIN operation.
+     * @param aggregator the aggregator of the matches.
+     * @param parallel   {@code true} to aggregate in parallel, {@code false} otherwise.
+     * @param <K>        the JOIN key type.
+     * @param <S>        the type of the left elements to join.
+     * @param <T>        the type of the right elements to join.
+     * @param <A>        the type of the containers of partial results of the aggregator.
+     * @param <R>        the type of the aggregation result.
+     * @return the aggregation result of each left key, following the order of the left key groups.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     */
+    public <K, S, T, A, R> Map<K, R> leftJoinAggregate(final GojulJoinData<K, S, T> joinData,
+                                                       final GojulJoinAggregator<? super S, ? super T, A, R> aggregator,
+                                                       final boolean parallel) {
+        Objects.requireNonNull(joinData, "joinData is null");
+        Objects.requireNonNull(aggregator, "aggregator is null");
+
+        return aggregateGroups(joinData, false, aggregator, parallel);
+    }
+
+    /**
+     * Perform an INNER JOIN using the data contained in {@code joinData}, and aggregate the matches of
+     * each key using {@code aggregator} while probing, without ever materializing the JOIN result. Only
+     * the keys which have matches appear in the result. Within each key, the matches are aggregated in
+     * the same order as the pairs of {@link #innerJoin(GojulJoinData)}. When {@code parallel} is
+     * {@code true}, the keys, and the big keys themselves, are aggregated concurrently on the common
+     * fork-join pool, and the partial results of each key are combined in order.
+     *
+     * @param joinData   the object which contains the elements used to perform the JOIN operation.
+     * @param aggregator the aggregator of the matches.
+     * @param parallel   {@code true} to aggregate in parallel, {@code false} otherwise.
+     * @param <K>        the JOIN key type.
+     * @param <S>        the type of the left elements to join.
+     * @param <T>        the type of the right elements to join.
+     * @param <A>        the type of the containers of partial results of the aggregator.
+     * @param <R>        the type of the aggregation result.
+     * @return the aggregation result of each matching key, following the order of the left key groups.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     */
+    public <K, S, T, A, R> Map<K, R> innerJoinAggregate(final GojulJoinData<K, S, T> joinData,
+                                                        final GojulJoinAggregator<? super S, ? super T, A, R> aggregator,
+                                                        final boolean parallel) {
+        Objects.requireNonNull(joinData, "joinData is null");
+        Objects.requireNonNull(aggregator, "aggregator is null");
+
+        return aggregateGroups(joinData, true, aggregator, parallel);
     }
 
-    private <K, S, T> List<GojulPair<S, T>> joinForKey(final K key, final Iterable<S> elements,
-                                                       final Map<K, List<T>> elementsToJoin) {
-        List<T> targetElements = elementsToJoin.get(key);
+    private <K, S, T, A, R> Map<K, R> aggregateGroups(final GojulJoinData<K, S, T> joinData, final boolean innerJoin,
+                                                      final GojulJoinAggregator<? super S, ? super T, A, R> aggregator,
+                                                      final boolean parallel) {
+        Map<K, List<T>> rightElements = joinData.getRightElementsPerKey();
+        List<K> keys = new ArrayList<>();
+        List<List<S>> sourceGroups = new ArrayList<>();
+        List<List<T>> targetGroups = new ArrayList<>();
+        for (Map.Entry<K, List<S>> entry : joinData.getLeftElementsPerKey().entrySet()) {
+            List<T> targetElements = rightElements.get(entry.getKey());
+            if (targetElements != null || !innerJoin) {
+                keys.add(entry.getKey());
+                sourceGroups.add(entry.getValue());
+                targetGroups.add(targetElements);
+            }
+        }
 
-        List<GojulPair<S, T>> result = new ArrayList<>();
+        Map<K, R> result = new LinkedHashMap<>();
+        if (!parallel) {
+            for (int i = 0; i < keys.size(); i++) {
+                A container = aggregator.supply();
+                aggregateRange(aggregator, container, sourceGroups.get(i), 0, sourceGroups.get(i).size(),
+                        targetGroups.get(i), innerJoin);
+                result.put(keys.get(i), aggregator.finish(container));
+            }
+            return result;
+        }
+
+        // Split the groups in units of roughly PARALLEL_AGGREGATION_UNIT matches, so that a single
+        // big key does not end up being aggregated by a single thread.
+        List<int[]> units = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            int sourceCount = sourceGroups.get(i).size();
+            int matchesPerSource = targetGroups.get(i) == null ? 1 : targetGroups.get(i).size();
+            int sourcesPerUnit = Math.max(1, PARALLEL_AGGREGATION_UNIT / matchesPerSource);
+            for (int from = 0; from < sourceCount; from += sourcesPerUnit) {
+                units.add(new int[]{i, from, Math.min(sourceCount, from + sourcesPerUnit)});
+            }
+        }
+
+        List<A> partialResults = units.parallelStream().map(unit -> {
+            A container = aggregator.supply();
+            aggregateRange(aggregator, container, sourceGroups.get(unit[0]), unit[1], unit[2],
+                    targetGroups.get(unit[0]), innerJoin);
+            return container;
+        }).collect(Collectors.toList());
+
+        int unitIndex = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            A container = partialResults.get(unitIndex++);
+            while (unitIndex < units.size() && units.get(unitIndex)[0] == i) {
+                container = aggregator.combine(container, partialResults.get(unitIndex++));
+            }
+            result.put(keys.get(i), aggregator.finish(container));
+        }
+        return result;
+    }
 
-        for (S element : elements) {
+    private <S, T, A> void aggregateRange(final GojulJoinAggregator<? super S, ? super T, A, ?> aggregator,
+                                          final A container, final List<S> sourceElements, final int from,
+                                          final int to, final List<T> targetElements, final boolean innerJoin) {
+        for (int i = from; i < to; i++) {
+            S element = sourceElements.get(i);
             if (targetElements == null) {
-                result.add(new GojulPair<>(element, (T) null));
+                aggregator.accumulate(container, element, null);
             } else {
                 for (T targetElement : targetElements) {
-                    result.add(new GojulPair<>(element, targetElement));
+                    if (targetElement != null || !innerJoin) {
+                        aggregator.accumulate(container, element, targetElement);
+                    }
                 }
             }
         }
+    }
+
+    /**
+     * Perform a LEFT JOIN using the data contained in {@code joinData}. Note that elements
+     * on the left which have a {@code null} key are attached in the resulting pair list to
+     * the elements which have a {@code null} key on the right. If the right side is the build
+     * side, the pairs follow the input order of the left elements. Otherwise they follow the input
+     * order of the right elements, and the left elements which do not match anything come last.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @return a list of pair of elements. Each of them binds an element of the left to either an
+     * element of the right, or {@code null} as it is a left join.
+     * @throws NullPointerException if {@code joinData} is {@code null}.
+     */
+    public <K, S, T> List<GojulPair<S, T>> leftHashJoin(final GojulHashJoinData<K, S, T> joinData) {
+        Objects.requireNonNull(joinData, "joinData is null");
 
+        List<GojulPair<S, T>> result = new ArrayList<>();
+        hashJoin(joinData, false, (s, t) -> result.add(new GojulPair<>(s, t)));
         return result;
     }
 
     /**
      * Perform an INNER JOIN using the data contained in {@code joinData}. Note that elements
      * on the left which have a {@code null} key are attached in the resulting pair list to
-     * the elements which have a {@code null} key on the right.
+     * the elements which have a {@code null} key on the right. The pairs follow the input
+     * order of the side which is not the build side.
      *
      * @param joinData the object which contains the elements used to perform the JOIN operation.
      * @param <K>      the JOIN key type.
@@ -95,12 +549,1402 @@ public class GojulJoinDataService {
      * element of the right.
      * @throws NullPointerException if {@code joinData} is {@code null}.
      */
-    public <K, S, T> List<GojulPair<S, T>> innerJoin(final GojulJoinData<K, S, T> joinData) {
+    public <K, S, T> List<GojulPair<S, T>> innerHashJoin(final GojulHashJoinData<K, S, T> joinData) {
         Objects.requireNonNull(joinData, "joinData is null");
 
-        List<GojulPair<S, T>> result = leftJoin(joinData).stream()
-                .filter(e -> e.getSecond() != null).collect(Collectors.toList());
-
+        List<GojulPair<S, T>> result = new ArrayList<>();
+        hashJoin(joinData, true, (s, t) -> result.add(new GojulPair<>(s, t)));
         return result;
     }
+
+    /**
+     * Perform a LEFT JOIN using the data contained in {@code joinData}, and push each match to
+     * {@code consumer} instead of building a {@link GojulPair} for it. The matches are pushed in the
+     * same order as the pairs of {@link #leftHashJoin(GojulHashJoinData)}.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param consumer the consumer which receives each element of the left, along with either an
+     *                 element of the right or {@code null} as it is a left join.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     */
+    public <K, S, T> void leftHashJoin(final GojulHashJoinData<K, S, T> joinData,
+                                   final BiConsumer<? super S, ? super T> consumer) {
+        Objects.requireNonNull(joinData, "joinData is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+
+        hashJoin(joinData, false, consumer);
+    }
+
+    /**
+     * Perform an INNER JOIN using the data contained in {@code joinData}, and push each match to
+     * {@code consumer} instead of building a {@link GojulPair} for it. The matches are pushed in the
+     * same order as the pairs of {@link #innerHashJoin(GojulHashJoinData)}.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param consumer the consumer which receives each element of the left along with the element
+     *                 of the right it matches.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     */
+    public <K, S, T> void innerHashJoin(final GojulHashJoinData<K, S, T> joinData,
+                                    final BiConsumer<? super S, ? super T> consumer) {
+        Objects.requireNonNull(joinData, "joinData is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+
+        hashJoin(joinData, true, consumer);
+    }
+
+    private <K, S, T> void hashJoin(final GojulHashJoinData<K, S, T> joinData, final boolean innerJoin,
+                                    final BiConsumer<? super S, ? super T> consumer) {
+        if (joinData.getBuildSide() == GojulHashJoinData.BuildSide.RIGHT) {
+            Map<K, List<T>> rightElements = joinData.getRightElementsPerKey();
+            GojulJoinData.GojulJoinDataKey<K, S> leftKey = joinData.getLeftKey();
+
+            for (S element : joinData.getLeftElements()) {
+                K key = leftKey.getKey(element);
+                List<T> targetElements = joinData.mightMatch(key) ? rightElements.get(key) : null;
+                if (targetElements != null) {
+                    for (T targetElement : targetElements) {
+                        if (targetElement != null || !innerJoin) {
+                            consumer.accept(element, targetElement);
+                        }
+                    }
+                } else if (!innerJoin) {
+                    consumer.accept(element, null);
+                }
+            }
+        } else {
+            GojulCompactGroupedMap<K, S> leftElements = joinData.getLeftElementsPerKey();
+            GojulJoinData.GojulJoinDataKey<K, T> rightKey = joinData.getRightKey();
+            BitSet matchedGroups = new BitSet(leftElements.groupCount());
+
+            for (T targetElement : joinData.getRightElements()) {
+                K key = rightKey.getKey(targetElement);
+                int group = joinData.mightMatch(key) ? leftElements.groupIndex(key) : -1;
+                if (group >= 0) {
+                    matchedGroups.set(group);
+                    if (targetElement != null || !innerJoin) {
+                        for (S element : leftElements.group(group)) {
+                            consumer.accept(element, targetElement);
+                        }
+                    }
+                }
+            }
+
+            if (!innerJoin) {
+                for (int group = matchedGroups.nextClearBit(0); group < leftElements.groupCount();
+                     group = matchedGroups.nextClearBit(group + 1)) {
+                    for (S element : leftElements.group(group)) {
+                        consumer.accept(element, null);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Perform a LEFT JOIN using the data contained in {@code joinData}. The JOIN is performed
+     * partition per partition, in parallel, on the pool of {@code joinData}. The result is strictly
+     * identical, order included, to the one of {@link #leftJoin(GojulJoinData)} with the same inputs.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @return a list of pair of elements. Each of them binds an element of the left to either an
+     * element of the right, or {@code null} as it is a left join.
+     * @throws NullPointerException if {@code joinData} is {@code null}.
+     */
+    public <K, S, T> List<GojulPair<S, T>> leftPartitionedJoin(final GojulPartitionedJoinData<K, S, T> joinData) {
+        Objects.requireNonNull(joinData, "joinData is null");
+
+        return partitionedJoin(joinData, false);
+    }
+
+    /**
+     * Perform an INNER JOIN using the data contained in {@code joinData}. The JOIN is performed
+     * partition per partition, in parallel, on the pool of {@code joinData}. The result is strictly
+     * identical, order included, to the one of {@link #innerJoin(GojulJoinData)} with the same inputs.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @return a list of pair of elements. Each of them binds an element of the left to an
+     * element of the right.
+     * @throws NullPointerException if {@code joinData} is {@code null}.
+     */
+    public <K, S, T> List<GojulPair<S, T>> innerPartitionedJoin(final GojulPartitionedJoinData<K, S, T> joinData) {
+        Objects.requireNonNull(joinData, "joinData is null");
+
+        return partitionedJoin(joinData, true);
+    }
+
+    private <K, S, T> List<GojulPair<S, T>> partitionedJoin(final GojulPartitionedJoinData<K, S, T> joinData,
+                                                            final boolean innerJoin) {
+        List<GojulPartitionedJoinData.Partition<K, S, T>> partitions = joinData.getPartitions();
+
+        List<PartitionJoinResult<S, T>> resultsPerPartition = joinData.getPool().invoke(
+                new RecursiveTask<List<PartitionJoinResult<S, T>>>() {
+                    @Override
+                    protected List<PartitionJoinResult<S, T>> compute() {
+                        List<PartitionJoinTask<K, S, T>> tasks = new ArrayList<>(partitions.size());
+                        for (GojulPartitionedJoinData.Partition<K, S, T> partition : partitions) {
+                            tasks.add(new PartitionJoinTask<>(partition, innerJoin));
+                        }
+                        invokeAll(tasks);
+
+                        List<PartitionJoinResult<S, T>> result = new ArrayList<>(tasks.size());
+                        for (PartitionJoinTask<K, S, T> task : tasks) {
+                            result.add(task.join());
+                        }
+                        return result;
+                    }
+                });
+
+        // The key groups are merged back following the position of their first
+        // element in the left input, which is the order of the sequential JOIN.
+        long size = 0L;
+        PriorityQueue<int[]> groups = new PriorityQueue<>(Math.max(1, partitions.size()),
+                Comparator.comparingInt(e -> partitions.get(e[0]).getLeftFirstIndexes()[e[1]]));
+        for (int i = 0; i < partitions.size(); i++) {
+            if (partitions.get(i).getLeftFirstIndexes().length > 0) {
+                groups.add(new int[]{i, 0});
+            }
+            size += resultsPerPartition.get(i).pairs.size();
+        }
+
+        List<GojulPair<S, T>> result = new ArrayList<>((int) Math.min(size, Integer.MAX_VALUE - 8));
+        while (!groups.isEmpty()) {
+            int[] group = groups.poll();
+            PartitionJoinResult<S, T> partitionResult = resultsPerPartition.get(group[0]);
+            int from = group[1] == 0 ? 0 : partitionResult.groupEnds[group[1] - 1];
+            result.addAll(partitionResult.pairs.subList(from, partitionResult.groupEnds[group[1]]));
+            if (++group[1] < partitions.get(group[0]).getLeftFirstIndexes().length) {
+                groups.add(group);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Class {@code PartitionJoinResult} is the JOIN result of a single partition. The pairs of all the
+     * left key groups of the partition are stored in a single list, one group after the other.
+     *
+     * @param <S> the type of the left elements to join.
+     * @param <T> the type of the right elements to join.
+     */
+    private final static class PartitionJoinResult<S, T> {
+
+        private final List<GojulPair<S, T>> pairs;
+        // The index following the last pair of each left key group in pairs.
+        private final int[] groupEnds;
+
+        private PartitionJoinResult(final List<GojulPair<S, T>> pairs, final int[] groupEnds) {
+            this.pairs = pairs;
+            this.groupEnds = groupEnds;
+        }
+    }
+
+    /**
+     * Class {@code PartitionJoinTask} performs the JOIN for a single partition.
+     *
+     * @param <K> the JOIN key type.
+     * @param <S> the type of the left elements to join.
+     * @param <T> the type of the right elements to join.
+     */
+    private final static class PartitionJoinTask<K, S, T> extends RecursiveTask<PartitionJoinResult<S, T>> {
+
+        private static final long serialVersionUID = 915533473134040693L;
+
+        private final GojulPartitionedJoinData.Partition<K, S, T> partition;
+        private final boolean innerJoin;
+
+        private PartitionJoinTask(final GojulPartitionedJoinData.Partition<K, S, T> partition, final boolean innerJoin) {
+            this.partition = partition;
+            this.innerJoin = innerJoin;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected PartitionJoinResult<S, T> compute() {
+            GojulCompactGroupedMap<K, T> rightElements = partition.getRightElementsPerKey();
+            GojulCompactGroupedMap<K, S> leftElements = partition.getLeftElementsPerKey();
+            // The pairs are not presized, as the number of pairs of the many-to-many groups
+            // may be way bigger than the partition itself.
+            List<GojulPair<S, T>> pairs = new ArrayList<>();
+            int[] groupEnds = new int[leftElements.groupCount()];
+
+            for (int group = 0; group < groupEnds.length; group++) {
+                int targetGroup = rightElements.groupIndex(leftElements.groupKey(group));
+                List<T> targetElements = targetGroup < 0 ? null : rightElements.group(targetGroup);
+                if (targetElements != null || !innerJoin) {
+                    for (S element : leftElements.group(group)) {
+                        if (targetElements == null) {
+                            pairs.add(new GojulPair<>(element, (T) null));
+                        } else {
+                            for (T targetElement : targetElements) {
+                                if (targetElement != null || !innerJoin) {
+                                    pairs.add(new GojulPair<>(element, targetElement));
+                                }
+                            }
+                        }
+                    }
+                }
+                groupEnds[group] = pairs.size();
+            }
+
+            return new PartitionJoinResult<>(pairs, groupEnds);
+        }
+    }
+
+    /**
+     * Perform a LEFT JOIN using the sorted data contained in {@code joinData}. The result is identical,
+     * order included, to the one of {@link #leftJoin(GojulJoinData)} for the same sorted inputs.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @return a list of pair of elements. Each of them binds an element of the left to either an
+     * element of the right, or {@code null} as it is a left join.
+     * @throws NullPointerException  if {@code joinData} is {@code null}.
+     * @throws IllegalStateException if {@code joinData} has already been consumed, or if its elements
+     *                               are not sorted per key.
+     */
+    public <K, S, T> List<GojulPair<S, T>> leftSortMergeJoin(final GojulSortMergeJoinData<K, S, T> joinData) {
+        return leftSortMergeJoinStream(joinData).collect(Collectors.toList());
+    }
+
+    /**
+     * Perform a LEFT JOIN using the sorted data contained in {@code joinData}, and return the result
+     * as a lazy {@link Stream}. Both sides are read as the stream is consumed, and only the current
+     * key group of the right side is kept in memory.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @return a stream of pair of elements. Each of them binds an element of the left to either an
+     * element of the right, or {@code null} as it is a left join.
+     * @throws NullPointerException  if {@code joinData} is {@code null}.
+     * @throws IllegalStateException if {@code joinData} has already been consumed, or, while consuming
+     *                               the stream, if its elements are not sorted per key.
+     */
+    public <K, S, T> Stream<GojulPair<S, T>> leftSortMergeJoinStream(final GojulSortMergeJoinData<K, S, T> joinData) {
+        Objects.requireNonNull(joinData, "joinData is null");
+        joinData.markConsumed();
+
+        return StreamSupport.stream(new GojulSortMergeJoinSpliterator<>(joinData, false), false);
+    }
+
+    /**
+     * Perform an INNER JOIN using the sorted data contained in {@code joinData}. The result is identical,
+     * order included, to the one of {@link #innerJoin(GojulJoinData)} for the same sorted inputs.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @return a list of pair of elements. Each of them binds an element of the left to an
+     * element of the right.
+     * @throws NullPointerException  if {@code joinData} is {@code null}.
+     * @throws IllegalStateException if {@code joinData} has already been consumed, or if its elements
+     *                               are not sorted per key.
+     */
+    public <K, S, T> List<GojulPair<S, T>> innerSortMergeJoin(final GojulSortMergeJoinData<K, S, T> joinData) {
+        return innerSortMergeJoinStream(joinData).collect(Collectors.toList());
+    }
+
+    /**
+     * Perform an INNER JOIN using the sorted data contained in {@code joinData}, and return the result
+     * as a lazy {@link Stream}. Both sides are read as the stream is consumed, and only the current
+     * key group of the right side is kept in memory.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @return a stream of pair of elements. Each of them binds an element of the left to an
+     * element of the right.
+     * @throws NullPointerException  if {@code joinData} is {@code null}.
+     * @throws IllegalStateException if {@code joinData} has already been consumed, or, while consuming
+     *                               the stream, if its elements are not sorted per key.
+     */
+    public <K, S, T> Stream<GojulPair<S, T>> innerSortMergeJoinStream(final GojulSortMergeJoinData<K, S, T> joinData) {
+        Objects.requireNonNull(joinData, "joinData is null");
+        joinData.markConsumed();
+
+        return StreamSupport.stream(new GojulSortMergeJoinSpliterator<>(joinData, true), false);
+    }
+
+    /**
+     * Perform a LEFT JOIN using the data contained in {@code joinData}. The pairs follow
+     * the input order of the left elements.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @return a list of pair of elements. Each of them binds an element of the left to either an
+     * element of the right, or {@code null} as it is a left join.
+     * @throws NullPointerException if {@code joinData} is {@code null}.
+     */
+    public <S, T> List<GojulPair<S, T>> leftPrimitiveJoin(final GojulPrimitiveJoinData<S, T> joinData) {
+        Objects.requireNonNull(joinData, "joinData is null");
+
+        List<GojulPair<S, T>> result = new ArrayList<>();
+        primitiveJoin(joinData, false, (s, t) -> result.add(new GojulPair<>(s, t)));
+        return result;
+    }
+
+    /**
+     * Perform a LEFT JOIN using the data contained in {@code joinData}, and push each match to
+     * {@code consumer} instead of building a {@link GojulPair} for it. The matches are pushed in the
+     * input order of the left elements.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param consumer the consumer which receives each element of the left, along with either an
+     *                 element of the right or {@code null} as it is a left join.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     */
+    public <S, T> void leftPrimitiveJoin(final GojulPrimitiveJoinData<S, T> joinData,
+                                final BiConsumer<? super S, ? super T> consumer) {
+        Objects.requireNonNull(joinData, "joinData is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+
+        primitiveJoin(joinData, false, consumer);
+    }
+
+    /**
+     * Perform an INNER JOIN using the data contained in {@code joinData}. The pairs follow
+     * the input order of the left elements.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @return a list of pair of elements. Each of them binds an element of the left to an
+     * element of the right.
+     * @throws NullPointerException if {@code joinData} is {@code null}.
+     */
+    public <S, T> List<GojulPair<S, T>> innerPrimitiveJoin(final GojulPrimitiveJoinData<S, T> joinData) {
+        Objects.requireNonNull(joinData, "joinData is null");
+
+        List<GojulPair<S, T>> result = new ArrayList<>();
+        primitiveJoin(joinData, true, (s, t) -> result.add(new GojulPair<>(s, t)));
+        return result;
+    }
+
+    /**
+     * Perform an INNER JOIN using the data contained in {@code joinData}, and push each match to
+     * {@code consumer} instead of building a {@link GojulPair} for it. The matches are pushed in the
+     * input order of the left elements.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param consumer the consumer which receives each element of the left along with the element
+     *                 of the right it matches.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     */
+    public <S, T> void innerPrimitiveJoin(final GojulPrimitiveJoinData<S, T> joinData,
+                                 final BiConsumer<? super S, ? super T> consumer) {
+        Objects.requireNonNull(joinData, "joinData is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+
+        primitiveJoin(joinData, true, consumer);
+    }
+
+    private <S, T> void primitiveJoin(final GojulPrimitiveJoinData<S, T> joinData, final boolean innerJoin,
+                                      final BiConsumer<? super S, ? super T> consumer) {
+        GojulPrimitiveJoinData.GojulLongJoinDataKey<S> leftKey = joinData.getLeftKey();
+        GojulLongHashIndex<T> rightIndex = joinData.getRightIndex();
+
+        for (S element : joinData.getLeftElements()) {
+            int slot = rightIndex.find(leftKey.getKey(element));
+            if (slot >= 0) {
+                for (int i = rightIndex.start(slot), end = rightIndex.end(slot); i < end; i++) {
+                    T targetElement = rightIndex.valueAt(i);
+                    if (targetElement != null || !innerJoin) {
+                        consumer.accept(element, targetElement);
+                    }
+                }
+            } else if (!innerJoin) {
+                consumer.accept(element, null);
+            }
+        }
+    }
+
+    /**
+     * Perform a LEFT JOIN using the data contained in {@code joinData}, spilling it to disk if it
+     * exceeds its memory budget. The result contains the same pairs as {@link #leftJoin(GojulJoinData)}
+     * with the same inputs, but possibly in a different order.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @return a list of pair of elements. Each of them binds an element of the left to either an
+     * element of the right, or {@code null} as it is a left join.
+     * @throws NullPointerException if {@code joinData} is {@code null}.
+     * @throws UncheckedIOException if an I/O error occurs while using temporary files.
+     */
+    public <K, S, T> List<GojulPair<S, T>> leftGraceHashJoin(final GojulGraceHashJoinData<K, S, T> joinData) {
+        List<GojulPair<S, T>> result = new ArrayList<>();
+        leftGraceHashJoin(joinData, (s, t) -> result.add(new GojulPair<>(s, t)));
+        return result;
+    }
+
+    /**
+     * Perform a LEFT JOIN using the data contained in {@code joinData}, spilling it to disk if it
+     * exceeds its memory budget, and push each match to {@code consumer}. As the result of such a JOIN
+     * is likely to be huge, this method should be preferred to {@link #leftGraceHashJoin(GojulGraceHashJoinData)}.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param consumer the consumer which receives each element of the left, along with either an
+     *                 element of the right or {@code null} as it is a left join.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     * @throws UncheckedIOException if an I/O error occurs while using temporary files.
+     */
+    public <K, S, T> void leftGraceHashJoin(final GojulGraceHashJoinData<K, S, T> joinData,
+                                   final BiConsumer<? super S, ? super T> consumer) {
+        Objects.requireNonNull(joinData, "joinData is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+
+        graceHashJoin(joinData, false, consumer);
+    }
+
+    /**
+     * Perform an INNER JOIN using the data contained in {@code joinData}, spilling it to disk if it
+     * exceeds its memory budget. The result contains the same pairs as {@link #innerJoin(GojulJoinData)}
+     * with the same inputs, but possibly in a different order.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @return a list of pair of elements. Each of them binds an element of the left to an
+     * element of the right.
+     * @throws NullPointerException if {@code joinData} is {@code null}.
+     * @throws UncheckedIOException if an I/O error occurs while using temporary files.
+     */
+    public <K, S, T> List<GojulPair<S, T>> innerGraceHashJoin(final GojulGraceHashJoinData<K, S, T> joinData) {
+        List<GojulPair<S, T>> result = new ArrayList<>();
+        innerGraceHashJoin(joinData, (s, t) -> result.add(new GojulPair<>(s, t)));
+        return result;
+    }
+
+    /**
+     * Perform an INNER JOIN using the data contained in {@code joinData}, spilling it to disk if it
+     * exceeds its memory budget, and push each match to {@code consumer}. As the result of such a JOIN
+     * is likely to be huge, this method should be preferred to {@link #innerGraceHashJoin(GojulGraceHashJoinData)}.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param consumer the consumer which receives each element of the left along with the element
+     *                 of the right it matches.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     * @throws UncheckedIOException if an I/O error occurs while using temporary files.
+     */
+    public <K, S, T> void innerGraceHashJoin(final GojulGraceHashJoinData<K, S, T> joinData,
+                                    final BiConsumer<? super S, ? super T> consumer) {
+        Objects.requireNonNull(joinData, "joinData is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+
+        graceHashJoin(joinData, true, consumer);
+    }
+
+    private <K, S, T> void graceHashJoin(final GojulGraceHashJoinData<K, S, T> joinData, final boolean innerJoin,
+                                         final BiConsumer<? super S, ? super T> consumer) {
+        try {
+            new GojulGraceHashJoin<>(joinData, innerJoin, consumer).join();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error while performing the JOIN using temporary files", e);
+        }
+    }
+
+    /**
+     * Perform a LEFT JOIN using the data contained in {@code joinData}. Note that elements
+     * on the left which have a {@code null} key are attached in the resulting pair list to
+     * the elements which have a {@code null} key in the index. The pairs follow the input order
+     * of the left elements, and for each of them the order in which the matching elements have
+     * been added to the index.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @return a list of pair of elements. Each of them binds an element of the left to either an
+     * element of the right, or {@code null} as it is a left join.
+     * @throws NullPointerException if {@code joinData} is {@code null}.
+     */
+    public <K, S, T> List<GojulPair<S, T>> leftIndexJoin(final GojulIndexJoinData<K, S, T> joinData) {
+        Objects.requireNonNull(joinData, "joinData is null");
+
+        List<GojulPair<S, T>> result = new ArrayList<>();
+        indexJoin(joinData, false, (s, t) -> result.add(new GojulPair<>(s, t)));
+        return result;
+    }
+
+    /**
+     * Perform an INNER JOIN using the data contained in {@code joinData}. Note that elements
+     * on the left which have a {@code null} key are attached in the resulting pair list to
+     * the elements which have a {@code null} key in the index. The pairs follow the input order
+     * of the left elements.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @return a list of pair of elements. Each of them binds an element of the left to an
+     * element of the right.
+     * @throws NullPointerException if {@code joinData} is {@code null}.
+     */
+    public <K, S, T> List<GojulPair<S, T>> innerIndexJoin(final GojulIndexJoinData<K, S, T> joinData) {
+        Objects.requireNonNull(joinData, "joinData is null");
+
+        List<GojulPair<S, T>> result = new ArrayList<>();
+        indexJoin(joinData, true, (s, t) -> result.add(new GojulPair<>(s, t)));
+        return result;
+    }
+
+    /**
+     * Perform a LEFT JOIN using the data contained in {@code joinData}, and push each match to
+     * {@code consumer} instead of building a {@link GojulPair} for it. The matches are pushed in the
+     * same order as the pairs of {@link #leftIndexJoin(GojulIndexJoinData)}.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param consumer the consumer which receives each element of the left, along with either an
+     *                 element of the right or {@code null} as it is a left join.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     */
+    public <K, S, T> void leftIndexJoin(final GojulIndexJoinData<K, S, T> joinData,
+                                   final BiConsumer<? super S, ? super T> consumer) {
+        Objects.requireNonNull(joinData, "joinData is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+
+        indexJoin(joinData, false, consumer);
+    }
+
+    /**
+     * Perform an INNER JOIN using the data contained in {@code joinData}, and push each match to
+     * {@code consumer} instead of building a {@link GojulPair} for it. The matches are pushed in the
+     * same order as the pairs of {@link #innerIndexJoin(GojulIndexJoinData)}.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param consumer the consumer which receives each element of the left along with the element
+     *                 of the right it matches.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     */
+    public <K, S, T> void innerIndexJoin(final GojulIndexJoinData<K, S, T> joinData,
+                                    final BiConsumer<? super S, ? super T> consumer) {
+        Objects.requireNonNull(joinData, "joinData is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+
+        indexJoin(joinData, true, consumer);
+    }
+
+    /**
+     * Perform a RIGHT JOIN using the data contained in {@code joinData}. Note that elements
+     * in the index which have a {@code null} key are attached in the resulting pair list to
+     * the elements which have a {@code null} key on the left. As the index is not ordered, neither
+     * is the order of the right elements within the result.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @return a list of pair of elements. Each of them binds either an element of the left, or
+     * {@code null} as it is a right join, to an element of the right.
+     * @throws NullPointerException if {@code joinData} is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public <K, S, T> List<GojulPair<S, T>> rightIndexJoin(final GojulIndexJoinData<K, S, T> joinData) {
+        Objects.requireNonNull(joinData, "joinData is null");
+
+        Map<K, List<S>> leftElements = GojulJoinData.buildElementsMapPerKey(joinData.getLeftKey(),
+                joinData.getLeftElements());
+        List<GojulPair<S, T>> result = new ArrayList<>();
+        joinData.getRightIndex().forEachGroup((key, targetElements) -> {
+            List<S> sourceElements = leftElements.get(key);
+            for (Object targetElement : targetElements) {
+                if (sourceElements == null) {
+                    result.add(new GojulPair<>((S) null, (T) targetElement));
+                } else {
+                    for (S element : sourceElements) {
+                        result.add(new GojulPair<>(element, (T) targetElement));
+                    }
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Perform a FULL OUTER JOIN using the data contained in {@code joinData}. The result starts
+     * with the pairs of {@link #leftIndexJoin(GojulIndexJoinData)}, followed by the elements of the index
+     * which do not match any left element, bound to {@code null}.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @return a list of pair of elements. Each of them binds an element of the left to an element of
+     * the right, or one of them to {@code null} if it does not match anything on the other side.
+     * @throws NullPointerException if {@code joinData} is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public <K, S, T> List<GojulPair<S, T>> fullOuterIndexJoin(final GojulIndexJoinData<K, S, T> joinData) {
+        Objects.requireNonNull(joinData, "joinData is null");
+
+        GojulJoinIndex<K, T> rightIndex = joinData.getRightIndex();
+        GojulJoinData.GojulJoinDataKey<K, S> leftKey = joinData.getLeftKey();
+        Set<K> leftKeys = new HashSet<>();
+        List<GojulPair<S, T>> result = new ArrayList<>();
+        for (S element : joinData.getLeftElements()) {
+            K key = leftKey.getKey(element);
+            leftKeys.add(key);
+            probeIndex(rightIndex, element, key, false, (s, t) -> result.add(new GojulPair<>(s, t)));
+        }
+
+        rightIndex.forEachGroup((key, targetElements) -> {
+            if (!leftKeys.contains(key)) {
+                for (Object targetElement : targetElements) {
+                    result.add(new GojulPair<>((S) null, (T) targetElement));
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Perform a SEMI JOIN using the data contained in {@code joinData}, that is to say return the
+     * left elements which match at least one element of the index. Each left element is returned
+     * once, no matter how many elements it matches.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @return the left elements which match at least one right element, in their input order.
+     * @throws NullPointerException if {@code joinData} is {@code null}.
+     */
+    public <K, S, T> List<S> semiIndexJoin(final GojulIndexJoinData<K, S, T> joinData) {
+        Objects.requireNonNull(joinData, "joinData is null");
+
+        return filterLeftElements(joinData, true);
+    }
+
+    /**
+     * Perform an ANTI JOIN using the data contained in {@code joinData}, that is to say return the
+     * left elements which do not match any element of the index.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @return the left elements which do not match any right element, in their input order.
+     * @throws NullPointerException if {@code joinData} is {@code null}.
+     */
+    public <K, S, T> List<S> antiIndexJoin(final GojulIndexJoinData<K, S, T> joinData) {
+        Objects.requireNonNull(joinData, "joinData is null");
+
+        return filterLeftElements(joinData, false);
+    }
+
+    private <K, S, T> List<S> filterLeftElements(final GojulIndexJoinData<K, S, T> joinData, final boolean matching) {
+        GojulJoinIndex<K, T> rightIndex = joinData.getRightIndex();
+        GojulJoinData.GojulJoinDataKey<K, S> leftKey = joinData.getLeftKey();
+        List<S> result = new ArrayList<>();
+
+        for (S element : joinData.getLeftElements()) {
+            if (rightIndex.containsKey(leftKey.getKey(element)) == matching) {
+                result.add(element);
+            }
+        }
+
+        return result;
+    }
+
+    private <K, S, T> void indexJoin(final GojulIndexJoinData<K, S, T> joinData, final boolean innerJoin,
+                                     final BiConsumer<? super S, ? super T> consumer) {
+        GojulJoinIndex<K, T> rightIndex = joinData.getRightIndex();
+        GojulJoinData.GojulJoinDataKey<K, S> leftKey = joinData.getLeftKey();
+
+        for (S element : joinData.getLeftElements()) {
+            probeIndex(rightIndex, element, leftKey.getKey(element), innerJoin, consumer);
+        }
+    }
+
+    /**
+     * Push to {@code consumer} the matches of {@code element}, whose key is {@code key}, in {@code rightIndex}.
+     */
+    @SuppressWarnings("unchecked")
+    private <K, S, T> void probeIndex(final GojulJoinIndex<K, T> rightIndex, final S element, final K key,
+                                      final boolean innerJoin, final BiConsumer<? super S, ? super T> consumer) {
+        Object[] targetElements = rightIndex.getElements(key);
+        if (targetElements != null) {
+            for (Object targetElement : targetElements) {
+                if (targetElement != null || !innerJoin) {
+                    consumer.accept(element, (T) targetElement);
+                }
+            }
+        } else if (!innerJoin) {
+            consumer.accept(element, null);
+        }
+    }
+
+    /**
+     * Perform a LEFT JOIN using the data contained in {@code joinData}. Note that elements
+     * on the left which have a {@code null} key are attached in the resulting pair list to
+     * the elements which have a {@code null} key in the index. The pairs follow the input order
+     * of the left elements, and for each of them the order in which the matching elements have
+     * been written to the index.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @return a list of pair of elements. Each of them binds an element of the left to either an
+     * element of the right, or {@code null} as it is a left join.
+     * @throws NullPointerException if {@code joinData} is {@code null}.
+     * @throws UncheckedIOException if an I/O error occurs while reading the index.
+     */
+    public <K, S, T> List<GojulPair<S, T>> leftMappedJoin(final GojulMappedJoinData<K, S, T> joinData) {
+        Objects.requireNonNull(joinData, "joinData is null");
+
+        List<GojulPair<S, T>> result = new ArrayList<>();
+        mappedJoin(joinData, false, (s, t) -> result.add(new GojulPair<>(s, t)));
+        return result;
+    }
+
+    /**
+     * Perform an INNER JOIN using the data contained in {@code joinData}. Note that elements
+     * on the left which have a {@code null} key are attached in the resulting pair list to
+     * the elements which have a {@code null} key in the index. The pairs follow the input order
+     * of the left elements.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @return a list of pair of elements. Each of them binds an element of the left to an
+     * element of the right.
+     * @throws NullPointerException if {@code joinData} is {@code null}.
+     * @throws UncheckedIOException if an I/O error occurs while reading the index.
+     */
+    public <K, S, T> List<GojulPair<S, T>> innerMappedJoin(final GojulMappedJoinData<K, S, T> joinData) {
+        Objects.requireNonNull(joinData, "joinData is null");
+
+        List<GojulPair<S, T>> result = new ArrayList<>();
+        mappedJoin(joinData, true, (s, t) -> result.add(new GojulPair<>(s, t)));
+        return result;
+    }
+
+    /**
+     * Perform a LEFT JOIN using the data contained in {@code joinData}, and push each match to
+     * {@code consumer} instead of building a {@link GojulPair} for it. The matches are pushed in the
+     * same order as the pairs of {@link #leftMappedJoin(GojulMappedJoinData)}.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param consumer the consumer which receives each element of the left, along with either an
+     *                 element of the right or {@code null} as it is a left join.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     * @throws UncheckedIOException if an I/O error occurs while reading the index.
+     */
+    public <K, S, T> void leftMappedJoin(final GojulMappedJoinData<K, S, T> joinData,
+                                   final BiConsumer<? super S, ? super T> consumer) {
+        Objects.requireNonNull(joinData, "joinData is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+
+        mappedJoin(joinData, false, consumer);
+    }
+
+    /**
+     * Perform an INNER JOIN using the data contained in {@code joinData}, and push each match to
+     * {@code consumer} instead of building a {@link GojulPair} for it. The matches are pushed in the
+     * same order as the pairs of {@link #innerMappedJoin(GojulMappedJoinData)}.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param consumer the consumer which receives each element of the left along with the element
+     *                 of the right it matches.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     * @throws UncheckedIOException if an I/O error occurs while reading the index.
+     */
+    public <K, S, T> void innerMappedJoin(final GojulMappedJoinData<K, S, T> joinData,
+                                    final BiConsumer<? super S, ? super T> consumer) {
+        Objects.requireNonNull(joinData, "joinData is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+
+        mappedJoin(joinData, true, consumer);
+    }
+
+    private <K, S, T> void mappedJoin(final GojulMappedJoinData<K, S, T> joinData, final boolean innerJoin,
+                                      final BiConsumer<? super S, ? super T> consumer) {
+        GojulMappedJoinIndex<K, T> rightIndex = joinData.getRightIndex();
+        serializedIndexJoin(joinData.getLeftKey(), joinData.getLeftElements(), rightIndex::forEach, innerJoin,
+                consumer);
+    }
+
+    /**
+     * Perform a LEFT JOIN using the data contained in {@code joinData}. Note that elements
+     * on the left which have a {@code null} key are attached in the resulting pair list to
+     * the elements which have a {@code null} key in the index. The pairs follow the input order
+     * of the left elements, and for each of them the order in which the matching elements have
+     * been added to the index.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @return a list of pair of elements. Each of them binds an element of the left to either an
+     * element of the right, or {@code null} as it is a left join.
+     * @throws NullPointerException if {@code joinData} is {@code null}.
+     * @throws UncheckedIOException if a serializer of the index fails.
+     */
+    public <K, S, T> List<GojulPair<S, T>> leftOffHeapJoin(final GojulOffHeapJoinData<K, S, T> joinData) {
+        Objects.requireNonNull(joinData, "joinData is null");
+
+        List<GojulPair<S, T>> result = new ArrayList<>();
+        offHeapJoin(joinData, false, (s, t) -> result.add(new GojulPair<>(s, t)));
+        return result;
+    }
+
+    /**
+     * Perform an INNER JOIN using the data contained in {@code joinData}. Note that elements
+     * on the left which have a {@code null} key are attached in the resulting pair list to
+     * the elements which have a {@code null} key in the index. The pairs follow the input order
+     * of the left elements.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @return a list of pair of elements. Each of them binds an element of the left to an
+     * element of the right.
+     * @throws NullPointerException if {@code joinData} is {@code null}.
+     * @throws UncheckedIOException if a serializer of the index fails.
+     */
+    public <K, S, T> List<GojulPair<S, T>> innerOffHeapJoin(final GojulOffHeapJoinData<K, S, T> joinData) {
+        Objects.requireNonNull(joinData, "joinData is null");
+
+        List<GojulPair<S, T>> result = new ArrayList<>();
+        offHeapJoin(joinData, true, (s, t) -> result.add(new GojulPair<>(s, t)));
+        return result;
+    }
+
+    /**
+     * Perform a LEFT JOIN using the data contained in {@code joinData}, and push each match to
+     * {@code consumer} instead of building a {@link GojulPair} for it. The matches are pushed in the
+     * same order as the pairs of {@link #leftOffHeapJoin(GojulOffHeapJoinData)}.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param consumer the consumer which receives each element of the left, along with either an
+     *                 element of the right or {@code null} as it is a left join.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     * @throws UncheckedIOException if a serializer of the index fails.
+     */
+    public <K, S, T> void leftOffHeapJoin(final GojulOffHeapJoinData<K, S, T> joinData,
+                                   final BiConsumer<? super S, ? super T> consumer) {
+        Objects.requireNonNull(joinData, "joinData is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+
+        offHeapJoin(joinData, false, consumer);
+    }
+
+    /**
+     * Perform an INNER JOIN using the data contained in {@code joinData}, and push each match to
+     * {@code consumer} instead of building a {@link GojulPair} for it. The matches are pushed in the
+     * same order as the pairs of {@link #innerOffHeapJoin(GojulOffHeapJoinData)}.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param consumer the consumer which receives each element of the left along with the element
+     *                 of the right it matches.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     * @throws UncheckedIOException if a serializer of the index fails.
+     */
+    public <K, S, T> void innerOffHeapJoin(final GojulOffHeapJoinData<K, S, T> joinData,
+                                    final BiConsumer<? super S, ? super T> consumer) {
+        Objects.requireNonNull(joinData, "joinData is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+
+        offHeapJoin(joinData, true, consumer);
+    }
+
+    private <K, S, T> void offHeapJoin(final GojulOffHeapJoinData<K, S, T> joinData, final boolean innerJoin,
+                                       final BiConsumer<? super S, ? super T> consumer) {
+        GojulOffHeapJoinIndex<K, T> rightIndex = joinData.getRightIndex();
+        serializedIndexJoin(joinData.getLeftKey(), joinData.getLeftElements(), rightIndex::forEach, innerJoin,
+                consumer);
+    }
+
+    /**
+     * Perform a JOIN against an index which stores its elements in a serialized form, and which thus
+     * deserializes the elements of a key while pushing them to an action. {@code probe} calls the action
+     * for each element of the key, and returns {@code false} if the key is not indexed.
+     */
+    private <K, S, T> void serializedIndexJoin(final GojulJoinData.GojulJoinDataKey<K, S> leftKey,
+                                               final Iterable<S> leftElements,
+                                               final BiPredicate<K, Consumer<T>> probe,
+                                               final boolean innerJoin,
+                                               final BiConsumer<? super S, ? super T> consumer) {
+        for (S element : leftElements) {
+            boolean found = probe.test(leftKey.getKey(element), t -> {
+                if (t != null || !innerJoin) {
+                    consumer.accept(element, t);
+                }
+            });
+            if (!found && !innerJoin) {
+                consumer.accept(element, null);
+            }
+        }
+    }
+
+    /**
+     * Perform a multi-way LEFT JOIN using the data contained in {@code joinData}. Each resulting tuple
+     * contains a fact at index 0, followed by one element of each dimension, in the order of the
+     * dimensions, or {@code null} for the dimensions which do not match the fact. A fact which matches
+     * several elements of some dimensions yields one tuple per combination of them. Note that facts
+     * which have a {@code null} key are joined to the dimension elements which have a {@code null} key.
+     * The tuples follow the input order of the facts.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the facts.
+     * @return the list of tuples.
+     * @throws NullPointerException if {@code joinData} is {@code null}.
+     */
+    public <K, S> List<GojulTuple> leftStarJoin(final GojulStarJoinData<K, S> joinData) {
+        Objects.requireNonNull(joinData, "joinData is null");
+
+        List<GojulTuple> result = new ArrayList<>();
+        starJoin(joinData, false, result::add);
+        return result;
+    }
+
+    /**
+     * Perform a multi-way INNER JOIN using the data contained in {@code joinData}. This is the same
+     * as {@link #leftStarJoin(GojulStarJoinData)}, except that the facts which do not match all the
+     * dimensions are discarded.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the facts.
+     * @return the list of tuples.
+     * @throws NullPointerException if {@code joinData} is {@code null}.
+     */
+    public <K, S> List<GojulTuple> innerStarJoin(final GojulStarJoinData<K, S> joinData) {
+        Objects.requireNonNull(joinData, "joinData is null");
+
+        List<GojulTuple> result = new ArrayList<>();
+        starJoin(joinData, true, result::add);
+        return result;
+    }
+
+    /**
+     * Perform a multi-way LEFT JOIN using the data contained in {@code joinData}, and push each tuple
+     * to {@code consumer} instead of storing it. The tuples are pushed in the same order as the
+     * tuples of {@link #leftStarJoin(GojulStarJoinData)}.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param consumer the consumer which receives the tuples.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the facts.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     */
+    public <K, S> void leftStarJoin(final GojulStarJoinData<K, S> joinData, final Consumer<? super GojulTuple> consumer) {
+        Objects.requireNonNull(joinData, "joinData is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+
+        starJoin(joinData, false, consumer);
+    }
+
+    /**
+     * Perform a multi-way INNER JOIN using the data contained in {@code joinData}, and push each tuple
+     * to {@code consumer} instead of storing it. The tuples are pushed in the same order as the
+     * tuples of {@link #innerStarJoin(GojulStarJoinData)}.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param consumer the consumer which receives the tuples.
+     * @param <K>      the JOIN key type.
+     * @param <S>      the type of the facts.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     */
+    public <K, S> void innerStarJoin(final GojulStarJoinData<K, S> joinData, final Consumer<? super GojulTuple> consumer) {
+        Objects.requireNonNull(joinData, "joinData is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+
+        starJoin(joinData, true, consumer);
+    }
+
+    private <K, S> void starJoin(final GojulStarJoinData<K, S> joinData, final boolean innerJoin,
+                                 final Consumer<? super GojulTuple> consumer) {
+        List<GojulStarJoinData.Dimension<K, ?>> dimensions = joinData.getDimensions();
+        GojulJoinData.GojulJoinDataKey<K, S> factKey = joinData.getFactKey();
+        int dimensionCount = dimensions.size();
+        List<?>[] groups = new List<?>[dimensionCount];
+        int[] positions = new int[dimensionCount];
+
+        for (S fact : joinData.getFactElements()) {
+            K key = factKey.getKey(fact);
+
+            boolean matchesAll = true;
+            for (int i = 0; i < dimensionCount; i++) {
+                groups[i] = dimensions.get(i).getElementsPerKey().get(key);
+                matchesAll &= groups[i] != null;
+            }
+            if (innerJoin && !matchesAll) {
+                continue;
+            }
+
+            // Enumerate the combinations of the matching dimension elements, the last dimension
+            // changing the fastest.
+            Arrays.fill(positions, 0);
+            int dimension;
+            do {
+                Object[] values = new Object[dimensionCount + 1];
+                values[0] = fact;
+                for (int i = 0; i < dimensionCount; i++) {
+                    values[i + 1] = groups[i] == null ? null : groups[i].get(positions[i]);
+                }
+                consumer.accept(new GojulTuple(values, false));
+
+                dimension = dimensionCount - 1;
+                while (dimension >= 0 && (groups[dimension] == null
+                        || ++positions[dimension] == groups[dimension].size())) {
+                    positions[dimension] = 0;
+                    dimension--;
+                }
+            } while (dimension >= 0);
+        }
+    }
+
+    /**
+     * Perform a LEFT band JOIN using the data contained in {@code joinData}, i.e. bind each left element
+     * to the right elements whose interval contains its point. The pairs follow the input order of the
+     * left elements, and for each of them the order of the interval starts.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <P>      the type of the points and interval bounds.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @return a list of pair of elements. Each of them binds an element of the left to either an
+     * element of the right, or {@code null} as it is a left join.
+     * @throws NullPointerException if {@code joinData} is {@code null}.
+     */
+    public <P, S, T> List<GojulPair<S, T>> leftIntervalJoin(final GojulIntervalJoinData<P, S, T> joinData) {
+        Objects.requireNonNull(joinData, "joinData is null");
+
+        List<GojulPair<S, T>> result = new ArrayList<>();
+        intervalJoin(joinData, false, (s, t) -> result.add(new GojulPair<>(s, t)));
+        return result;
+    }
+
+    /**
+     * Perform an INNER band JOIN using the data contained in {@code joinData}, i.e. bind each left element
+     * to the right elements whose interval contains its point. The pairs follow the input order of the
+     * left elements, and for each of them the order of the interval starts.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param <P>      the type of the points and interval bounds.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @return a list of pair of elements. Each of them binds an element of the left to an
+     * element of the right.
+     * @throws NullPointerException if {@code joinData} is {@code null}.
+     */
+    public <P, S, T> List<GojulPair<S, T>> innerIntervalJoin(final GojulIntervalJoinData<P, S, T> joinData) {
+        Objects.requireNonNull(joinData, "joinData is null");
+
+        List<GojulPair<S, T>> result = new ArrayList<>();
+        intervalJoin(joinData, true, (s, t) -> result.add(new GojulPair<>(s, t)));
+        return result;
+    }
+
+    /**
+     * Perform a LEFT band JOIN using the data contained in {@code joinData}, and push each match to
+     * {@code consumer} instead of building a {@link GojulPair} for it. The matches are pushed in the
+     * same order as the pairs of {@link #leftIntervalJoin(GojulIntervalJoinData)}.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param consumer the consumer which receives each element of the left, along with either an
+     *                 element of the right or {@code null} as it is a left join.
+     * @param <P>      the type of the points and interval bounds.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     */
+    public <P, S, T> void leftIntervalJoin(final GojulIntervalJoinData<P, S, T> joinData,
+                                   final BiConsumer<? super S, ? super T> consumer) {
+        Objects.requireNonNull(joinData, "joinData is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+
+        intervalJoin(joinData, false, consumer);
+    }
+
+    /**
+     * Perform an INNER band JOIN using the data contained in {@code joinData}, and push each match to
+     * {@code consumer} instead of building a {@link GojulPair} for it. The matches are pushed in the
+     * same order as the pairs of {@link #innerIntervalJoin(GojulIntervalJoinData)}.
+     *
+     * @param joinData the object which contains the elements used to perform the JOIN operation.
+     * @param consumer the consumer which receives each element of the left along with the element
+     *                 of the right it matches.
+     * @param <P>      the type of the points and interval bounds.
+     * @param <S>      the type of the left elements to join.
+     * @param <T>      the type of the right elements to join.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     */
+    public <P, S, T> void innerIntervalJoin(final GojulIntervalJoinData<P, S, T> joinData,
+                                    final BiConsumer<? super S, ? super T> consumer) {
+        Objects.requireNonNull(joinData, "joinData is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+
+        intervalJoin(joinData, true, consumer);
+    }
+
+    private <P, S, T> void intervalJoin(final GojulIntervalJoinData<P, S, T> joinData, final boolean innerJoin,
+                                        final BiConsumer<? super S, ? super T> consumer) {
+        GojulIntervalIndex<P, T> rightIndex = joinData.getRightIndex();
+        GojulJoinData.GojulJoinDataKey<P, S> leftPoint = joinData.getLeftPoint();
+        boolean[] matched = new boolean[1];
+
+        for (S element : joinData.getLeftElements()) {
+            matched[0] = false;
+            rightIndex.forEachContaining(leftPoint.getKey(element), targetElement -> {
+                matched[0] = true;
+                if (targetElement != null || !innerJoin) {
+                    consumer.accept(element, targetElement);
+                }
+            });
+            if (!matched[0] && !innerJoin) {
+                consumer.accept(element, null);
+            }
+        }
+    }
+
+    /**
+     * Class {@code GojulJoinSpliterator} is the lazy JOIN implementation. It walks the left elements
+     * key group per key group, and only builds a pair when the consumer asks for it. The only
+     * state it keeps is the position within the current key group.
+     *
+     * @param <K> the JOIN key type.
+     * @param <S> the type of the left elements to join.
+     * @param <T> the type of the right elements to join.
+     */
+    private final static class GojulJoinSpliterator<K, S, T> extends Spliterators.AbstractSpliterator<GojulPair<S, T>> {
+
+        private final Iterator<Map.Entry<K, List<S>>> leftGroups;
+        private final Map<K, List<T>> rightElements;
+        private final boolean innerJoin;
+
+        private Iterator<S> currentLeftElements;
+        private List<T> currentRightElements;
+        private S currentLeftElement;
+        private List<T> currentMatches;
+        private int currentMatchIndex;
+
+        private GojulJoinSpliterator(final Map<K, List<S>> leftElements, final Map<K, List<T>> rightElements,
+                                     final boolean innerJoin) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.leftGroups = leftElements.entrySet().iterator();
+            this.rightElements = rightElements;
+            this.innerJoin = innerJoin;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean tryAdvance(final Consumer<? super GojulPair<S, T>> action) {
+            while (true) {
+                if (currentMatches != null && currentMatchIndex < currentMatches.size()) {
+                    T match = currentMatches.get(currentMatchIndex++);
+                    // As for the non-lazy INNER JOIN, null right elements are not matches.
+                    if (match == null && innerJoin) {
+                        continue;
+                    }
+                    action.accept(new GojulPair<>(currentLeftElement, match));
+                    return true;
+                }
+
+                if (currentLeftElements != null && currentLeftElements.hasNext()) {
+                    currentLeftElement = currentLeftElements.next();
+                    if (currentRightElements == null) {
+                        action.accept(new GojulPair<>(currentLeftElement, (T) null));
+                        return true;
+                    }
+                    currentMatches = currentRightElements;
+                    currentMatchIndex = 0;
+                    continue;
+                }
+
+                if (!leftGroups.hasNext()) {
+                    return false;
+                }
+
+                Map.Entry<K, List<S>> group = leftGroups.next();
+                currentMatches = null;
+                currentRightElements = rightElements.get(group.getKey());
+                // For an inner join, left groups without any match are
+                // skipped as a whole.
+                currentLeftElements = currentRightElements == null && innerJoin ? null
+                        : group.getValue().iterator();
+            }
+        }
+    }
+
+    /**
+     * Class {@code GojulSortMergeJoinSpliterator} is the sort-merge JOIN implementation. Left elements
+     * are read one at a time, and the right side is only moved forward when the left key changes,
+     * so that only the right key group matching the current left key is buffered.
+     *
+     * @param <K> the JOIN key type.
+     * @param <S> the type of the left elements to join.
+     * @param <T> the type of the right elements to join.
+     */
+    private final static class GojulSortMergeJoinSpliterator<K, S, T>
+            extends Spliterators.AbstractSpliterator<GojulPair<S, T>> {
+
+        private final Iterator<S> leftElements;
+        private final GojulJoinData.GojulJoinDataKey<K, S> leftKey;
+        private final Iterator<T> rightElements;
+        private final GojulJoinData.GojulJoinDataKey<K, T> rightKey;
+        private final Comparator<K> keyComparator;
+        private final boolean innerJoin;
+
+        private boolean hasPreviousLeftKey;
+        private K previousLeftKey;
+
+        private boolean hasNextRight;
+        private T nextRight;
+        private K nextRightKey;
+        private boolean hasPreviousRightKey;
+        private K previousRightKey;
+
+        private final List<T> rightGroup = new ArrayList<>();
+
+        private S currentLeftElement;
+        private List<T> currentMatches;
+        private int currentMatchIndex;
+
+        private GojulSortMergeJoinSpliterator(final GojulSortMergeJoinData<K, S, T> joinData, final boolean innerJoin) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.leftElements = joinData.getLeftElements();
+            this.leftKey = joinData.getLeftKey();
+            this.rightElements = joinData.getRightElements();
+            this.rightKey = joinData.getRightKey();
+            this.keyComparator = joinData.getKeyComparator();
+            this.innerJoin = innerJoin;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean tryAdvance(final Consumer<? super GojulPair<S, T>> action) {
+            while (true) {
+                if (currentMatches != null && currentMatchIndex < currentMatches.size()) {
+                    T match = currentMatches.get(currentMatchIndex++);
+                    if (match == null && innerJoin) {
+                        continue;
+                    }
+                    action.accept(new GojulPair<>(currentLeftElement, match));
+                    return true;
+                }
+                currentMatches = null;
+
+                if (!leftElements.hasNext()) {
+                    return false;
+                }
+
+                S element = leftElements.next();
+                K key = leftKey.getKey(element);
+                int comparison = hasPreviousLeftKey ? keyComparator.compare(previousLeftKey, key) : -1;
+                if (comparison > 0) {
+                    throw new IllegalStateException("The left elements are not sorted per key");
+                }
+                previousLeftKey = key;
+                hasPreviousLeftKey = true;
+
+                if (comparison != 0) {
+                    moveRightTo(key);
+                }
+
+                if (!rightGroup.isEmpty()) {
+                    currentLeftElement = element;
+                    currentMatches = rightGroup;
+                    currentMatchIndex = 0;
+                } else if (!innerJoin) {
+                    action.accept(new GojulPair<>(element, (T) null));
+                    return true;
+                }
+            }
+        }
+
+        private void moveRightTo(final K key) {
+            rightGroup.clear();
+
+            while (peekRight()) {
+                int comparison = keyComparator.compare(nextRightKey, key);
+                if (comparison > 0) {
+                    return;
+                }
+                if (comparison == 0) {
+                    rightGroup.add(nextRight);
+                }
+                hasNextRight = false;
+                nextRight = null;
+            }
+        }
+
+        private boolean peekRight() {
+            if (!hasNextRight && rightElements.hasNext()) {
+                T element = rightElements.next();
+                K key = rightKey.getKey(element);
+                if (hasPreviousRightKey && keyComparator.compare(previousRightKey, key) > 0) {
+                    throw new IllegalStateException("The right elements are not sorted per key");
+                }
+                previousRightKey = key;
+                hasPreviousRightKey = true;
+
+                nextRight = element;
+                nextRightKey = key;
+                hasNextRight = true;
+            }
+            return hasNextRight;
+        }
+    }
 }
@@ -0,0 +1,164 @@
+package org.gojul.gojulutils.data;
+
+import java.util.*;
+
+/**
+ * Class {@code GojulJoinDelta} describes the change of a JOIN result caused by a change of its
+ * input, as the pairs added to the result and the pairs removed from it. A pair which would
+ * be both added and removed by the same change does not appear in the delta at all. This object
+ * is immutable as long as the objects it contains are immutable.
+ *
+ * @param <S> the type of the left elements of the JOIN.
+ * @param <T> the type of the right elements of the JOIN.
+ * @see org.gojul.gojulutils.data.GojulIncrementalJoin
+ */
+public final class GojulJoinDelta<S, T> {
+
+    private final static GojulJoinDelta<?, ?> EMPTY = new GojulJoinDelta<>(Collections.emptyList(),
+            Collections.emptyList());
+
+    private final List<GojulPair<S, T>> added;
+    private final List<GojulPair<S, T>> removed;
+
+    private GojulJoinDelta(final List<GojulPair<S, T>> added, final List<GojulPair<S, T>> removed) {
+        this.added = added;
+        this.removed = removed;
+    }
+
+    /**
+     * Return the empty delta.
+     *
+     * @param <S> the type of the left elements of the JOIN.
+     * @param <T> the type of the right elements of the JOIN.
+     * @return the empty delta.
+     */
+    @SuppressWarnings("unchecked")
+    static <S, T> GojulJoinDelta<S, T> empty() {
+        return (GojulJoinDelta<S, T>) EMPTY;
+    }
+
+    /**
+     * Create a delta from the pairs {@code added} and {@code removed}. The pairs which appear in
+     * both lists cancel each other out. Note that this method is package private because outer
+     * classes should not use it directly.
+     *
+     * @param added   the pairs added to the JOIN result.
+     * @param removed the pairs removed from the JOIN result.
+     * @param <S>     the type of the left elements of the JOIN.
+     * @param <T>     the type of the right elements of the JOIN.
+     * @return the delta.
+     */
+    static <S, T> GojulJoinDelta<S, T> of(final List<GojulPair<S, T>> added, final List<GojulPair<S, T>> removed) {
+        if (added.isEmpty() && removed.isEmpty()) {
+            return empty();
+        }
+        if (added.isEmpty() || removed.isEmpty()) {
+            return new GojulJoinDelta<>(Collections.unmodifiableList(added), Collections.unmodifiableList(removed));
+        }
+
+        Map<GojulPair<S, T>, Integer> removedCounts = new HashMap<>();
+        for (GojulPair<S, T> pair : removed) {
+            removedCounts.merge(pair, 1, Integer::sum);
+        }
+
+        Map<GojulPair<S, T>, Integer> cancelledCounts = new HashMap<>();
+        List<GojulPair<S, T>> actuallyAdded = new ArrayList<>(added.size());
+        for (GojulPair<S, T> pair : added) {
+            if (decrement(removedCounts, pair)) {
+                cancelledCounts.merge(pair, 1, Integer::sum);
+            } else {
+                actuallyAdded.add(pair);
+            }
+        }
+
+        List<GojulPair<S, T>> actuallyRemoved = new ArrayList<>(removed.size());
+        for (GojulPair<S, T> pair : removed) {
+            if (!decrement(cancelledCounts, pair)) {
+                actuallyRemoved.add(pair);
+            }
+        }
+
+        return actuallyAdded.isEmpty() && actuallyRemoved.isEmpty() ? empty()
+                : new GojulJoinDelta<>(Collections.unmodifiableList(actuallyAdded),
+                Collections.unmodifiableList(actuallyRemoved));
+    }
+
+    /**
+     * Decrement the count of {@code pair} in {@code counts}, and return {@code true} if
+     * it was there, {@code false} otherwise.
+     */
+    private static <S, T> boolean decrement(final Map<GojulPair<S, T>, Integer> counts, final GojulPair<S, T> pair) {
+        Integer count = counts.get(pair);
+        if (count == null) {
+            return false;
+        }
+        if (count == 1) {
+            counts.remove(pair);
+        } else {
+            counts.put(pair, count - 1);
+        }
+        return true;
+    }
+
+    /**
+     * Return the pairs added to the JOIN result.
+     *
+     * @return the pairs added to the JOIN result, as an unmodifiable list.
+     */
+    public List<GojulPair<S, T>> getAdded() {
+        return added;
+    }
+
+    /**
+     * Return the pairs removed from the JOIN result.
+     *
+     * @return the pairs removed from the JOIN result, as an unmodifiable list.
+     */
+    public List<GojulPair<S, T>> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Return {@code true} if this delta does not change the JOIN result, {@code false} otherwise.
+     *
+     * @return {@code true} if this delta does not change the JOIN result, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        GojulJoinDelta<?, ?> that = (GojulJoinDelta<?, ?>) o;
+
+        if (!added.equals(that.added)) return false;
+        return removed.equals(that.removed);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        int result = added.hashCode();
+        result = 31 * result + removed.hashCode();
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "GojulJoinDelta{" +
+                "added=" + added +
+                ", removed=" + removed +
+                '}';
+    }
+}
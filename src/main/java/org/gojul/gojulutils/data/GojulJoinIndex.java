@@ -0,0 +1,217 @@
+package org.gojul.gojulutils.data;
+
+import org.gojul.gojulutils.data.GojulJoinData.GojulJoinDataKey;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * <p>
+ * Class {@code GojulJoinIndex} is a reusable index of elements per JOIN key, meant to be used as the
+ * right side of JOIN operations through {@link GojulIndexJoinData}. Unlike {@link GojulJoinData}, which
+ * indexes its elements each time it is created, this index is built once and then maintained
+ * incrementally using {@link #add(Object)} and {@link #remove(Object)}, so that a big reference
+ * dataset can be probed many times without being hashed again.
+ * </p>
+ * <p>This class is thread-safe : probes do not lock, and can run concurrently with updates. The
+ * elements of each key are stored in a copy-on-write array, so that a probe always sees either
+ * the whole group before an update or the whole group after it. Consequently adding or removing
+ * an element costs a copy of the group of its key, which makes this index fit for groups of
+ * moderate size, updated much less often than they are probed. The {@code null} key is supported.</p>
+ *
+ * @param <K> the type of the JOIN key.
+ * @param <T> the type of the indexed elements.
+ * @see org.gojul.gojulutils.data.GojulJoinDataService
+ */
+public final class GojulJoinIndex<K, T> {
+
+    /**
+     * Marker stored in place of the {@code null} key, as {@link ConcurrentHashMap}
+     * does not support {@code null} keys.
+     */
+    private final static Object NULL_KEY = new Object();
+
+    private final GojulJoinDataKey<K, T> keyGen;
+    private final ConcurrentHashMap<Object, Object[]> elementsPerKey;
+    private final AtomicInteger size;
+
+    /**
+     * Constructor. The index is initially empty.
+     *
+     * @param keyGen the function in charge of generating the key of the indexed elements.
+     * @throws NullPointerException if {@code keyGen} is {@code null}.
+     */
+    public GojulJoinIndex(final GojulJoinDataKey<K, T> keyGen) {
+        this(keyGen, Collections.emptyList());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param keyGen   the function in charge of generating the key of the indexed elements.
+     * @param elements the elements initially indexed.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     */
+    public GojulJoinIndex(final GojulJoinDataKey<K, T> keyGen, final Iterable<T> elements) {
+        Objects.requireNonNull(keyGen, "keyGen is null");
+        Objects.requireNonNull(elements, "elements is null");
+
+        this.keyGen = keyGen;
+        this.elementsPerKey = new ConcurrentHashMap<>();
+        this.size = new AtomicInteger();
+
+        addAll(elements);
+    }
+
+    private static Object mask(final Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> K unmask(final Object key) {
+        return key == NULL_KEY ? null : (K) key;
+    }
+
+    /**
+     * Add {@code element} to this index.
+     *
+     * @param element the element to add.
+     */
+    public void add(final T element) {
+        elementsPerKey.merge(mask(keyGen.getKey(element)), new Object[]{element}, GojulJoinIndex::concat);
+        size.incrementAndGet();
+    }
+
+    /**
+     * Add all the elements of {@code elements} to this index. The elements are grouped per key
+     * first, so that the group of each key gets copied only once.
+     *
+     * @param elements the elements to add.
+     * @throws NullPointerException if {@code elements} is {@code null}.
+     */
+    public void addAll(final Iterable<T> elements) {
+        Objects.requireNonNull(elements, "elements is null");
+
+        GojulCompactGroupedMap<K, T> groups = GojulJoinData.buildElementsMapPerKey(keyGen, elements);
+        for (int i = 0, len = groups.groupCount(); i < len; i++) {
+            elementsPerKey.merge(mask(groups.groupKey(i)), groups.group(i).toArray(), GojulJoinIndex::concat);
+        }
+        size.addAndGet(groups.elementCount());
+    }
+
+    private static Object[] concat(final Object[] first, final Object[] second) {
+        Object[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    /**
+     * Remove one occurrence of {@code element} from this index, if it is present. Elements
+     * are compared using their {@link Object#equals(Object)} method.
+     *
+     * @param element the element to remove.
+     * @return {@code true} if the element has been removed, {@code false} otherwise.
+     */
+    public boolean remove(final T element) {
+        boolean[] removed = new boolean[1];
+        elementsPerKey.computeIfPresent(mask(keyGen.getKey(element)), (key, elements) -> {
+            for (int i = 0; i < elements.length; i++) {
+                if (Objects.equals(elements[i], element)) {
+                    removed[0] = true;
+                    if (elements.length == 1) {
+                        return null;
+                    }
+                    Object[] result = new Object[elements.length - 1];
+                    System.arraycopy(elements, 0, result, 0, i);
+                    System.arraycopy(elements, i + 1, result, i, elements.length - i - 1);
+                    return result;
+                }
+            }
+            return elements;
+        });
+
+        if (removed[0]) {
+            size.decrementAndGet();
+        }
+        return removed[0];
+    }
+
+    /**
+     * Return the elements indexed for {@code key}, in the order in which they have been added,
+     * or {@code null} if there's no such key. The returned list is an unmodifiable snapshot, which
+     * does not reflect later updates of this index.
+     *
+     * @param key the key to look for.
+     * @return the elements indexed for {@code key}.
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> get(final K key) {
+        Object[] elements = elementsPerKey.get(mask(key));
+        return elements == null ? null : Collections.unmodifiableList(Arrays.asList((T[]) elements));
+    }
+
+    /**
+     * Return {@code true} if at least one element is indexed for {@code key}, {@code false} otherwise.
+     *
+     * @param key the key to look for.
+     * @return {@code true} if at least one element is indexed for {@code key}, {@code false} otherwise.
+     */
+    public boolean containsKey(final K key) {
+        return elementsPerKey.containsKey(mask(key));
+    }
+
+    /**
+     * Return the number of elements of this index.
+     *
+     * @return the number of elements of this index.
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Return the number of distinct keys of this index.
+     *
+     * @return the number of distinct keys of this index.
+     */
+    public int keyCount() {
+        return elementsPerKey.size();
+    }
+
+    /**
+     * Return the function which generates the key of the indexed elements. Note that this method
+     * is package private because outer classes should not use it directly.
+     *
+     * @return the function which generates the key of the indexed elements.
+     */
+    GojulJoinDataKey<K, T> getKeyGen() {
+        return keyGen;
+    }
+
+    /**
+     * Return the snapshot of the elements indexed for {@code key}, or {@code null} if there's no
+     * such key. Unlike {@link #get(Object)} this method does not allocate anything, which makes it
+     * fit for probing. The returned array must not be modified. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @param key the key to look for.
+     * @return the snapshot of the elements indexed for {@code key}.
+     */
+    Object[] getElements(final Object key) {
+        return elementsPerKey.get(mask(key));
+    }
+
+    /**
+     * Call {@code action} for each key of this index along with the snapshot of its elements.
+     * The iteration is weakly consistent : it reflects the updates performed concurrently to some
+     * keys and not to others. Note that this method is package private because outer classes should
+     * not use it directly.
+     *
+     * @param action the action to perform.
+     */
+    void forEachGroup(final BiConsumer<? super K, ? super Object[]> action) {
+        elementsPerKey.forEach((key, elements) -> action.accept(unmask(key), elements));
+    }
+}
@@ -0,0 +1,36 @@
+package org.gojul.gojulutils.data;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Interface {@code GojulJoinSerializer} is in charge of converting the elements to join
+ * to bytes and back, for the JOIN operations which store elements outside of the Java heap,
+ * for example on disk. The serialized form does not need to be self-describing, as the
+ * same serializer is always used in order to read the elements it wrote.
+ *
+ * @param <V> the type of the elements to serialize.
+ * @author jaubin
+ */
+public interface GojulJoinSerializer<V> {
+
+    /**
+     * Write {@code value} to {@code out}.
+     *
+     * @param value the value to write. This value can be {@code null} if the
+     *              elements to join contain {@code null} values.
+     * @param out   the output to write the value to.
+     * @throws IOException if an I/O error occurs while writing the value.
+     */
+    void write(final V value, final DataOutput out) throws IOException;
+
+    /**
+     * Read a value previously written using {@link #write(Object, DataOutput)} from {@code in}.
+     *
+     * @param in the input to read the value from.
+     * @return the value read.
+     * @throws IOException if an I/O error occurs while reading the value.
+     */
+    V read(final DataInput in) throws IOException;
+}
@@ -0,0 +1,75 @@
+package org.gojul.gojulutils.data;
+
+/**
+ * <p>
+ * Interface {@code GojulKeyEquivalence} defines when two JOIN keys are considered equal, along with
+ * the hash function consistent with this definition. It makes it possible to perform JOIN operations
+ * on raw keys, for example ignoring the case or the surrounding whitespace of strings, without having
+ * the {@link GojulJoinData.GojulJoinDataKey} allocate a normalized key for each element.
+ * </p>
+ * <p>As with {@link Object#equals(Object)} and {@link Object#hashCode()}, two equivalent keys must have
+ * the same hash. The {@code null} key is handled by the JOIN operations themselves and is never
+ * passed to the methods of this interface.</p>
+ *
+ * @param <K> the type of the JOIN key.
+ * @see org.gojul.gojulutils.data.GojulJoinData
+ */
+public interface GojulKeyEquivalence<K> {
+
+    /**
+     * Return the hash of {@code key}.
+     *
+     * @param key the key, which is never {@code null}.
+     * @return the hash of {@code key}.
+     */
+    int hash(final K key);
+
+    /**
+     * Return {@code true} if {@code key1} and {@code key2} are equivalent, {@code false} otherwise.
+     *
+     * @param key1 the first key, which is never {@code null}.
+     * @param key2 the second key, which is never {@code null}.
+     * @return {@code true} if {@code key1} and {@code key2} are equivalent, {@code false} otherwise.
+     */
+    boolean equivalent(final K key1, final K key2);
+
+    /**
+     * Return the equivalence which relies on {@link Object#equals(Object)} and {@link Object#hashCode()}.
+     * This is the equivalence used when none is specified.
+     *
+     * @param <K> the type of the JOIN key.
+     * @return the equivalence which relies on {@link Object#equals(Object)} and {@link Object#hashCode()}.
+     */
+    @SuppressWarnings("unchecked")
+    static <K> GojulKeyEquivalence<K> natural() {
+        return (GojulKeyEquivalence<K>) GojulKeyEquivalences.NATURAL;
+    }
+
+    /**
+     * Return the equivalence of strings which ignores the case, as {@link String#equalsIgnoreCase(String)}.
+     *
+     * @return the equivalence of strings which ignores the case.
+     */
+    static GojulKeyEquivalence<String> caseInsensitive() {
+        return GojulKeyEquivalences.CASE_INSENSITIVE;
+    }
+
+    /**
+     * Return the equivalence of strings which ignores leading and trailing whitespace, as
+     * defined by {@link String#trim()}.
+     *
+     * @return the equivalence of strings which ignores leading and trailing whitespace.
+     */
+    static GojulKeyEquivalence<String> trimmed() {
+        return GojulKeyEquivalences.TRIMMED;
+    }
+
+    /**
+     * Return the equivalence of strings which ignores both the case and the leading and trailing whitespace.
+     *
+     * @return the equivalence of strings which ignores both the case and the leading and trailing whitespace.
+     */
+    static GojulKeyEquivalence<String> trimmedCaseInsensitive() {
+        return GojulKeyEquivalences.TRIMMED_CASE_INSENSITIVE;
+    }
+}
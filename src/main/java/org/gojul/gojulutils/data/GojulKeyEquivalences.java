@@ -0,0 +1,90 @@
+package org.gojul.gojulutils.data;
+
+/**
+ * Class {@code GojulKeyEquivalences} contains the implementations of the {@link GojulKeyEquivalence}
+ * instances returned by the static methods of {@link GojulKeyEquivalence}. The string equivalences compute their
+ * hashes and compare their keys character per character, without allocating any normalized string.
+ */
+final class GojulKeyEquivalences {
+
+    final static GojulKeyEquivalence<Object> NATURAL = new GojulKeyEquivalence<Object>() {
+        @Override
+        public int hash(final Object key) {
+            return key.hashCode();
+        }
+
+        @Override
+        public boolean equivalent(final Object key1, final Object key2) {
+            return key1.equals(key2);
+        }
+    };
+
+    final static GojulKeyEquivalence<String> CASE_INSENSITIVE = new StringEquivalence(false, true);
+
+    final static GojulKeyEquivalence<String> TRIMMED = new StringEquivalence(true, false);
+
+    final static GojulKeyEquivalence<String> TRIMMED_CASE_INSENSITIVE = new StringEquivalence(true, true);
+
+    private GojulKeyEquivalences() {
+        // Private constructor. Prevents class from
+        // being instanciated from the outside.
+        throw new IllegalStateException("Shoo away !!!");
+    }
+
+    /**
+     * Class {@code StringEquivalence} is the equivalence of strings which may ignore the case, the
+     * leading and trailing whitespace, or both.
+     */
+    private final static class StringEquivalence implements GojulKeyEquivalence<String> {
+
+        private final boolean trim;
+        private final boolean ignoreCase;
+
+        private StringEquivalence(final boolean trim, final boolean ignoreCase) {
+            this.trim = trim;
+            this.ignoreCase = ignoreCase;
+        }
+
+        private int start(final String key) {
+            int result = 0;
+            if (trim) {
+                while (result < key.length() && key.charAt(result) <= ' ') {
+                    result++;
+                }
+            }
+            return result;
+        }
+
+        private int end(final String key, final int start) {
+            int result = key.length();
+            if (trim) {
+                while (result > start && key.charAt(result - 1) <= ' ') {
+                    result--;
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public int hash(final String key) {
+            int start = start(key);
+            int end = end(key, start);
+            int h = 0;
+            for (int i = start; i < end; i++) {
+                char c = key.charAt(i);
+                // Same folding as String.regionMatches when ignoring the case.
+                h = 31 * h + (ignoreCase ? Character.toLowerCase(Character.toUpperCase(c)) : c);
+            }
+            return h;
+        }
+
+        @Override
+        public boolean equivalent(final String key1, final String key2) {
+            int start1 = start(key1);
+            int length1 = end(key1, start1) - start1;
+            int start2 = start(key2);
+            int length2 = end(key2, start2) - start2;
+            return length1 == length2 && key1.regionMatches(ignoreCase, start1, key2, start2, length1);
+        }
+    }
+}
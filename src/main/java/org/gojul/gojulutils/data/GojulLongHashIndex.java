@@ -0,0 +1,178 @@
+package org.gojul.gojulutils.data;
+
+import java.util.Arrays;
+
+/**
+ * Class {@code GojulLongHashIndex} is an immutable index of elements per {@code long} key. It
+ * is implemented as an open-addressing hash table with linear probing, whose slots point to
+ * ranges of a single packed value array. Thus it neither boxes keys nor allocates any object per
+ * key, unlike a {@code Map<Long, List<V>>}. Within a key, the values are stored in their input order.
+ *
+ * @param <V> the type of the indexed values.
+ */
+final class GojulLongHashIndex<V> {
+
+    private final static float MAX_LOAD_FACTOR = 0.6f;
+
+    private final int mask;
+    private final long[] slotKeys;
+    // slotOffsets[i] to slotOffsets[i + 1] is the range of the values of slot i.
+    // An empty range means the slot is free.
+    private final int[] slotOffsets;
+    private final Object[] values;
+    private final int keyCount;
+
+    /**
+     * Constructor.
+     *
+     * @param keyGen   the function in charge of generating the key of the values.
+     * @param elements the values to index.
+     */
+    GojulLongHashIndex(final GojulPrimitiveJoinData.GojulLongJoinDataKey<V> keyGen, final Iterable<V> elements) {
+        long[] keys = new long[16];
+        Object[] elementValues = new Object[16];
+        int size = 0;
+        for (V element : elements) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                elementValues = Arrays.copyOf(elementValues, size * 2);
+            }
+            keys[size] = keyGen.getKey(element);
+            elementValues[size] = element;
+            size++;
+        }
+
+        // First pass : count the values per key, growing the table as needed.
+        int capacity = 16;
+        long[] tableKeys = new long[capacity];
+        int[] counts = new int[capacity];
+        int distinct = 0;
+        for (int i = 0; i < size; i++) {
+            if (distinct + 1 > capacity * MAX_LOAD_FACTOR) {
+                capacity *= 2;
+                long[] newKeys = new long[capacity];
+                int[] newCounts = new int[capacity];
+                for (int j = 0; j < tableKeys.length; j++) {
+                    if (counts[j] > 0) {
+                        int slot = freeSlot(newKeys, newCounts, tableKeys[j]);
+                        newKeys[slot] = tableKeys[j];
+                        newCounts[slot] = counts[j];
+                    }
+                }
+                tableKeys = newKeys;
+                counts = newCounts;
+            }
+
+            int slot = freeSlot(tableKeys, counts, keys[i]);
+            if (counts[slot] == 0) {
+                tableKeys[slot] = keys[i];
+                distinct++;
+            }
+            counts[slot]++;
+        }
+
+        int[] offsets = new int[capacity + 1];
+        for (int i = 0; i < capacity; i++) {
+            offsets[i + 1] = offsets[i] + counts[i];
+        }
+
+        this.mask = capacity - 1;
+        this.slotKeys = tableKeys;
+        this.slotOffsets = offsets;
+        this.values = new Object[size];
+        this.keyCount = distinct;
+
+        // Second pass : pack the values, reusing the counts array as fill positions.
+        System.arraycopy(offsets, 0, counts, 0, capacity);
+        for (int i = 0; i < size; i++) {
+            int slot = find(keys[i]);
+            values[counts[slot]++] = elementValues[i];
+        }
+    }
+
+    /**
+     * Return the slot containing {@code key}, or the first free slot found while probing.
+     */
+    private static int freeSlot(final long[] keys, final int[] counts, final long key) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (counts[slot] != 0) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int hash(final long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Return the slot of {@code key}, or {@code -1} if no value has this key.
+     *
+     * @param key the key to look for.
+     * @return the slot of {@code key}, or {@code -1} if no value has this key.
+     */
+    int find(final long key) {
+        int slot = hash(key) & mask;
+        while (slotOffsets[slot + 1] != slotOffsets[slot]) {
+            if (slotKeys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Return the index of the first value of slot {@code slot}.
+     *
+     * @param slot the slot, as returned by {@link #find(long)}.
+     * @return the index of the first value of slot {@code slot}.
+     */
+    int start(final int slot) {
+        return slotOffsets[slot];
+    }
+
+    /**
+     * Return the index following the last value of slot {@code slot}.
+     *
+     * @param slot the slot, as returned by {@link #find(long)}.
+     * @return the index following the last value of slot {@code slot}.
+     */
+    int end(final int slot) {
+        return slotOffsets[slot + 1];
+    }
+
+    /**
+     * Return the value at index {@code index}.
+     *
+     * @param index the index of the value.
+     * @return the value at index {@code index}.
+     */
+    @SuppressWarnings("unchecked")
+    V valueAt(final int index) {
+        return (V) values[index];
+    }
+
+    /**
+     * Return the number of distinct keys of this index.
+     *
+     * @return the number of distinct keys of this index.
+     */
+    int keyCount() {
+        return keyCount;
+    }
+
+    /**
+     * Return the number of values of this index.
+     *
+     * @return the number of values of this index.
+     */
+    int size() {
+        return values.length;
+    }
+}
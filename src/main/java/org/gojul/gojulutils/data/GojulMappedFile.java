@@ -0,0 +1,155 @@
+package org.gojul.gojulutils.data;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Class {@code GojulMappedFile} maps a whole file in memory for random reads. The file is mapped window
+ * per window, so that files bigger than what a single {@link MappedByteBuffer} can address are supported
+ * as well. The primitive reads are absolute and the streams read their own view of the windows, so that
+ * this class can be read concurrently by several threads. As closing the file unmaps its windows, the
+ * callers must ensure that it is not read anymore, through any of its streams either, once closed.
+ */
+final class GojulMappedFile implements Closeable {
+
+    /**
+     * Size of the mapped windows. Values read with {@link #getInt(long)} or {@link #getLong(long)} must
+     * not cross a window boundary, which is the case as long as they're aligned on their size.
+     */
+    final static long WINDOW_SIZE = 1L << 30;
+
+    private final FileChannel channel;
+    private final long size;
+    private volatile MappedByteBuffer[] windows;
+
+    /**
+     * Constructor.
+     *
+     * @param file the file to map.
+     * @throws IOException if the file cannot be opened or mapped.
+     */
+    GojulMappedFile(final Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            this.size = channel.size();
+            int windowCount = (int) ((size + WINDOW_SIZE - 1L) / WINDOW_SIZE);
+            MappedByteBuffer[] mapped = new MappedByteBuffer[windowCount];
+            for (int i = 0; i < windowCount; i++) {
+                long position = i * WINDOW_SIZE;
+                mapped[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(WINDOW_SIZE, size - position));
+            }
+            this.windows = mapped;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private MappedByteBuffer[] windows() {
+        MappedByteBuffer[] result = windows;
+        if (result == null) {
+            throw new IllegalStateException("The file has been closed");
+        }
+        return result;
+    }
+
+    /**
+     * Return the size of the file.
+     *
+     * @return the size of the file.
+     */
+    long size() {
+        return size;
+    }
+
+    /**
+     * Return the {@code int} at position {@code position}.
+     *
+     * @param position the position in the file.
+     * @return the {@code int} at position {@code position}.
+     */
+    int getInt(final long position) {
+        return windows()[(int) (position / WINDOW_SIZE)].getInt((int) (position % WINDOW_SIZE));
+    }
+
+    /**
+     * Return the {@code long} at position {@code position}.
+     *
+     * @param position the position in the file.
+     * @return the {@code long} at position {@code position}.
+     */
+    long getLong(final long position) {
+        return windows()[(int) (position / WINDOW_SIZE)].getLong((int) (position % WINDOW_SIZE));
+    }
+
+    /**
+     * Return a stream which reads the file from position {@code position}.
+     *
+     * @param position the position in the file.
+     * @return a stream which reads the file from position {@code position}.
+     */
+    InputStream openStream(final long position) {
+        MappedByteBuffer[] mapped = windows();
+        return new InputStream() {
+            private int windowIndex = (int) (position / WINDOW_SIZE);
+            private ByteBuffer window = view(windowIndex, (int) (position % WINDOW_SIZE));
+
+            private ByteBuffer view(final int index, final int offset) {
+                if (index >= mapped.length) {
+                    return null;
+                }
+                ByteBuffer result = mapped[index].duplicate();
+                result.position(offset);
+                return result;
+            }
+
+            private boolean ensureAvailable() {
+                while (window != null && !window.hasRemaining()) {
+                    window = view(++windowIndex, 0);
+                }
+                return window != null;
+            }
+
+            @Override
+            public int read() {
+                return ensureAvailable() ? window.get() & 0xFF : -1;
+            }
+
+            @Override
+            public int read(final byte[] b, final int off, final int len) {
+                if (len == 0) {
+                    return 0;
+                }
+                if (!ensureAvailable()) {
+                    return -1;
+                }
+                int count = Math.min(len, window.remaining());
+                window.get(b, off, count);
+                return count;
+            }
+        };
+    }
+
+    /**
+     * Close the file and unmap its windows. Closing a file which is already closed has no effect.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        MappedByteBuffer[] mapped = windows;
+        windows = null;
+        if (mapped != null) {
+            for (MappedByteBuffer window : mapped) {
+                GojulOffHeapMemory.release(window);
+            }
+        }
+        channel.close();
+    }
+}
@@ -0,0 +1,93 @@
+package org.gojul.gojulutils.data;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Class {@code GojulMappedInputStream} reads a file sequentially through memory mapping. The
+ * file is mapped window per window, so that files bigger than what a single {@link MappedByteBuffer}
+ * can address are supported as well. Each window is unmapped as soon as it has been read, so that
+ * closing the stream releases the file.
+ */
+final class GojulMappedInputStream extends InputStream {
+
+    private final static long WINDOW_SIZE = 64L * 1024L * 1024L;
+
+    private final FileChannel channel;
+    private final long size;
+    private long position;
+    private MappedByteBuffer buffer;
+
+    /**
+     * Constructor.
+     *
+     * @param file the file to read.
+     * @throws IOException if the file cannot be opened.
+     */
+    GojulMappedInputStream(final Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.size = channel.size();
+    }
+
+    private boolean ensureAvailable() throws IOException {
+        if (buffer != null && buffer.hasRemaining()) {
+            return true;
+        }
+        if (position >= size) {
+            return false;
+        }
+        releaseBuffer();
+        long length = Math.min(WINDOW_SIZE, size - position);
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        position += length;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read() throws IOException {
+        return ensureAvailable() ? buffer.get() & 0xFF : -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensureAvailable()) {
+            return -1;
+        }
+        int count = Math.min(len, buffer.remaining());
+        buffer.get(b, off, count);
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        releaseBuffer();
+        channel.close();
+    }
+
+    /**
+     * Unmap the current window, so that the file can be deleted as soon as the stream is closed, which
+     * would fail on some platforms while the file is still mapped.
+     */
+    private void releaseBuffer() {
+        if (buffer != null) {
+            GojulOffHeapMemory.release(buffer);
+            buffer = null;
+        }
+    }
+}
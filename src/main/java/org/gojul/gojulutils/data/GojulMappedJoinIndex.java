@@ -0,0 +1,366 @@
+package org.gojul.gojulutils.data;
+
+import org.gojul.gojulutils.data.GojulJoinData.GojulJoinDataKey;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * Class {@code GojulMappedJoinIndex} is a read-only index of elements per JOIN key which is stored
+ * in a file, so that it can be built once and then reopened almost instantly, for example after
+ * each restart of a JVM, instead of being rebuilt from its elements. The file contains a hash table
+ * of the keys followed by the serialized elements of each key, and is memory mapped when the index
+ * is opened : probes read the hash table and deserialize the elements directly from the mapped
+ * region, so that the elements of the index do not live in the Java heap.
+ * </p>
+ * <p>As the hash table is built once and for all, the hash code of the keys must be the same from
+ * one JVM to the other, which is the case for strings, boxed primitives, enums names and so on, but
+ * not for the classes which rely on the default {@link Object#hashCode()} implementation. A
+ * {@code null} key is a regular key.</p>
+ * <p>Once opened, this class is thread-safe : probing an index which has been closed throws an
+ * {@link IllegalStateException}, while closing an index waits for the running probes to complete.
+ * For this reason the actions passed to the probes must not close the index themselves.</p>
+ *
+ * @param <K> the type of the JOIN key.
+ * @param <T> the type of the indexed elements.
+ * @see org.gojul.gojulutils.data.GojulMappedJoinData
+ */
+public final class GojulMappedJoinIndex<K, T> implements Closeable {
+
+    private final static int MAGIC = 0x474A4D49;
+    private final static int VERSION = 1;
+
+    // Header layout : magic, version, key count, element count, table offset, table size.
+    private final static int HEADER_SIZE = 40;
+    private final static int KEY_COUNT_POSITION = 8;
+    private final static int ELEMENT_COUNT_POSITION = 16;
+    private final static int TABLE_OFFSET_POSITION = 24;
+    private final static int TABLE_SIZE_POSITION = 32;
+
+    // Each slot of the hash table contains the offset of the key block, 0 for an empty slot,
+    // followed by the hash of the key and padding.
+    private final static int SLOT_SIZE = 16;
+
+    private final GojulMappedFile file;
+    private final GojulJoinSerializer<K> keySerializer;
+    private final GojulJoinSerializer<T> elementSerializer;
+    private final long keyCount;
+    private final long elementCount;
+    private final long tableOffset;
+    private final int tableMask;
+    // Guards the mapped file, which must not be unmapped while it is being probed.
+    private final ReadWriteLock lock;
+
+    private boolean closed;
+
+    private GojulMappedJoinIndex(final GojulMappedFile file, final GojulJoinSerializer<K> keySerializer,
+                                 final GojulJoinSerializer<T> elementSerializer) throws IOException {
+        this.file = file;
+        this.keySerializer = keySerializer;
+        this.elementSerializer = elementSerializer;
+        this.lock = new ReentrantReadWriteLock();
+
+        if (file.size() < HEADER_SIZE || file.getInt(0L) != MAGIC) {
+            throw new IOException("The file is not a join index");
+        }
+        if (file.getInt(4L) != VERSION) {
+            throw new IOException("Unsupported join index version " + file.getInt(4L));
+        }
+        this.keyCount = file.getLong(KEY_COUNT_POSITION);
+        this.elementCount = file.getLong(ELEMENT_COUNT_POSITION);
+        this.tableOffset = file.getLong(TABLE_OFFSET_POSITION);
+        int tableSize = file.getInt(TABLE_SIZE_POSITION);
+        if (Integer.bitCount(tableSize) != 1 || tableOffset + (long) tableSize * SLOT_SIZE > file.size()) {
+            throw new IOException("The join index file is corrupted");
+        }
+        this.tableMask = tableSize - 1;
+    }
+
+    /**
+     * Write the index of {@code elements} per key to {@code file}, replacing its previous content if any.
+     * The index can then be opened as many times as needed with
+     * {@link #open(Path, GojulJoinSerializer, GojulJoinSerializer)}. The elements are grouped in memory
+     * before being written, and the elements of each key keep their input order. The header of the file is
+     * written last, once the rest of the file has been flushed to the storage device, so that a file whose
+     * writing did not complete cannot be opened, even after a crash.
+     *
+     * @param file              the file to write.
+     * @param keyGen            the function in charge of generating the key of the elements.
+     * @param elements          the elements to index.
+     * @param keySerializer     the serializer of the keys.
+     * @param elementSerializer the serializer of the elements.
+     * @param <K>               the type of the JOIN key.
+     * @param <T>               the type of the indexed elements.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     * @throws IOException          if an I/O error occurs while writing the file.
+     */
+    public static <K, T> void write(final Path file, final GojulJoinDataKey<K, T> keyGen, final Iterable<T> elements,
+                                    final GojulJoinSerializer<K> keySerializer,
+                                    final GojulJoinSerializer<T> elementSerializer) throws IOException {
+        Objects.requireNonNull(file, "file is null");
+        Objects.requireNonNull(keyGen, "keyGen is null");
+        Objects.requireNonNull(elements, "elements is null");
+        Objects.requireNonNull(keySerializer, "keySerializer is null");
+        Objects.requireNonNull(elementSerializer, "elementSerializer is null");
+
+        Map<K, List<T>> groups = new LinkedHashMap<>();
+        long elementCount = 0L;
+        for (T element : elements) {
+            groups.computeIfAbsent(keyGen.getKey(element), k -> new ArrayList<>()).add(element);
+            elementCount++;
+        }
+
+        int tableSize = 2;
+        while (tableSize < 2L * groups.size()) {
+            tableSize <<= 1;
+        }
+        long[] offsets = new long[tableSize];
+        int[] hashes = new int[tableSize];
+
+        long tableOffset;
+        try (CountingOutputStream counter = new CountingOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(file)));
+             DataOutputStream out = new DataOutputStream(counter)) {
+            out.write(new byte[HEADER_SIZE]);
+
+            for (Map.Entry<K, List<T>> group : groups.entrySet()) {
+                int hash = Objects.hashCode(group.getKey());
+                int slot = slotOf(hash, tableSize - 1);
+                while (offsets[slot] != 0L) {
+                    slot = (slot + 1) & (tableSize - 1);
+                }
+                offsets[slot] = counter.count;
+                hashes[slot] = hash;
+
+                keySerializer.write(group.getKey(), out);
+                out.writeInt(group.getValue().size());
+                for (T element : group.getValue()) {
+                    elementSerializer.write(element, out);
+                }
+            }
+
+            // Aligning the table ensures that no slot crosses a window of the mapped file.
+            while (counter.count % SLOT_SIZE != 0L) {
+                out.write(0);
+            }
+            tableOffset = counter.count;
+            for (int i = 0; i < tableSize; i++) {
+                out.writeLong(offsets[i]);
+                out.writeInt(hashes[i]);
+                out.writeInt(0);
+            }
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(VERSION).putLong(groups.size()).putLong(elementCount)
+                .putLong(tableOffset).putInt(tableSize);
+        header.rewind();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            // Otherwise the header could reach the storage device before the data it validates.
+            channel.force(true);
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Open the index stored in {@code file}, which must have been written by
+     * {@link #write(Path, GojulJoinDataKey, Iterable, GojulJoinSerializer, GojulJoinSerializer)} with the
+     * same serializers. The file is memory mapped and must not be modified while the index is open.
+     *
+     * @param file              the file to open.
+     * @param keySerializer     the serializer of the keys.
+     * @param elementSerializer the serializer of the elements.
+     * @param <K>               the type of the JOIN key.
+     * @param <T>               the type of the indexed elements.
+     * @return the index.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     * @throws IOException          if the file cannot be read, or if it is not a valid index file.
+     */
+    public static <K, T> GojulMappedJoinIndex<K, T> open(final Path file, final GojulJoinSerializer<K> keySerializer,
+                                                         final GojulJoinSerializer<T> elementSerializer)
+            throws IOException {
+        Objects.requireNonNull(file, "file is null");
+        Objects.requireNonNull(keySerializer, "keySerializer is null");
+        Objects.requireNonNull(elementSerializer, "elementSerializer is null");
+
+        GojulMappedFile mappedFile = new GojulMappedFile(file);
+        try {
+            return new GojulMappedJoinIndex<>(mappedFile, keySerializer, elementSerializer);
+        } catch (IOException | RuntimeException e) {
+            mappedFile.close();
+            throw e;
+        }
+    }
+
+    private static int slotOf(final int hash, final int mask) {
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    /**
+     * Call {@code action} for each element indexed under {@code key}, in their input order.
+     *
+     * @param key    the key.
+     * @param action the action to perform.
+     * @return {@code true} if the key is indexed, {@code false} otherwise.
+     * @throws UncheckedIOException  if an I/O error occurs while reading the elements.
+     * @throws IllegalStateException if the index has been closed.
+     */
+    boolean forEach(final K key, final Consumer<? super T> action) {
+        lock.readLock().lock();
+        try {
+            checkOpen();
+            DataInputStream in = find(key);
+            if (in == null) {
+                return false;
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                action.accept(elementSerializer.read(in));
+            }
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error while reading the join index", e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("The index has been closed");
+        }
+    }
+
+    /**
+     * Return a stream positioned after the key block of {@code key}, or {@code null} if {@code key}
+     * is not indexed.
+     */
+    private DataInputStream find(final K key) {
+        int hash = Objects.hashCode(key);
+        int slot = slotOf(hash, tableMask);
+        try {
+            while (true) {
+                long slotPosition = tableOffset + (long) slot * SLOT_SIZE;
+                long offset = file.getLong(slotPosition);
+                if (offset == 0L) {
+                    return null;
+                }
+                if (file.getInt(slotPosition + 8L) == hash) {
+                    DataInputStream in = new DataInputStream(file.openStream(offset));
+                    if (Objects.equals(key, keySerializer.read(in))) {
+                        return in;
+                    }
+                }
+                slot = (slot + 1) & tableMask;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error while reading the join index", e);
+        }
+    }
+
+    /**
+     * Return the elements indexed under {@code key}, in their input order. The elements are
+     * deserialized each time this method is called.
+     *
+     * @param key the key, which may be {@code null}.
+     * @return the elements indexed under {@code key}, or an empty list if there's none.
+     * @throws UncheckedIOException  if an I/O error occurs while reading the elements.
+     * @throws IllegalStateException if the index has been closed.
+     */
+    public List<T> get(final K key) {
+        List<T> result = new ArrayList<>();
+        forEach(key, result::add);
+        return result;
+    }
+
+    /**
+     * Return {@code true} if some elements are indexed under {@code key}, {@code false} otherwise.
+     *
+     * @param key the key, which may be {@code null}.
+     * @return {@code true} if some elements are indexed under {@code key}, {@code false} otherwise.
+     * @throws UncheckedIOException  if an I/O error occurs while reading the keys.
+     * @throws IllegalStateException if the index has been closed.
+     */
+    public boolean containsKey(final K key) {
+        lock.readLock().lock();
+        try {
+            checkOpen();
+            return find(key) != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Return the number of elements in this index.
+     *
+     * @return the number of elements in this index.
+     */
+    public long size() {
+        return elementCount;
+    }
+
+    /**
+     * Return the number of distinct keys in this index.
+     *
+     * @return the number of distinct keys in this index.
+     */
+    public long keyCount() {
+        return keyCount;
+    }
+
+    /**
+     * Unmap the file of this index, after the running probes complete. Closing an index which is
+     * already closed has no effect.
+     *
+     * @throws IOException if an I/O error occurs while closing the file.
+     */
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (!closed) {
+                closed = true;
+                file.close();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Output stream which counts the bytes written, as {@link DataOutputStream#size()} overflows past 2GB.
+     */
+    private final static class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        private CountingOutputStream(final OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
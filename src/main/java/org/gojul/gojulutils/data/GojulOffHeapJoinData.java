@@ -0,0 +1,78 @@
+package org.gojul.gojulutils.data;
+
+import org.gojul.gojulutils.data.GojulJoinData.GojulJoinDataKey;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * Class {@code GojulOffHeapJoinData} contains the data required in order to perform a JOIN
+ * operation against a {@link GojulOffHeapJoinIndex} : the left elements are kept as is and iterated
+ * in their input order when the JOIN is performed, while the right elements are decoded from the
+ * off-heap index for each probe. Creating an instance of this class is thus almost free, and
+ * the same index can be shared by many instances, used concurrently.
+ * </p>
+ * <p>As the left elements are iterated each time a JOIN is performed, their {@link Iterable} must
+ * support being iterated several times if you intend to perform several JOIN operations with the
+ * same instance. The index must remain open while the JOIN operations are performed.</p>
+ *
+ * @param <K> the type of the JOIN key.
+ * @param <S> the type of the first object to join.
+ * @param <T> the type of the second object to join.
+ * @see org.gojul.gojulutils.data.GojulJoinDataService
+ */
+public class GojulOffHeapJoinData<K, S, T> {
+
+    private final GojulJoinDataKey<K, S> leftKey;
+    private final Iterable<S> leftElements;
+    private final GojulOffHeapJoinIndex<K, T> rightIndex;
+
+    /**
+     * Constructor.
+     *
+     * @param leftKey      the function in charge of generating the key for the left elements to join.
+     * @param leftElements the left elements to join.
+     * @param rightIndex   the index of the right elements to join.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     */
+    public GojulOffHeapJoinData(final GojulJoinDataKey<K, S> leftKey, final Iterable<S> leftElements,
+                                final GojulOffHeapJoinIndex<K, T> rightIndex) {
+        Objects.requireNonNull(leftKey, "leftKey is null");
+        Objects.requireNonNull(leftElements, "leftElements is null");
+        Objects.requireNonNull(rightIndex, "rightIndex is null");
+
+        this.leftKey = leftKey;
+        this.leftElements = leftElements;
+        this.rightIndex = rightIndex;
+    }
+
+    /**
+     * Return the function which generates the key of the left elements. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the function which generates the key of the left elements.
+     */
+    GojulJoinDataKey<K, S> getLeftKey() {
+        return leftKey;
+    }
+
+    /**
+     * Return the left elements, in their input order. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the left elements, in their input order.
+     */
+    Iterable<S> getLeftElements() {
+        return leftElements;
+    }
+
+    /**
+     * Return the index of the right elements. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the index of the right elements.
+     */
+    GojulOffHeapJoinIndex<K, T> getRightIndex() {
+        return rightIndex;
+    }
+}
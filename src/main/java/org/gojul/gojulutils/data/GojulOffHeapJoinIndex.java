@@ -0,0 +1,343 @@
+package org.gojul.gojulutils.data;
+
+import org.gojul.gojulutils.data.GojulJoinData.GojulJoinDataKey;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * Class {@code GojulOffHeapJoinIndex} is a read-only index of elements per JOIN key which is stored
+ * outside of the Java heap, in direct {@link java.nio.ByteBuffer}s. Both the hash table of the keys and
+ * the elements, encoded with the supplied serializers, are stored off-heap, so that a big build side does
+ * not create the millions of small objects which make the garbage collector pause for long, as the
+ * maps and lists of a {@link GojulJoinData} do. The elements are deserialized each time they are probed.
+ * </p>
+ * <p>The off-heap memory is released as soon as the index is closed, which must thus be done once the
+ * index is not used anymore. Once built, this class is thread-safe : probing an index which has been
+ * closed throws an {@link IllegalStateException}, while closing an index waits for the running probes to
+ * complete. For this reason the actions passed to the probes must not close the index themselves.</p>
+ *
+ * @param <K> the type of the JOIN key.
+ * @param <T> the type of the indexed elements.
+ * @see org.gojul.gojulutils.data.GojulOffHeapJoinData
+ */
+public final class GojulOffHeapJoinIndex<K, T> implements Closeable {
+
+    // Each key block contains the offset of its first and last element records, followed by
+    // the element count, padding, and the serialized key.
+    private final static int KEY_HEADER_SIZE = 24;
+    private final static int FIRST_ELEMENT = 0;
+    private final static int LAST_ELEMENT = 8;
+    private final static int ELEMENT_COUNT = 16;
+
+    // Each element record contains the offset of the next element record of the same key, 0 for
+    // the last one, followed by the serialized element.
+    private final static int ELEMENT_HEADER_SIZE = 8;
+
+    // Each slot of the hash table contains the offset of the key block, 0 for an empty slot,
+    // followed by the hash of the key and padding.
+    private final static int SLOT_SIZE = 16;
+
+    // The size of the first chunk of the region of the key blocks and element records, the
+    // following chunks growing geometrically, so that small indexes remain small.
+    private final static int INITIAL_DATA_CHUNK_SIZE = 1 << 12;
+
+    private final GojulJoinSerializer<K> keySerializer;
+    private final GojulJoinSerializer<T> elementSerializer;
+    private final GojulOffHeapMemory data;
+    private final ReadWriteLock lock;
+    private GojulOffHeapMemory table;
+    private int tableMask;
+    private long keyCount;
+    private long elementCount;
+    private boolean closed;
+
+    /**
+     * Constructor. The elements are encoded and copied off-heap as they are iterated, and
+     * the elements of each key keep their input order.
+     *
+     * @param keyGen            the function in charge of generating the key of the elements.
+     * @param elements          the elements to index.
+     * @param keySerializer     the serializer of the keys.
+     * @param elementSerializer the serializer of the elements.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     * @throws UncheckedIOException if a serializer fails.
+     */
+    public GojulOffHeapJoinIndex(final GojulJoinDataKey<K, T> keyGen, final Iterable<T> elements,
+                                 final GojulJoinSerializer<K> keySerializer,
+                                 final GojulJoinSerializer<T> elementSerializer) {
+        Objects.requireNonNull(keyGen, "keyGen is null");
+        Objects.requireNonNull(elements, "elements is null");
+        Objects.requireNonNull(keySerializer, "keySerializer is null");
+        Objects.requireNonNull(elementSerializer, "elementSerializer is null");
+
+        this.keySerializer = keySerializer;
+        this.elementSerializer = elementSerializer;
+        this.data = new GojulOffHeapMemory(INITIAL_DATA_CHUNK_SIZE, GojulOffHeapMemory.DEFAULT_CHUNK_SIZE);
+        this.lock = new ReentrantReadWriteLock();
+
+        try {
+            // Offset 0 is never a key block nor an element record, so that it can be used as a null offset.
+            data.allocate(8L);
+            allocateTable(16);
+            Buffer buffer = new Buffer();
+            DataOutputStream out = new DataOutputStream(buffer);
+            GojulOffHeapMemory.RegionStream stream = data.openStream(0L);
+            DataInputStream in = new DataInputStream(stream);
+            for (T element : elements) {
+                add(keyGen.getKey(element), element, buffer, out, stream, in);
+            }
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException("Error while encoding the elements", e);
+        } catch (RuntimeException | Error e) {
+            close();
+            throw e;
+        }
+    }
+
+    private void allocateTable(final int tableSize) {
+        // The table size is a power of 2, so that the region fits the table exactly.
+        long tableBytes = (long) tableSize * SLOT_SIZE;
+        table = new GojulOffHeapMemory((int) Math.min(tableBytes, GojulOffHeapMemory.DEFAULT_CHUNK_SIZE),
+                GojulOffHeapMemory.DEFAULT_CHUNK_SIZE);
+        table.allocate(tableBytes);
+        tableMask = tableSize - 1;
+    }
+
+    private static int slotOf(final int hash, final int mask) {
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private long slotPosition(final int slot) {
+        return (long) slot * SLOT_SIZE;
+    }
+
+    private void add(final K key, final T element, final Buffer buffer, final DataOutputStream out,
+                     final GojulOffHeapMemory.RegionStream stream, final DataInputStream in) throws IOException {
+        int hash = Objects.hashCode(key);
+        long keyBlock = find(key, hash, stream, in);
+        if (keyBlock == 0L) {
+            buffer.reset();
+            keySerializer.write(key, out);
+            out.flush();
+            keyBlock = data.allocate(KEY_HEADER_SIZE + buffer.size());
+            data.put(keyBlock + KEY_HEADER_SIZE, buffer.buffer(), 0, buffer.size());
+            insert(keyBlock, hash);
+            if (++keyCount * 2L > tableMask + 1L) {
+                grow();
+            }
+        }
+
+        buffer.reset();
+        elementSerializer.write(element, out);
+        out.flush();
+        long record = data.allocate(ELEMENT_HEADER_SIZE + buffer.size());
+        data.put(record + ELEMENT_HEADER_SIZE, buffer.buffer(), 0, buffer.size());
+
+        if (data.getInt(keyBlock + ELEMENT_COUNT) == 0) {
+            data.putLong(keyBlock + FIRST_ELEMENT, record);
+        } else {
+            data.putLong(data.getLong(keyBlock + LAST_ELEMENT), record);
+        }
+        data.putLong(keyBlock + LAST_ELEMENT, record);
+        data.putInt(keyBlock + ELEMENT_COUNT, data.getInt(keyBlock + ELEMENT_COUNT) + 1);
+        elementCount++;
+    }
+
+    private void insert(final long keyBlock, final int hash) {
+        int slot = slotOf(hash, tableMask);
+        while (table.getLong(slotPosition(slot)) != 0L) {
+            slot = (slot + 1) & tableMask;
+        }
+        table.putLong(slotPosition(slot), keyBlock);
+        table.putInt(slotPosition(slot) + 8L, hash);
+    }
+
+    private void grow() {
+        GojulOffHeapMemory oldTable = table;
+        int oldTableSize = tableMask + 1;
+
+        allocateTable(oldTableSize * 2);
+        for (int i = 0; i < oldTableSize; i++) {
+            long position = (long) i * SLOT_SIZE;
+            long keyBlock = oldTable.getLong(position);
+            if (keyBlock != 0L) {
+                insert(keyBlock, oldTable.getInt(position + 8L));
+            }
+        }
+        oldTable.close();
+    }
+
+    /**
+     * Return the offset of the key block of {@code key}, or 0 if {@code key} is not indexed. The keys are
+     * read through {@code in}, which reads {@code stream}, so that a probe reuses the same stream for all
+     * the blocks it reads.
+     */
+    private long find(final K key, final int hash, final GojulOffHeapMemory.RegionStream stream,
+                      final DataInputStream in) throws IOException {
+        int slot = slotOf(hash, tableMask);
+        while (true) {
+            long position = slotPosition(slot);
+            long keyBlock = table.getLong(position);
+            if (keyBlock == 0L) {
+                return 0L;
+            }
+            if (table.getInt(position + 8L) == hash) {
+                stream.seek(keyBlock + KEY_HEADER_SIZE);
+                if (Objects.equals(key, keySerializer.read(in))) {
+                    return keyBlock;
+                }
+            }
+            slot = (slot + 1) & tableMask;
+        }
+    }
+
+    /**
+     * Call {@code action} for each element indexed under {@code key}, in their input order.
+     *
+     * @param key    the key.
+     * @param action the action to perform.
+     * @return {@code true} if the key is indexed, {@code false} otherwise.
+     * @throws UncheckedIOException  if a serializer fails.
+     * @throws IllegalStateException if the index has been closed.
+     */
+    boolean forEach(final K key, final Consumer<? super T> action) {
+        lock.readLock().lock();
+        try {
+            checkOpen();
+            GojulOffHeapMemory.RegionStream stream = data.openStream(0L);
+            DataInputStream in = new DataInputStream(stream);
+            long keyBlock = find(key, Objects.hashCode(key), stream, in);
+            if (keyBlock == 0L) {
+                return false;
+            }
+            long record = data.getLong(keyBlock + FIRST_ELEMENT);
+            while (record != 0L) {
+                stream.seek(record + ELEMENT_HEADER_SIZE);
+                action.accept(elementSerializer.read(in));
+                record = data.getLong(record);
+            }
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error while decoding the elements", e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("The index has been closed");
+        }
+    }
+
+    /**
+     * Return the elements indexed under {@code key}, in their input order. The elements are
+     * deserialized each time this method is called.
+     *
+     * @param key the key, which may be {@code null}.
+     * @return the elements indexed under {@code key}, or an empty list if there's none.
+     * @throws UncheckedIOException  if a serializer fails.
+     * @throws IllegalStateException if the index has been closed.
+     */
+    public List<T> get(final K key) {
+        List<T> result = new ArrayList<>();
+        forEach(key, result::add);
+        return result;
+    }
+
+    /**
+     * Return {@code true} if some elements are indexed under {@code key}, {@code false} otherwise.
+     *
+     * @param key the key, which may be {@code null}.
+     * @return {@code true} if some elements are indexed under {@code key}, {@code false} otherwise.
+     * @throws UncheckedIOException  if the key serializer fails.
+     * @throws IllegalStateException if the index has been closed.
+     */
+    public boolean containsKey(final K key) {
+        lock.readLock().lock();
+        try {
+            checkOpen();
+            GojulOffHeapMemory.RegionStream stream = data.openStream(0L);
+            return find(key, Objects.hashCode(key), stream, new DataInputStream(stream)) != 0L;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error while decoding the keys", e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Return the number of elements in this index.
+     *
+     * @return the number of elements in this index.
+     */
+    public long size() {
+        return elementCount;
+    }
+
+    /**
+     * Return the number of distinct keys in this index.
+     *
+     * @return the number of distinct keys in this index.
+     */
+    public long keyCount() {
+        return keyCount;
+    }
+
+    /**
+     * Return the number of off-heap bytes reserved by this index, or 0 once it is closed.
+     *
+     * @return the number of off-heap bytes reserved by this index.
+     */
+    public long getReservedBytes() {
+        lock.readLock().lock();
+        try {
+            return closed ? 0L : data.getReservedBytes() + table.getReservedBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Release the off-heap memory of this index, after the running probes complete. Closing an index
+     * which is already closed has no effect.
+     */
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            if (!closed) {
+                closed = true;
+                data.close();
+                if (table != null) {
+                    table.close();
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reusable buffer in which the keys and elements are encoded before being copied off-heap.
+     */
+    private final static class Buffer extends ByteArrayOutputStream {
+
+        private byte[] buffer() {
+            return buf;
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package org.gojul.gojulutils.data;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class {@code GojulOffHeapMemory} is an append-only memory region made of direct {@link ByteBuffer}
+ * chunks, which lives outside of the Java heap and is thus neither scanned nor copied by the garbage
+ * collector. The first chunk has a given initial size, and each following chunk is twice as big as the
+ * previous one until the maximum chunk size is reached, so that small regions do not reserve much more
+ * memory than they use while big regions do not use too many chunks. Space is allocated by blocks
+ * aligned on 8 bytes, so that the {@code long} and {@code int} values written at the start of the blocks
+ * never cross a chunk, while the rest of the blocks may span several chunks. The memory is released when
+ * the region is closed. This class is not thread-safe while written, but can be read concurrently once
+ * written, as long as it is not closed concurrently.
+ */
+final class GojulOffHeapMemory implements AutoCloseable {
+
+    private final static Logger log = LoggerFactory.getLogger(GojulOffHeapMemory.class);
+
+    /**
+     * The default maximum size of the chunks.
+     */
+    final static int DEFAULT_CHUNK_SIZE = 1 << 26;
+
+    private final int initialChunkShift;
+    private final int maxChunkShift;
+    // The chunks before this index grow geometrically, the following ones have the maximum size.
+    private final int geometricChunkCount;
+    private final long geometricSize;
+    private final List<ByteBuffer> chunks;
+    private long reservedBytes;
+    private long size;
+    private volatile boolean closed;
+
+    /**
+     * Constructor. All the chunks have the same size.
+     *
+     * @param chunkSize the size of the chunks, which must be a power of 2 greater than or equal to 8.
+     */
+    GojulOffHeapMemory(final int chunkSize) {
+        this(chunkSize, chunkSize);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param initialChunkSize the size of the first chunk, which must be a power of 2 greater than or
+     *                         equal to 8.
+     * @param maxChunkSize     the maximum size of the chunks, which must be a power of 2 greater than or
+     *                         equal to {@code initialChunkSize}.
+     */
+    GojulOffHeapMemory(final int initialChunkSize, final int maxChunkSize) {
+        this.initialChunkShift = Integer.numberOfTrailingZeros(initialChunkSize);
+        this.maxChunkShift = Integer.numberOfTrailingZeros(maxChunkSize);
+        this.geometricChunkCount = maxChunkShift - initialChunkShift;
+        this.geometricSize = ((1L << geometricChunkCount) - 1L) << initialChunkShift;
+        this.chunks = new ArrayList<>();
+    }
+
+    /**
+     * Return the index of the chunk which contains position {@code position}.
+     */
+    private int chunkIndex(final long position) {
+        if (position < geometricSize) {
+            // Chunk i starts at initialChunkSize * (2^i - 1).
+            return 63 - Long.numberOfLeadingZeros((position >>> initialChunkShift) + 1L);
+        }
+        return geometricChunkCount + (int) ((position - geometricSize) >>> maxChunkShift);
+    }
+
+    private long chunkStart(final int index) {
+        if (index < geometricChunkCount) {
+            return ((1L << index) - 1L) << initialChunkShift;
+        }
+        return geometricSize + ((long) (index - geometricChunkCount) << maxChunkShift);
+    }
+
+    private ByteBuffer chunk(final int index) {
+        if (closed) {
+            throw new IllegalStateException("The memory has been released");
+        }
+        return chunks.get(index);
+    }
+
+    /**
+     * Return a view of the chunk which contains position {@code position}, positioned on it.
+     */
+    private ByteBuffer view(final long position) {
+        int index = chunkIndex(position);
+        ByteBuffer result = chunk(index).duplicate();
+        result.position((int) (position - chunkStart(index)));
+        return result;
+    }
+
+    /**
+     * Allocate a block of {@code length} bytes, initialized with zeros.
+     *
+     * @param length the length of the block.
+     * @return the offset of the block.
+     */
+    long allocate(final long length) {
+        long offset = size;
+        size = (offset + length + 7L) & ~7L;
+        while (reservedBytes < size) {
+            if (closed) {
+                throw new IllegalStateException("The memory has been released");
+            }
+            int chunkSize = 1 << (chunks.size() < geometricChunkCount ? initialChunkShift + chunks.size()
+                    : maxChunkShift);
+            chunks.add(ByteBuffer.allocateDirect(chunkSize));
+            reservedBytes += chunkSize;
+        }
+        return offset;
+    }
+
+    /**
+     * Return the number of bytes reserved by this region.
+     *
+     * @return the number of bytes reserved by this region.
+     */
+    long getReservedBytes() {
+        return reservedBytes;
+    }
+
+    /**
+     * Return the {@code int} at position {@code position}.
+     *
+     * @param position the position, which must be aligned on 4 bytes.
+     * @return the {@code int} at position {@code position}.
+     */
+    int getInt(final long position) {
+        int index = chunkIndex(position);
+        return chunk(index).getInt((int) (position - chunkStart(index)));
+    }
+
+    /**
+     * Write {@code value} at position {@code position}.
+     *
+     * @param position the position, which must be aligned on 4 bytes.
+     * @param value    the value to write.
+     */
+    void putInt(final long position, final int value) {
+        int index = chunkIndex(position);
+        chunk(index).putInt((int) (position - chunkStart(index)), value);
+    }
+
+    /**
+     * Return the {@code long} at position {@code position}.
+     *
+     * @param position the position, which must be aligned on 8 bytes.
+     * @return the {@code long} at position {@code position}.
+     */
+    long getLong(final long position) {
+        int index = chunkIndex(position);
+        return chunk(index).getLong((int) (position - chunkStart(index)));
+    }
+
+    /**
+     * Write {@code value} at position {@code position}.
+     *
+     * @param position the position, which must be aligned on 8 bytes.
+     * @param value    the value to write.
+     */
+    void putLong(final long position, final long value) {
+        int index = chunkIndex(position);
+        chunk(index).putLong((int) (position - chunkStart(index)), value);
+    }
+
+    /**
+     * Copy {@code length} bytes of {@code bytes} from index {@code from} at position {@code position}.
+     *
+     * @param position the position.
+     * @param bytes    the bytes to copy.
+     * @param from     the index of the first byte to copy.
+     * @param length   the number of bytes to copy.
+     */
+    void put(final long position, final byte[] bytes, final int from, final int length) {
+        long current = position;
+        int copied = 0;
+        while (copied < length) {
+            ByteBuffer chunk = view(current);
+            int count = Math.min(length - copied, chunk.remaining());
+            chunk.put(bytes, from + copied, count);
+            copied += count;
+            current += count;
+        }
+    }
+
+    /**
+     * Return a stream which reads this region from position {@code position}. The stream can then be
+     * moved with {@link RegionStream#seek(long)}, so that a single stream can read many blocks.
+     *
+     * @param position the position.
+     * @return a stream which reads this region from position {@code position}.
+     */
+    RegionStream openStream(final long position) {
+        RegionStream result = new RegionStream();
+        result.seek(position);
+        return result;
+    }
+
+    /**
+     * Release the memory of this region. The region must not be used anymore afterwards.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (ByteBuffer chunk : chunks) {
+            release(chunk);
+        }
+        chunks.clear();
+        reservedBytes = 0L;
+    }
+
+    /**
+     * Free the memory of {@code buffer}, which may be a direct or a mapped buffer, right away instead of
+     * waiting for it to be garbage collected. There's no public API for this, so the JDK internals are
+     * used if they're available, otherwise the memory is just released when the buffer gets garbage
+     * collected. {@code buffer} must not be used anymore afterwards.
+     * Note that this method is package private because outer classes should not use it directly.
+     *
+     * @param buffer the buffer to release.
+     */
+    static void release(final ByteBuffer buffer) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            try {
+                // Java 9 and later.
+                Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+                Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+                theUnsafe.setAccessible(true);
+                invokeCleaner.invoke(theUnsafe.get(null), buffer);
+            } catch (NoSuchMethodException e) {
+                // Java 8.
+                Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(buffer);
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+            }
+        } catch (Exception e) {
+            log.debug("Could not release a direct buffer, it will be released by the garbage collector", e);
+        }
+    }
+
+    /**
+     * Stream which reads this region. It keeps a view of the chunk it reads, and only fetches the view of
+     * another chunk when it moves out of it, so that reading a block does not allocate anything.
+     */
+    final class RegionStream extends InputStream {
+
+        private ByteBuffer buffer;
+        private long bufferStart;
+        private long current;
+
+        private RegionStream() {
+        }
+
+        /**
+         * Move this stream to position {@code position}.
+         *
+         * @param position the position.
+         */
+        void seek(final long position) {
+            current = position;
+        }
+
+        /**
+         * Return the view of the chunk which contains the current position, positioned on it.
+         */
+        private ByteBuffer buffer() {
+            if (closed) {
+                throw new IllegalStateException("The memory has been released");
+            }
+            if (buffer == null || current < bufferStart || current - bufferStart >= buffer.capacity()) {
+                int index = chunkIndex(current);
+                buffer = chunk(index).duplicate();
+                bufferStart = chunkStart(index);
+            }
+            buffer.position((int) (current - bufferStart));
+            return buffer;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int read() {
+            if (current >= size) {
+                return -1;
+            }
+            int result = buffer().get() & 0xFF;
+            current++;
+            return result;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (current >= size) {
+                return -1;
+            }
+            ByteBuffer chunk = buffer();
+            int count = (int) Math.min(Math.min(len, chunk.remaining()), size - current);
+            chunk.get(b, off, count);
+            current += count;
+            return count;
+        }
+    }
+}
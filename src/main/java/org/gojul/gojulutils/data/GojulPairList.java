@@ -0,0 +1,218 @@
+package org.gojul.gojulutils.data;
+
+import org.gojul.gojulutils.validation.GojulPreconditions;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.BiConsumer;
+
+/**
+ * <p>
+ * Class {@code GojulPairList} is a list of pairs which stores the first and the second
+ * elements of its pairs in two parallel arrays, instead of storing one {@link GojulPair} instance
+ * per pair. This roughly halves the memory required by big JOIN results, and makes iterating
+ * over them more cache friendly. Pairs are accessed by index, using {@link #getFirst(int)}
+ * and {@link #getSecond(int)}, and {@link GojulPair} instances are only created on demand
+ * when using the {@link #asList()} view.
+ * </p>
+ * <p>This class implements {@link BiConsumer} so that it can directly be supplied as the consumer
+ * of the JOIN operations of {@link GojulJoinDataService}. Pairs can only be appended to it.
+ * This class is not thread-safe.</p>
+ *
+ * @param <S> the type of the first objects of the pairs.
+ * @param <T> the type of the second objects of the pairs.
+ * @author jaubin
+ */
+public final class GojulPairList<S, T> implements BiConsumer<S, T> {
+
+    private final static int DEFAULT_CAPACITY = 16;
+
+    private Object[] firsts;
+    private Object[] seconds;
+    private int size;
+
+    /**
+     * Constructor.
+     */
+    public GojulPairList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param initialCapacity the initial capacity of the list.
+     * @throws IllegalArgumentException if {@code initialCapacity} is negative.
+     */
+    public GojulPairList(final int initialCapacity) {
+        GojulPreconditions.checkAssertion(initialCapacity >= 0, "initialCapacity is negative");
+        this.firsts = new Object[initialCapacity];
+        this.seconds = new Object[initialCapacity];
+    }
+
+    /**
+     * Append a pair to this list. Both parameters are nullable.
+     *
+     * @param first  the first object of the pair.
+     * @param second the second object of the pair.
+     */
+    public void add(final S first, final T second) {
+        if (size == firsts.length) {
+            int newCapacity = Math.max(DEFAULT_CAPACITY, size + (size >> 1));
+            firsts = Arrays.copyOf(firsts, newCapacity);
+            seconds = Arrays.copyOf(seconds, newCapacity);
+        }
+        firsts[size] = first;
+        seconds[size] = second;
+        size++;
+    }
+
+    /**
+     * Append a pair to this list. This method is the same as {@link #add(Object, Object)}.
+     *
+     * @param first  the first object of the pair.
+     * @param second the second object of the pair.
+     */
+    @Override
+    public void accept(final S first, final T second) {
+        add(first, second);
+    }
+
+    /**
+     * Return the number of pairs of this list.
+     *
+     * @return the number of pairs of this list.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Return {@code true} if this list is empty, {@code false} otherwise.
+     *
+     * @return {@code true} if this list is empty, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Return the first object of the pair at index {@code index}.
+     *
+     * @param index the index of the pair.
+     * @return the first object of the pair at index {@code index}.
+     * @throws IndexOutOfBoundsException if {@code index} is out of bounds.
+     */
+    @SuppressWarnings("unchecked")
+    public S getFirst(final int index) {
+        checkIndex(index);
+        return (S) firsts[index];
+    }
+
+    /**
+     * Return the second object of the pair at index {@code index}.
+     *
+     * @param index the index of the pair.
+     * @return the second object of the pair at index {@code index}.
+     * @throws IndexOutOfBoundsException if {@code index} is out of bounds.
+     */
+    @SuppressWarnings("unchecked")
+    public T getSecond(final int index) {
+        checkIndex(index);
+        return (T) seconds[index];
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+    }
+
+    /**
+     * Call {@code action} for each pair of this list, in order, without creating
+     * any {@link GojulPair} instance.
+     *
+     * @param action the action to perform.
+     * @throws NullPointerException if {@code action} is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(final BiConsumer<? super S, ? super T> action) {
+        Objects.requireNonNull(action, "action is null");
+
+        for (int i = 0; i < size; i++) {
+            action.accept((S) firsts[i], (T) seconds[i]);
+        }
+    }
+
+    /**
+     * Return an unmodifiable {@link List} view of this list. The {@link GojulPair} instances
+     * of the view are created each time they're accessed, and the view reflects the pairs
+     * added to this list afterwards.
+     *
+     * @return an unmodifiable {@link List} view of this list.
+     */
+    public List<GojulPair<S, T>> asList() {
+        return new PairListView();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        GojulPairList<?, ?> that = (GojulPairList<?, ?>) o;
+
+        if (size != that.size) return false;
+        for (int i = 0; i < size; i++) {
+            if (!Objects.equals(firsts[i], that.firsts[i]) || !Objects.equals(seconds[i], that.seconds[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Objects.hashCode(firsts[i]);
+            result = 31 * result + Objects.hashCode(seconds[i]);
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "GojulPairList{" +
+                "pairs=" + asList() +
+                '}';
+    }
+
+    /**
+     * Class {@code PairListView} is the {@link List} view of the pair list.
+     */
+    private final class PairListView extends AbstractList<GojulPair<S, T>> implements RandomAccess {
+
+        @Override
+        public GojulPair<S, T> get(final int index) {
+            return new GojulPair<>(getFirst(index), getSecond(index));
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package org.gojul.gojulutils.data;
+
+import org.gojul.gojulutils.data.GojulJoinData.GojulJoinDataKey;
+import org.gojul.gojulutils.validation.GojulPreconditions;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>
+ * Class {@code GojulPartitionedJoinData} contains the data required in order to perform a JOIN
+ * operation in parallel. Both sides of the JOIN are hash-partitioned per key into a fixed number
+ * of partitions, and each partition is indexed independently from the others on a {@link ForkJoinPool}.
+ * The JOIN itself is then performed partition per partition by {@link GojulJoinDataService}, still on
+ * the same {@link ForkJoinPool}.
+ * </p>
+ * <p>The JOIN results are strictly identical, order included, to the ones obtained when
+ * using a {@link GojulJoinData} instance built with the same inputs. Note that this object is immutable
+ * if and only if S and T are immutable classes.</p>
+ *
+ * @param <K> the type of the JOIN key.
+ * @param <S> the type of the first object to join.
+ * @param <T> the type of the second object to join.
+ * @see org.gojul.gojulutils.data.GojulJoinDataService
+ */
+public class GojulPartitionedJoinData<K, S, T> {
+
+    /**
+     * Below this number of elements, the keys are computed without splitting the
+     * work any further.
+     */
+    private final static int KEY_COMPUTATION_THRESHOLD = 8192;
+
+    /**
+     * The default number of partitions per thread. Having more partitions than threads
+     * makes it possible to balance the work when key groups have very different sizes.
+     */
+    private final static int DEFAULT_PARTITIONS_PER_THREAD = 4;
+
+    private final ForkJoinPool pool;
+    private final List<Partition<K, S, T>> partitions;
+
+    /**
+     * Constructor. The partitioning is performed using the common {@link ForkJoinPool}, with
+     * a number of partitions which depends on the pool parallelism.
+     *
+     * @param leftKey       the function in charge of generating the key for the left elements to join.
+     * @param leftElements  the left elements to join.
+     * @param rightKey      the function in charge of generating the key for the right elements to join.
+     * @param rightElements the right elements to join.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     */
+    public GojulPartitionedJoinData(final GojulJoinDataKey<K, S> leftKey, final List<S> leftElements,
+                                    final GojulJoinDataKey<K, T> rightKey, final List<T> rightElements) {
+        this(leftKey, leftElements, rightKey, rightElements, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor. The number of partitions depends on the parallelism of {@code pool}.
+     *
+     * @param leftKey       the function in charge of generating the key for the left elements to join.
+     * @param leftElements  the left elements to join.
+     * @param rightKey      the function in charge of generating the key for the right elements to join.
+     * @param rightElements the right elements to join.
+     * @param pool          the pool used to partition the data and to perform the JOIN operations.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     */
+    public GojulPartitionedJoinData(final GojulJoinDataKey<K, S> leftKey, final List<S> leftElements,
+                                    final GojulJoinDataKey<K, T> rightKey, final List<T> rightElements,
+                                    final ForkJoinPool pool) {
+        this(leftKey, leftElements, rightKey, rightElements, pool,
+                Objects.requireNonNull(pool, "pool is null").getParallelism() * DEFAULT_PARTITIONS_PER_THREAD);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param leftKey        the function in charge of generating the key for the left elements to join.
+     * @param leftElements   the left elements to join.
+     * @param rightKey       the function in charge of generating the key for the right elements to join.
+     * @param rightElements  the right elements to join.
+     * @param pool           the pool used to partition the data and to perform the JOIN operations.
+     * @param partitionCount the number of partitions to create.
+     * @throws NullPointerException     if any of the method parameters is {@code null}.
+     * @throws IllegalArgumentException if {@code partitionCount} is not strictly positive.
+     */
+    public GojulPartitionedJoinData(final GojulJoinDataKey<K, S> leftKey, final List<S> leftElements,
+                                    final GojulJoinDataKey<K, T> rightKey, final List<T> rightElements,
+                                    final ForkJoinPool pool, final int partitionCount) {
+        Objects.requireNonNull(leftKey, "leftKey is null");
+        Objects.requireNonNull(leftElements, "leftElements is null");
+        Objects.requireNonNull(rightKey, "rightKey is null");
+        Objects.requireNonNull(rightElements, "rightElements is null");
+        Objects.requireNonNull(pool, "pool is null");
+        GojulPreconditions.checkAssertion(partitionCount > 0, "partitionCount must be strictly positive");
+
+        this.pool = pool;
+        this.partitions = buildPartitions(leftKey, randomAccess(leftElements), rightKey,
+                randomAccess(rightElements), partitionCount);
+    }
+
+    private static <V> List<V> randomAccess(final List<V> elements) {
+        return elements instanceof RandomAccess ? elements : new ArrayList<>(elements);
+    }
+
+    private List<Partition<K, S, T>> buildPartitions(final GojulJoinDataKey<K, S> leftKey, final List<S> leftElements,
+                                                     final GojulJoinDataKey<K, T> rightKey, final List<T> rightElements,
+                                                     final int partitionCount) {
+        Object[] leftKeys = new Object[leftElements.size()];
+        int[] leftPartitions = new int[leftElements.size()];
+        Object[] rightKeys = new Object[rightElements.size()];
+        int[] rightPartitions = new int[rightElements.size()];
+
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(new KeyComputationTask<>(leftKey, leftElements, leftKeys, leftPartitions, partitionCount,
+                                0, leftKeys.length),
+                        new KeyComputationTask<>(rightKey, rightElements, rightKeys, rightPartitions, partitionCount,
+                                0, rightKeys.length));
+            }
+        });
+
+        int[][] leftIndexes = indexesPerPartition(leftPartitions, partitionCount);
+        int[][] rightIndexes = indexesPerPartition(rightPartitions, partitionCount);
+
+        List<Partition<K, S, T>> result = new ArrayList<>(partitionCount);
+        List<RecursiveAction> tasks = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            Partition<K, S, T> partition = new Partition<>();
+            result.add(partition);
+            final int partitionIndex = i;
+            tasks.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    partition.build(leftKeys, leftElements, leftIndexes[partitionIndex], rightKeys, rightElements,
+                            rightIndexes[partitionIndex]);
+                }
+            });
+        }
+
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Distribute the element indexes per partition, as a counting sort does. The indexes
+     * stay sorted within a partition, which is what makes the JOIN order deterministic.
+     */
+    private static int[][] indexesPerPartition(final int[] partitionPerElement, final int partitionCount) {
+        int[] sizes = new int[partitionCount];
+        for (int partition : partitionPerElement) {
+            sizes[partition]++;
+        }
+
+        int[][] result = new int[partitionCount][];
+        for (int i = 0; i < partitionCount; i++) {
+            result[i] = new int[sizes[i]];
+        }
+
+        int[] positions = new int[partitionCount];
+        for (int i = 0; i < partitionPerElement.length; i++) {
+            int partition = partitionPerElement[i];
+            result[partition][positions[partition]++] = i;
+        }
+
+        return result;
+    }
+
+    /**
+     * Return the pool on which JOIN operations must be run. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the pool on which JOIN operations must be run.
+     */
+    ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Return the partitions of this object. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the partitions of this object.
+     */
+    List<Partition<K, S, T>> getPartitions() {
+        return partitions;
+    }
+
+    /**
+     * Class {@code KeyComputationTask} computes the JOIN key of a range of elements,
+     * as well as the partition to which each element belongs.
+     */
+    private final static class KeyComputationTask<K, V> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1680490732736907042L;
+
+        private final GojulJoinDataKey<K, V> keyGen;
+        private final List<V> elements;
+        private final Object[] keys;
+        private final int[] partitions;
+        private final int partitionCount;
+        private final int from;
+        private final int to;
+
+        private KeyComputationTask(final GojulJoinDataKey<K, V> keyGen, final List<V> elements, final Object[] keys,
+                                   final int[] partitions, final int partitionCount, final int from, final int to) {
+            this.keyGen = keyGen;
+            this.elements = elements;
+            this.keys = keys;
+            this.partitions = partitions;
+            this.partitionCount = partitionCount;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void compute() {
+            if (to - from <= KEY_COMPUTATION_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    K key = keyGen.getKey(elements.get(i));
+                    keys[i] = key;
+                    partitions[i] = partitionOf(key, partitionCount);
+                }
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new KeyComputationTask<>(keyGen, elements, keys, partitions, partitionCount, from, middle),
+                        new KeyComputationTask<>(keyGen, elements, keys, partitions, partitionCount, middle, to));
+            }
+        }
+
+        private static int partitionOf(final Object key, final int partitionCount) {
+            int h = Objects.hashCode(key);
+            // Spread the high bits, as HashMap does, so that
+            // poor hash functions still get distributed.
+            return Math.floorMod(h ^ (h >>> 16), partitionCount);
+        }
+    }
+
+    /**
+     * Class {@code Partition} contains the elements of both sides of the JOIN whose
+     * keys belong to the same partition, grouped per key in a {@link GojulCompactGroupedMap}.
+     * The left key groups are stored in the order in which their key first appears in the left
+     * input, and the index of this first appearance is kept so that the partitions results can
+     * be merged back in order.
+     */
+    final static class Partition<K, S, T> {
+
+        private GojulCompactGroupedMap<K, S> leftElementsPerKey;
+        private int[] leftFirstIndexes;
+        private GojulCompactGroupedMap<K, T> rightElementsPerKey;
+
+        private Partition() {
+        }
+
+        @SuppressWarnings("unchecked")
+        private void build(final Object[] leftKeys, final List<S> leftElements, final int[] leftIndexes,
+                           final Object[] rightKeys, final List<T> rightElements, final int[] rightIndexes) {
+            GojulCompactGroupedMap.Builder<K, S> left = new GojulCompactGroupedMap.Builder<>(
+                    GojulKeyEquivalence.natural());
+            int[] firstIndexes = new int[leftIndexes.length];
+            for (int i : leftIndexes) {
+                int groupCount = left.groupCount();
+                left.add((K) leftKeys[i], leftElements.get(i));
+                if (left.groupCount() > groupCount) {
+                    firstIndexes[groupCount] = i;
+                }
+            }
+
+            GojulCompactGroupedMap.Builder<K, T> right = new GojulCompactGroupedMap.Builder<>(
+                    GojulKeyEquivalence.natural());
+            for (int i : rightIndexes) {
+                right.add((K) rightKeys[i], rightElements.get(i));
+            }
+
+            this.leftFirstIndexes = Arrays.copyOf(firstIndexes, left.groupCount());
+            this.leftElementsPerKey = left.build();
+            this.rightElementsPerKey = right.build();
+        }
+
+        /**
+         * Return the left elements of this partition, stored per key.
+         *
+         * @return the left elements of this partition, stored per key.
+         */
+        GojulCompactGroupedMap<K, S> getLeftElementsPerKey() {
+            return leftElementsPerKey;
+        }
+
+        /**
+         * Return, for each left key group of this partition, the index in the left input of
+         * the first element of the group. The indexes are sorted in ascending order.
+         *
+         * @return the index of the first element of each left key group.
+         */
+        int[] getLeftFirstIndexes() {
+            return leftFirstIndexes;
+        }
+
+        /**
+         * Return the right elements of this partition, stored per key.
+         *
+         * @return the right elements of this partition, stored per key.
+         */
+        GojulCompactGroupedMap<K, T> getRightElementsPerKey() {
+            return rightElementsPerKey;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package org.gojul.gojulutils.data;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * Class {@code GojulPrimitiveJoinData} contains the data required in order to perform a JOIN
+ * operation on primitive {@code long} or {@code int} keys, typically database identifiers. The
+ * right elements are indexed in a primitive hash table which does not box keys and packs the
+ * values of all keys in a single array, while the left elements are kept as is and iterated in
+ * their input order when the JOIN is performed. This makes the memory used per element much
+ * lower than with {@link GojulJoinData}.
+ * </p>
+ * <p>As the left elements are iterated each time a JOIN is performed, their {@link Iterable} must
+ * support being iterated several times if you intend to perform several JOIN operations with the
+ * same instance. Note that as primitive keys cannot be {@code null}, the {@code null} key semantics
+ * of {@link GojulJoinData} do not apply here. This object is immutable if and only if S and T are
+ * immutable classes, and if the left {@link Iterable} is not modified.</p>
+ *
+ * @param <S> the type of the first object to join.
+ * @param <T> the type of the second object to join.
+ * @see org.gojul.gojulutils.data.GojulJoinDataService
+ */
+public class GojulPrimitiveJoinData<S, T> {
+
+    private final GojulLongJoinDataKey<S> leftKey;
+    private final Iterable<S> leftElements;
+    private final GojulLongHashIndex<T> rightIndex;
+
+    private GojulPrimitiveJoinData(final GojulLongJoinDataKey<S> leftKey, final Iterable<S> leftElements,
+                                   final GojulLongJoinDataKey<T> rightKey, final Iterable<T> rightElements) {
+        this.leftKey = leftKey;
+        this.leftElements = leftElements;
+        this.rightIndex = new GojulLongHashIndex<>(rightKey, rightElements);
+    }
+
+    /**
+     * Create a JOIN data instance for {@code long} keys.
+     *
+     * @param leftKey       the function in charge of generating the key for the left elements to join.
+     * @param leftElements  the left elements to join.
+     * @param rightKey      the function in charge of generating the key for the right elements to join.
+     * @param rightElements the right elements to join.
+     * @param <S>           the type of the first object to join.
+     * @param <T>           the type of the second object to join.
+     * @return the JOIN data instance.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     */
+    public static <S, T> GojulPrimitiveJoinData<S, T> withLongKeys(final GojulLongJoinDataKey<S> leftKey,
+                                                                   final Iterable<S> leftElements,
+                                                                   final GojulLongJoinDataKey<T> rightKey,
+                                                                   final Iterable<T> rightElements) {
+        Objects.requireNonNull(leftKey, "leftKey is null");
+        Objects.requireNonNull(leftElements, "leftElements is null");
+        Objects.requireNonNull(rightKey, "rightKey is null");
+        Objects.requireNonNull(rightElements, "rightElements is null");
+
+        return new GojulPrimitiveJoinData<>(leftKey, leftElements, rightKey, rightElements);
+    }
+
+    /**
+     * Create a JOIN data instance for {@code int} keys.
+     *
+     * @param leftKey       the function in charge of generating the key for the left elements to join.
+     * @param leftElements  the left elements to join.
+     * @param rightKey      the function in charge of generating the key for the right elements to join.
+     * @param rightElements the right elements to join.
+     * @param <S>           the type of the first object to join.
+     * @param <T>           the type of the second object to join.
+     * @return the JOIN data instance.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     */
+    public static <S, T> GojulPrimitiveJoinData<S, T> withIntKeys(final GojulIntJoinDataKey<S> leftKey,
+                                                                  final Iterable<S> leftElements,
+                                                                  final GojulIntJoinDataKey<T> rightKey,
+                                                                  final Iterable<T> rightElements) {
+        Objects.requireNonNull(leftKey, "leftKey is null");
+        Objects.requireNonNull(leftElements, "leftElements is null");
+        Objects.requireNonNull(rightKey, "rightKey is null");
+        Objects.requireNonNull(rightElements, "rightElements is null");
+
+        return new GojulPrimitiveJoinData<>(leftKey::getKey, leftElements, rightKey::getKey, rightElements);
+    }
+
+    /**
+     * Return the function which generates the key of the left elements. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the function which generates the key of the left elements.
+     */
+    GojulLongJoinDataKey<S> getLeftKey() {
+        return leftKey;
+    }
+
+    /**
+     * Return the left elements, in their input order. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the left elements, in their input order.
+     */
+    Iterable<S> getLeftElements() {
+        return leftElements;
+    }
+
+    /**
+     * Return the index of the right elements. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the index of the right elements.
+     */
+    GojulLongHashIndex<T> getRightIndex() {
+        return rightIndex;
+    }
+
+    /**
+     * Class {@code GojulLongJoinDataKey} purpose is to compute
+     * the {@code long} JOIN key for an object of type {@code V}.
+     *
+     * @param <V> the type of the value for which the key is generated.
+     */
+    @FunctionalInterface
+    public interface GojulLongJoinDataKey<V> {
+
+        /**
+         * Return the key corresponding to value {@code value}.
+         *
+         * @param value the value for which the key must be computed.
+         * @return the key corresponding to value {@code value}.
+         */
+        long getKey(final V value);
+    }
+
+    /**
+     * Class {@code GojulIntJoinDataKey} purpose is to compute
+     * the {@code int} JOIN key for an object of type {@code V}.
+     *
+     * @param <V> the type of the value for which the key is generated.
+     */
+    @FunctionalInterface
+    public interface GojulIntJoinDataKey<V> {
+
+        /**
+         * Return the key corresponding to value {@code value}.
+         *
+         * @param value the value for which the key must be computed.
+         * @return the key corresponding to value {@code value}.
+         */
+        int getKey(final V value);
+    }
+}
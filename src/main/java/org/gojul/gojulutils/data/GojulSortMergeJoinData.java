@@ -0,0 +1,127 @@
+package org.gojul.gojulutils.data;
+
+import org.gojul.gojulutils.data.GojulJoinData.GojulJoinDataKey;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Class {@code GojulSortMergeJoinData} contains the data required in order to perform a sort-merge
+ * JOIN. Unlike {@link GojulJoinData} it does not index anything : both sides must already be sorted
+ * per key, which is typically the case for database cursors with an {@code ORDER BY} clause, and the
+ * JOIN is performed by walking both sides at the same time. Thus only the current key group of the
+ * right side is kept in memory.
+ * </p>
+ * <p>Keys are compared using the comparator supplied to the constructor, and {@code null} keys are
+ * considered lower than any other key, so they must come first in both inputs. Like with the other
+ * JOIN operations, elements which have a {@code null} key on one side are bound to the elements which
+ * have a {@code null} key on the other side. As this object wraps iterators, it can only be used
+ * for a single JOIN operation.</p>
+ *
+ * @param <K> the type of the JOIN key.
+ * @param <S> the type of the first object to join.
+ * @param <T> the type of the second object to join.
+ * @see org.gojul.gojulutils.data.GojulJoinDataService
+ */
+public class GojulSortMergeJoinData<K, S, T> {
+
+    private final GojulJoinDataKey<K, S> leftKey;
+    private final Iterator<S> leftElements;
+    private final GojulJoinDataKey<K, T> rightKey;
+    private final Iterator<T> rightElements;
+    private final Comparator<K> keyComparator;
+
+    private boolean consumed;
+
+    /**
+     * Constructor.
+     *
+     * @param leftKey       the function in charge of generating the key for the left elements to join.
+     * @param leftElements  the left elements to join, sorted per key.
+     * @param rightKey      the function in charge of generating the key for the right elements to join.
+     * @param rightElements the right elements to join, sorted per key.
+     * @param keyComparator the comparator according to which both sides are sorted. This comparator
+     *                      does not need to support {@code null} keys.
+     * @throws NullPointerException if any of the method parameters is {@code null}.
+     */
+    public GojulSortMergeJoinData(final GojulJoinDataKey<K, S> leftKey, final Iterator<S> leftElements,
+                                  final GojulJoinDataKey<K, T> rightKey, final Iterator<T> rightElements,
+                                  final Comparator<? super K> keyComparator) {
+        Objects.requireNonNull(leftKey, "leftKey is null");
+        Objects.requireNonNull(leftElements, "leftElements is null");
+        Objects.requireNonNull(rightKey, "rightKey is null");
+        Objects.requireNonNull(rightElements, "rightElements is null");
+        Objects.requireNonNull(keyComparator, "keyComparator is null");
+
+        this.leftKey = leftKey;
+        this.leftElements = leftElements;
+        this.rightKey = rightKey;
+        this.rightElements = rightElements;
+        this.keyComparator = Comparator.nullsFirst(keyComparator);
+    }
+
+    /**
+     * Mark this object as consumed by a JOIN operation. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @throws IllegalStateException if this object has already been consumed.
+     */
+    synchronized void markConsumed() {
+        if (consumed) {
+            throw new IllegalStateException("The JOIN data has already been consumed");
+        }
+        consumed = true;
+    }
+
+    /**
+     * Return the function which generates the key of the left elements. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the function which generates the key of the left elements.
+     */
+    GojulJoinDataKey<K, S> getLeftKey() {
+        return leftKey;
+    }
+
+    /**
+     * Return the left elements. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the left elements.
+     */
+    Iterator<S> getLeftElements() {
+        return leftElements;
+    }
+
+    /**
+     * Return the function which generates the key of the right elements. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the function which generates the key of the right elements.
+     */
+    GojulJoinDataKey<K, T> getRightKey() {
+        return rightKey;
+    }
+
+    /**
+     * Return the right elements. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the right elements.
+     */
+    Iterator<T> getRightElements() {
+        return rightElements;
+    }
+
+    /**
+     * Return the key comparator, which accepts {@code null} keys. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the key comparator.
+     */
+    Comparator<K> getKeyComparator() {
+        return keyComparator;
+    }
+}
@@ -0,0 +1,126 @@
+package org.gojul.gojulutils.data;
+
+import org.gojul.gojulutils.data.GojulJoinData.GojulJoinDataKey;
+import org.gojul.gojulutils.validation.GojulPreconditions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Class {@code GojulStarJoinData} contains the data required in order to JOIN a fact collection
+ * against several dimension collections which all share the same key, in a single pass over the
+ * facts. Each dimension is indexed per key once, when its {@link Dimension} instance is created,
+ * while the facts are kept as is and iterated in their input order when the JOIN is performed.
+ * Compared to chaining two-way JOIN operations this neither indexes the intermediate results again
+ * nor builds nested {@link GojulPair} instances.
+ * </p>
+ * <p>A {@link Dimension} instance can be shared by several instances of this class. As the facts
+ * are iterated each time a JOIN is performed, their {@link Iterable} must support being iterated
+ * several times if you intend to perform several JOIN operations with the same instance. Note that
+ * this object is immutable if and only if the joined elements are immutable classes, and if the fact
+ * {@link Iterable} is not modified.</p>
+ *
+ * @param <K> the type of the JOIN key.
+ * @param <S> the type of the facts.
+ * @see org.gojul.gojulutils.data.GojulJoinDataService
+ */
+public class GojulStarJoinData<K, S> {
+
+    private final GojulJoinDataKey<K, S> factKey;
+    private final Iterable<S> factElements;
+    private final List<Dimension<K, ?>> dimensions;
+
+    /**
+     * Constructor.
+     *
+     * @param factKey      the function in charge of generating the key for the facts.
+     * @param factElements the facts.
+     * @param dimensions   the dimensions to join to the facts, in the order in which their elements
+     *                     appear in the resulting tuples.
+     * @throws NullPointerException     if any of the method parameters is {@code null}, or if
+     *                                  {@code dimensions} contains a {@code null} element.
+     * @throws IllegalArgumentException if {@code dimensions} is empty.
+     */
+    public GojulStarJoinData(final GojulJoinDataKey<K, S> factKey, final Iterable<S> factElements,
+                             final List<? extends Dimension<K, ?>> dimensions) {
+        Objects.requireNonNull(factKey, "factKey is null");
+        Objects.requireNonNull(factElements, "factElements is null");
+        Objects.requireNonNull(dimensions, "dimensions is null");
+        GojulPreconditions.checkAssertion(!dimensions.isEmpty(), "dimensions is empty");
+        for (Dimension<K, ?> dimension : dimensions) {
+            Objects.requireNonNull(dimension, "dimensions contains a null element");
+        }
+
+        this.factKey = factKey;
+        this.factElements = factElements;
+        this.dimensions = Collections.unmodifiableList(new ArrayList<>(dimensions));
+    }
+
+    /**
+     * Return the function which generates the key of the facts. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the function which generates the key of the facts.
+     */
+    GojulJoinDataKey<K, S> getFactKey() {
+        return factKey;
+    }
+
+    /**
+     * Return the facts, in their input order. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the facts, in their input order.
+     */
+    Iterable<S> getFactElements() {
+        return factElements;
+    }
+
+    /**
+     * Return the dimensions. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the dimensions.
+     */
+    List<Dimension<K, ?>> getDimensions() {
+        return dimensions;
+    }
+
+    /**
+     * Class {@code Dimension} is a dimension collection of a star JOIN, indexed per key.
+     *
+     * @param <K> the type of the JOIN key.
+     * @param <T> the type of the dimension elements.
+     */
+    public final static class Dimension<K, T> {
+
+        private final GojulCompactGroupedMap<K, T> elementsPerKey;
+
+        /**
+         * Constructor.
+         *
+         * @param key      the function in charge of generating the key for the dimension elements.
+         * @param elements the dimension elements.
+         * @throws NullPointerException if any of the method parameters is {@code null}.
+         */
+        public Dimension(final GojulJoinDataKey<K, T> key, final Iterable<T> elements) {
+            Objects.requireNonNull(key, "key is null");
+            Objects.requireNonNull(elements, "elements is null");
+
+            this.elementsPerKey = GojulJoinData.buildElementsMapPerKey(key, elements);
+        }
+
+        /**
+         * Return the dimension elements, stored per key. The returned map is not copied.
+         * Note that this method is package private because outer classes should not use it directly.
+         *
+         * @return the dimension elements, stored per key.
+         */
+        GojulCompactGroupedMap<K, T> getElementsPerKey() {
+            return elementsPerKey;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.gojul.gojulutils.data;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Class {@code GojulTuple} is a flat tuple of an arbitrary number of objects. It is notably the result
+ * type of the multi-way JOIN operations of {@link GojulJoinDataService}, which would otherwise have to
+ * nest {@link GojulPair} instances. This object is immutable as long as the objects it contains are
+ * immutable. Since this object is not serializable it should not be stored in objects which could be
+ * serialized, especially Java HttpSession objects.
+ *
+ * @author jaubin
+ */
+public final class GojulTuple {
+
+    private final Object[] values;
+
+    /**
+     * Constructor. The values are nullable.
+     *
+     * @param values the values of the tuple.
+     * @throws NullPointerException if {@code values} is {@code null}.
+     */
+    public GojulTuple(final Object... values) {
+        this(Objects.requireNonNull(values, "values is null"), true);
+    }
+
+    /**
+     * Constructor which does not copy {@code values}, for the internal use of the package.
+     */
+    GojulTuple(final Object[] values, final boolean copy) {
+        this.values = copy ? values.clone() : values;
+    }
+
+    /**
+     * Return the number of values of this tuple.
+     *
+     * @return the number of values of this tuple.
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Return the value at index {@code index}.
+     *
+     * @param index the index of the value.
+     * @param <V>   the type of the value.
+     * @return the value at index {@code index}.
+     * @throws IndexOutOfBoundsException if {@code index} is out of bounds.
+     * @throws ClassCastException        if the value is not of type {@code V}.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V get(final int index) {
+        return (V) values[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        GojulTuple that = (GojulTuple) o;
+
+        return Arrays.equals(values, that.values);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "GojulTuple{" +
+                "values=" + Arrays.toString(values) +
+                '}';
+    }
+}
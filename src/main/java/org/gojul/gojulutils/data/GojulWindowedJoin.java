@@ -0,0 +1,237 @@
+package org.gojul.gojulutils.data;
+
+import org.gojul.gojulutils.data.GojulJoinData.GojulJoinDataKey;
+import org.gojul.gojulutils.validation.GojulPreconditions;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * <p>
+ * Class {@code GojulWindowedJoin} performs an INNER JOIN between two unbounded streams of elements,
+ * restricted to a time window : an element of one stream matches the elements of the other stream
+ * which have the same key, and whose timestamp is within {@code windowMillis} of its own. The elements
+ * are pushed to this instance with {@link #onLeft(Object, long)} and {@link #onRight(Object, long)},
+ * and each match is pushed synchronously to the downstream consumer supplied at construction time.
+ * </p>
+ * <p>In order to keep the memory used bounded however long the streams run, the elements are only
+ * kept while they can still match something : an element is evicted once the most recent timestamp seen
+ * is more than {@code windowMillis} ahead of its own, and at most {@code maxElementsPerKey} elements
+ * are kept per key and per side, the ones with the oldest timestamps being evicted first. Elements are
+ * evicted following their timestamps rather than their arrival order, so that an element which arrives
+ * late does not delay the eviction of the elements which arrived before it. Elements which arrive more than
+ * {@code windowMillis} behind the most recent timestamp seen are dropped, as everything they could match
+ * has already been evicted. Keys follow the semantics of {@link GojulJoinDataService}, i.e. the
+ * {@code null} key matches the {@code null} key.</p>
+ * <p>This class is thread-safe : both streams may push their elements from different threads. As the
+ * downstream consumer is called by the thread which pushes the element, within the lock of this
+ * instance, a slow consumer slows down the producers of both streams, which provides back-pressure.
+ * Consequently the downstream consumer must not push elements back to this instance from another
+ * thread it would wait for.</p>
+ *
+ * @param <K> the type of the JOIN key.
+ * @param <S> the type of the left elements to join.
+ * @param <T> the type of the right elements to join.
+ */
+public class GojulWindowedJoin<K, S, T> {
+
+    private final static Comparator<TimedElement<?, ?>> TIMESTAMP_ORDER = Comparator
+            .<TimedElement<?, ?>>comparingLong(e -> e.timestamp).thenComparingLong(e -> e.sequence);
+
+    private final GojulJoinDataKey<K, S> leftKey;
+    private final GojulJoinDataKey<K, T> rightKey;
+    private final long windowMillis;
+    private final int maxElementsPerKey;
+    private final BiConsumer<? super S, ? super T> downstream;
+
+    private final Map<K, NavigableSet<TimedElement<K, S>>> leftElementsPerKey;
+    private final Map<K, NavigableSet<TimedElement<K, T>>> rightElementsPerKey;
+    // All the buffered elements of both sides, in timestamp order, used for time-based eviction.
+    private final NavigableSet<TimedElement<K, ?>> elementsByTimestamp;
+
+    private long sequence;
+    private long watermark;
+    private int bufferedElementCount;
+    private long droppedElementCount;
+
+    /**
+     * Constructor.
+     *
+     * @param leftKey           the function in charge of generating the key for the left elements to join.
+     * @param rightKey          the function in charge of generating the key for the right elements to join.
+     * @param windowMillis      the maximum difference between the timestamps of two matching elements.
+     * @param maxElementsPerKey the maximum number of elements kept per key on each side.
+     * @param downstream        the consumer which receives the matches.
+     * @throws NullPointerException     if any of the method parameters is {@code null}.
+     * @throws IllegalArgumentException if {@code windowMillis} is negative, or if {@code maxElementsPerKey}
+     *                                  is not strictly positive.
+     */
+    public GojulWindowedJoin(final GojulJoinDataKey<K, S> leftKey, final GojulJoinDataKey<K, T> rightKey,
+                             final long windowMillis, final int maxElementsPerKey,
+                             final BiConsumer<? super S, ? super T> downstream) {
+        Objects.requireNonNull(leftKey, "leftKey is null");
+        Objects.requireNonNull(rightKey, "rightKey is null");
+        Objects.requireNonNull(downstream, "downstream is null");
+        GojulPreconditions.checkAssertion(windowMillis >= 0L, "windowMillis is negative");
+        GojulPreconditions.checkAssertion(maxElementsPerKey > 0, "maxElementsPerKey is not strictly positive");
+
+        this.leftKey = leftKey;
+        this.rightKey = rightKey;
+        this.windowMillis = windowMillis;
+        this.maxElementsPerKey = maxElementsPerKey;
+        this.downstream = downstream;
+
+        this.leftElementsPerKey = new HashMap<>();
+        this.rightElementsPerKey = new HashMap<>();
+        this.elementsByTimestamp = new TreeSet<>(TIMESTAMP_ORDER);
+        this.watermark = Long.MIN_VALUE;
+    }
+
+    /**
+     * Push a left element, matching it against the buffered right elements.
+     *
+     * @param element   the element.
+     * @param timestamp the timestamp of the element, in milliseconds.
+     */
+    public synchronized void onLeft(final S element, final long timestamp) {
+        if (!advance(timestamp)) {
+            return;
+        }
+
+        K key = leftKey.getKey(element);
+        Set<TimedElement<K, T>> targetElements = rightElementsPerKey.get(key);
+        if (targetElements != null) {
+            for (TimedElement<K, T> targetElement : targetElements) {
+                if (Math.abs(targetElement.timestamp - timestamp) <= windowMillis) {
+                    downstream.accept(element, targetElement.element);
+                }
+            }
+        }
+
+        buffer(leftElementsPerKey, new TimedElement<>(key, element, timestamp, sequence++, true));
+    }
+
+    /**
+     * Push a right element, matching it against the buffered left elements.
+     *
+     * @param element   the element.
+     * @param timestamp the timestamp of the element, in milliseconds.
+     */
+    public synchronized void onRight(final T element, final long timestamp) {
+        if (!advance(timestamp)) {
+            return;
+        }
+
+        K key = rightKey.getKey(element);
+        Set<TimedElement<K, S>> sourceElements = leftElementsPerKey.get(key);
+        if (sourceElements != null) {
+            for (TimedElement<K, S> sourceElement : sourceElements) {
+                if (Math.abs(sourceElement.timestamp - timestamp) <= windowMillis) {
+                    downstream.accept(sourceElement.element, element);
+                }
+            }
+        }
+
+        buffer(rightElementsPerKey, new TimedElement<>(key, element, timestamp, sequence++, false));
+    }
+
+    /**
+     * Notify this instance that time has advanced to {@code timestamp} even though no element has
+     * been pushed, so that the elements which cannot match anything anymore get evicted.
+     *
+     * @param timestamp the current timestamp, in milliseconds.
+     */
+    public synchronized void advanceTo(final long timestamp) {
+        advance(timestamp);
+    }
+
+    /**
+     * Return the number of elements currently buffered, on both sides.
+     *
+     * @return the number of elements currently buffered.
+     */
+    public synchronized int getBufferedElementCount() {
+        return bufferedElementCount;
+    }
+
+    /**
+     * Return the number of elements dropped so far because they arrived too late.
+     *
+     * @return the number of elements dropped so far because they arrived too late.
+     */
+    public synchronized long getDroppedElementCount() {
+        return droppedElementCount;
+    }
+
+    /**
+     * Move the watermark to {@code timestamp} if it is ahead of it, and evict the elements which are
+     * out of the window. Return {@code false} if an element with timestamp {@code timestamp} is too late.
+     */
+    private boolean advance(final long timestamp) {
+        if (timestamp > watermark) {
+            watermark = timestamp;
+            evictExpired();
+        } else if (watermark - timestamp > windowMillis) {
+            droppedElementCount++;
+            return false;
+        }
+        return true;
+    }
+
+    private void evictExpired() {
+        while (!elementsByTimestamp.isEmpty() && watermark - elementsByTimestamp.first().timestamp > windowMillis) {
+            TimedElement<K, ?> expired = elementsByTimestamp.pollFirst();
+            remove(expired.left ? leftElementsPerKey : rightElementsPerKey, expired);
+        }
+    }
+
+    private <V> void buffer(final Map<K, NavigableSet<TimedElement<K, V>>> elementsPerKey,
+                            final TimedElement<K, V> element) {
+        NavigableSet<TimedElement<K, V>> elements = elementsPerKey.computeIfAbsent(element.key,
+                k -> new TreeSet<>(TIMESTAMP_ORDER));
+        elements.add(element);
+        elementsByTimestamp.add(element);
+        bufferedElementCount++;
+        if (elements.size() > maxElementsPerKey) {
+            // The evicted element is unlinked from both indexes, so that it can be garbage collected
+            // right away instead of lingering until it expires.
+            elementsByTimestamp.remove(elements.pollFirst());
+            bufferedElementCount--;
+        }
+    }
+
+    private void remove(final Map<K, ? extends Set<? extends TimedElement<K, ?>>> elementsPerKey,
+                        final TimedElement<K, ?> element) {
+        Set<? extends TimedElement<K, ?>> elements = elementsPerKey.get(element.key);
+        elements.remove(element);
+        if (elements.isEmpty()) {
+            elementsPerKey.remove(element.key);
+        }
+        bufferedElementCount--;
+    }
+
+    /**
+     * Class {@code TimedElement} is a buffered element, along with its key and its timestamp.
+     *
+     * @param <K> the type of the JOIN key.
+     * @param <V> the type of the element.
+     */
+    private final static class TimedElement<K, V> {
+
+        private final K key;
+        private final V element;
+        private final long timestamp;
+        // The arrival rank of the element, which orders the elements which have the same timestamp.
+        private final long sequence;
+        private final boolean left;
+
+        private TimedElement(final K key, final V element, final long timestamp, final long sequence,
+                             final boolean left) {
+            this.key = key;
+            this.element = element;
+            this.timestamp = timestamp;
+            this.sequence = sequence;
+            this.left = left;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package org.gojul.gojulutils.filter;
+
+import org.gojul.gojulutils.validation.GojulPreconditions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Class {@code GojulAdaptiveFilterComposite} is a composite implementation of the {@link GojulFilter}
+ * interface which, like {@link GojulFilterComposite}, accepts a value if and only if all its filters
+ * accept it, but which reorders its filters at runtime so that the cheap filters which reject many values
+ * are applied first. To do so it samples some of the calls to {@link #accept(Object, Object)}, measuring
+ * the time spent in each filter and how often it rejects values, and periodically sorts the filters per
+ * average cost divided by rejection rate.
+ * </p>
+ * <p>As the filters may be applied in any order, they must not have side effects, and must not depend on
+ * the fact that other filters have been applied before them : the result is then the same as the one of
+ * a {@link GojulFilterComposite}. The filters are applied without any lock, the current order being
+ * replaced as a whole when the filters are reordered, so that this class is thread-safe as long as its
+ * filters are.</p>
+ *
+ * @param <S> the type of objects to accept.
+ * @param <T> the type of the filtering context objects.
+ */
+public class GojulAdaptiveFilterComposite<S, T> implements GojulFilter<S, T> {
+
+    /**
+     * The default sampling rate, one call out of this number of calls being sampled.
+     */
+    public final static int DEFAULT_SAMPLING_RATE = 16;
+
+    /**
+     * The default number of sampled calls between two reorderings of the filters.
+     */
+    public final static int DEFAULT_REORDERING_INTERVAL = 1024;
+
+    private final int samplingRate;
+    private final int reorderingInterval;
+    private final AtomicLong sampledCalls;
+    private final AtomicBoolean reordering;
+    private volatile FilterEntry<S, T>[] entries;
+
+    /**
+     * Constructor. The filters are sampled and reordered using {@link #DEFAULT_SAMPLING_RATE} and
+     * {@link #DEFAULT_REORDERING_INTERVAL}.
+     *
+     * @param filters the list of filters to apply. These filters are initially applied following
+     *                the order in which they're declared in the list.
+     * @throws NullPointerException if {@code filters} is {@code null} or contains a {@code null} filter.
+     */
+    public GojulAdaptiveFilterComposite(final List<GojulFilter<S, T>> filters) {
+        this(filters, DEFAULT_SAMPLING_RATE, DEFAULT_REORDERING_INTERVAL);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param filters            the list of filters to apply. These filters are initially applied following
+     *                           the order in which they're declared in the list.
+     * @param samplingRate       the sampling rate, one call out of {@code samplingRate} calls being sampled on
+     *                           average. A rate of 1 means that all the calls are sampled.
+     * @param reorderingInterval the number of sampled calls between two reorderings of the filters.
+     * @throws NullPointerException     if {@code filters} is {@code null} or contains a {@code null} filter.
+     * @throws IllegalArgumentException if {@code samplingRate} or {@code reorderingInterval} is not strictly
+     *                                  positive.
+     */
+    @SuppressWarnings("unchecked")
+    public GojulAdaptiveFilterComposite(final List<GojulFilter<S, T>> filters, final int samplingRate,
+                                        final int reorderingInterval) {
+        Objects.requireNonNull(filters, "filters is null");
+        GojulPreconditions.checkAssertion(samplingRate > 0, "samplingRate must be strictly positive");
+        GojulPreconditions.checkAssertion(reorderingInterval > 0, "reorderingInterval must be strictly positive");
+
+        this.samplingRate = samplingRate;
+        this.reorderingInterval = reorderingInterval;
+        this.sampledCalls = new AtomicLong();
+        this.reordering = new AtomicBoolean();
+
+        FilterEntry<S, T>[] initialEntries = (FilterEntry<S, T>[]) new FilterEntry<?, ?>[filters.size()];
+        for (int i = 0; i < initialEntries.length; i++) {
+            initialEntries[i] = new FilterEntry<>(Objects.requireNonNull(filters.get(i), "filter is null"));
+        }
+        this.entries = initialEntries;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean accept(final S value, final T context) {
+        Objects.requireNonNull(value, "value is null");
+
+        FilterEntry<S, T>[] currentEntries = entries;
+        if (samplingRate > 1 && ThreadLocalRandom.current().nextInt(samplingRate) != 0) {
+            for (FilterEntry<S, T> entry : currentEntries) {
+                if (!entry.filter.accept(value, context)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean result = true;
+        for (FilterEntry<S, T> entry : currentEntries) {
+            long start = System.nanoTime();
+            boolean accepted = entry.filter.accept(value, context);
+            entry.record(System.nanoTime() - start, accepted);
+            if (!accepted) {
+                result = false;
+                break;
+            }
+        }
+
+        if (sampledCalls.incrementAndGet() % reorderingInterval == 0L) {
+            reorder();
+        }
+        return result;
+    }
+
+    /**
+     * Sort the filters per rank, using the statistics sampled since the previous reordering. Only
+     * one thread reorders the filters at a time, the other ones keep using the current order.
+     */
+    private void reorder() {
+        if (!reordering.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            FilterEntry<S, T>[] newEntries = entries.clone();
+            for (FilterEntry<S, T> entry : newEntries) {
+                entry.updateRank();
+            }
+            // The sort is stable, so that the filters which have the same rank keep their order.
+            Arrays.sort(newEntries, Comparator.comparingDouble(entry -> entry.rank));
+            entries = newEntries;
+        } finally {
+            reordering.set(false);
+        }
+    }
+
+    /**
+     * Return the filters, in the order in which they're currently applied.
+     *
+     * @return the filters, in the order in which they're currently applied.
+     */
+    public List<GojulFilter<S, T>> getFilters() {
+        List<GojulFilter<S, T>> result = new ArrayList<>();
+        for (FilterEntry<S, T> entry : entries) {
+            result.add(entry.filter);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * A filter along with the statistics sampled for it.
+     */
+    private final static class FilterEntry<S, T> {
+
+        private final GojulFilter<S, T> filter;
+        private final LongAdder evaluations;
+        private final LongAdder rejections;
+        private final LongAdder nanos;
+        // The rank of the filter, the filters with the lowest ranks being applied first. Only
+        // read and written by the thread which reorders the filters.
+        private double rank;
+
+        private FilterEntry(final GojulFilter<S, T> filter) {
+            this.filter = filter;
+            this.evaluations = new LongAdder();
+            this.rejections = new LongAdder();
+            this.nanos = new LongAdder();
+        }
+
+        private void record(final long elapsedNanos, final boolean accepted) {
+            evaluations.increment();
+            nanos.add(elapsedNanos);
+            if (!accepted) {
+                rejections.increment();
+            }
+        }
+
+        /**
+         * Compute the rank of the filter as its average cost divided by its rejection rate, and reset its
+         * statistics. The filters which have not been applied since the previous reordering, because the
+         * ones before them rejected all the values, keep their rank, which is 0 until they have been applied
+         * once so that they get applied first and measured.
+         */
+        private void updateRank() {
+            long evaluationCount = evaluations.sumThenReset();
+            long rejectionCount = rejections.sumThenReset();
+            long nanoCount = nanos.sumThenReset();
+            if (evaluationCount > 0L) {
+                double averageCost = Math.max(1.0, (double) nanoCount / evaluationCount);
+                // Smoothing the rejection rate avoids dividing by zero for the filters which reject nothing.
+                double rejectionRate = (rejectionCount + 1.0) / (evaluationCount + 2.0);
+                rank = averageCost / rejectionRate;
+            }
+        }
+    }
+}
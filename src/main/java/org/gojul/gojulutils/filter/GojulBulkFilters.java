@@ -0,0 +1,163 @@
+package org.gojul.gojulutils.filter;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Class {@code GojulBulkFilters} contains the implementation of the bulk operations of {@link GojulFilter},
+ * which apply a filter to a whole collection of values at once. The values are copied to an array and
+ * the result is computed as the words of a {@link BitSet}, range of values per range of values. In parallel
+ * mode the ranges are processed by the common fork/join pool, each range covering whole words so that
+ * ranges never write to the same word.
+ */
+final class GojulBulkFilters {
+
+    /**
+     * The number of values under which a range is not split anymore. This must be a multiple
+     * of 64 so that each range covers whole words.
+     */
+    final static int PARALLEL_THRESHOLD = 4096;
+
+    private GojulBulkFilters() {
+        // Private constructor. Prevents class from
+        // being instanciated from the outside.
+        throw new IllegalStateException("Shoo away !!!");
+    }
+
+    /**
+     * Interface {@code RangeAcceptor} sets the bits of the values of a range which are accepted by a filter.
+     *
+     * @param <T> the type of the filtering context objects.
+     */
+    @FunctionalInterface
+    interface RangeAcceptor<T> {
+
+        /**
+         * Set in {@code words} the bits of the values of {@code values} between {@code from} included and
+         * {@code to} excluded which are accepted. The bits of the range are all cleared when this method is
+         * called.
+         *
+         * @param values  the values.
+         * @param from    the index of the first value of the range.
+         * @param to      the index following the last value of the range.
+         * @param context the filtering context.
+         * @param words   the words of the result.
+         */
+        void acceptRange(final Object[] values, final int from, final int to, final T context, final long[] words);
+    }
+
+    /**
+     * Return the {@link RangeAcceptor} which applies {@code filter} to each value of the ranges.
+     *
+     * @param filter the filter.
+     * @param <S>    the type of objects to accept.
+     * @param <T>    the type of the filtering context objects.
+     * @return the {@link RangeAcceptor} which applies {@code filter} to each value of the ranges.
+     */
+    @SuppressWarnings("unchecked")
+    static <S, T> RangeAcceptor<T> rangeAcceptor(final GojulFilter<S, T> filter) {
+        return (values, from, to, context, words) -> {
+            for (int i = from; i < to; i++) {
+                if (filter.accept((S) values[i], context)) {
+                    words[i >>> 6] |= 1L << i;
+                }
+            }
+        };
+    }
+
+    /**
+     * Return the bit set of the values of {@code values} which are accepted by {@code acceptor}, bit
+     * {@code i} being set if the value at position {@code i} in {@code values} iteration order is accepted.
+     *
+     * @param values   the values.
+     * @param context  the filtering context.
+     * @param parallel {@code true} to process the values in parallel, {@code false} otherwise.
+     * @param acceptor the acceptor.
+     * @param <T>      the type of the filtering context objects.
+     * @return the bit set of the accepted values.
+     */
+    static <T> BitSet acceptAll(final Object[] values, final T context, final boolean parallel,
+                                final RangeAcceptor<T> acceptor) {
+        long[] words = new long[(values.length + 63) >>> 6];
+        if (parallel && values.length > PARALLEL_THRESHOLD) {
+            ForkJoinPool.commonPool().invoke(new AcceptTask<>(values, 0, values.length, context, acceptor, words));
+        } else {
+            acceptor.acceptRange(values, 0, values.length, context, words);
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Return the values of {@code values} which are accepted by {@code acceptor}, in their iteration order.
+     *
+     * @param values   the values.
+     * @param context  the filtering context.
+     * @param parallel {@code true} to process the values in parallel, {@code false} otherwise.
+     * @param acceptor the acceptor.
+     * @param <S>      the type of objects to accept.
+     * @param <T>      the type of the filtering context objects.
+     * @return the accepted values.
+     * @throws NullPointerException if {@code values} is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    static <S, T> List<S> filterAll(final Collection<? extends S> values, final T context, final boolean parallel,
+                                    final RangeAcceptor<T> acceptor) {
+        Objects.requireNonNull(values, "values is null");
+
+        Object[] array = values.toArray();
+        BitSet accepted = acceptAll(array, context, parallel, acceptor);
+        List<S> result = new ArrayList<>(accepted.cardinality());
+        for (int i = accepted.nextSetBit(0); i >= 0; i = accepted.nextSetBit(i + 1)) {
+            result.add((S) array[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Class {@code AcceptTask} processes a range of values, splitting it in two halves processed
+     * in parallel as long as it is bigger than {@link #PARALLEL_THRESHOLD}.
+     *
+     * @param <T> the type of the filtering context objects.
+     */
+    private final static class AcceptTask<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = -6104839217594375118L;
+
+        private final Object[] values;
+        private final int from;
+        private final int to;
+        private final T context;
+        private final RangeAcceptor<T> acceptor;
+        private final long[] words;
+
+        private AcceptTask(final Object[] values, final int from, final int to, final T context,
+                           final RangeAcceptor<T> acceptor, final long[] words) {
+            this.values = values;
+            this.from = from;
+            this.to = to;
+            this.context = context;
+            this.acceptor = acceptor;
+            this.words = words;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                acceptor.acceptRange(values, from, to, context, words);
+                return;
+            }
+            // Splitting on a multiple of 64 ensures that both halves cover distinct words.
+            int middle = (from + ((to - from) >>> 1)) & ~63;
+            invokeAll(new AcceptTask<>(values, from, middle, context, acceptor, words),
+                    new AcceptTask<>(values, middle, to, context, acceptor, words));
+        }
+    }
+}
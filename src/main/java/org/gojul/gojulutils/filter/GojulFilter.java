@@ -1,5 +1,10 @@
 package org.gojul.gojulutils.filter;
 
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
 /**
  * Interface {@code GojulFilter} is the generic interface used in order to perform
  * filtering. The goal here is to make it easy for you to create simple filters that
@@ -28,4 +33,68 @@ public interface GojulFilter<S, T> {
      * @throws NullPointerException if {@code value} is {@code null}.
      */
     boolean accept(final S value, final T context);
+
+    /**
+     * Return the bit set of the values of {@code values} which match the accept criteria, depending on
+     * the filtering context {@code context}. Bit {@code i} is set if the value at position {@code i} in
+     * the iteration order of {@code values} is accepted. This is the same as calling
+     * {@link #acceptAll(Collection, Object, boolean)} sequentially.
+     *
+     * @param values  the values to accept.
+     * @param context the filtering context object.
+     * @return the bit set of the accepted values.
+     * @throws NullPointerException if {@code values} is {@code null}, or contains {@code null}.
+     */
+    default BitSet acceptAll(final Collection<? extends S> values, final T context) {
+        return acceptAll(values, context, false);
+    }
+
+    /**
+     * Return the bit set of the values of {@code values} which match the accept criteria, depending on
+     * the filtering context {@code context}. Bit {@code i} is set if the value at position {@code i} in
+     * the iteration order of {@code values} is accepted. In parallel mode the values are split across the
+     * threads of the common fork/join pool, in which case the filter must be thread-safe. The result is
+     * the same in both modes.
+     *
+     * @param values   the values to accept.
+     * @param context  the filtering context object.
+     * @param parallel {@code true} to process the values in parallel, {@code false} otherwise.
+     * @return the bit set of the accepted values.
+     * @throws NullPointerException if {@code values} is {@code null}, or contains {@code null}.
+     */
+    default BitSet acceptAll(final Collection<? extends S> values, final T context, final boolean parallel) {
+        Objects.requireNonNull(values, "values is null");
+
+        return GojulBulkFilters.acceptAll(values.toArray(), context, parallel, GojulBulkFilters.rangeAcceptor(this));
+    }
+
+    /**
+     * Return the values of {@code values} which match the accept criteria, depending on the filtering
+     * context {@code context}, in their iteration order. This is the same as calling
+     * {@link #filterAll(Collection, Object, boolean)} sequentially.
+     *
+     * @param values  the values to accept.
+     * @param context the filtering context object.
+     * @return the accepted values.
+     * @throws NullPointerException if {@code values} is {@code null}, or contains {@code null}.
+     */
+    default List<S> filterAll(final Collection<? extends S> values, final T context) {
+        return filterAll(values, context, false);
+    }
+
+    /**
+     * Return the values of {@code values} which match the accept criteria, depending on the filtering
+     * context {@code context}, in their iteration order. In parallel mode the values are split across the
+     * threads of the common fork/join pool, in which case the filter must be thread-safe. The result is
+     * the same in both modes.
+     *
+     * @param values   the values to accept.
+     * @param context  the filtering context object.
+     * @param parallel {@code true} to process the values in parallel, {@code false} otherwise.
+     * @return the accepted values.
+     * @throws NullPointerException if {@code values} is {@code null}, or contains {@code null}.
+     */
+    default List<S> filterAll(final Collection<? extends S> values, final T context, final boolean parallel) {
+        return GojulBulkFilters.filterAll(values, context, parallel, GojulBulkFilters.rangeAcceptor(this));
+    }
 }
@@ -0,0 +1,158 @@
+package org.gojul.gojulutils.filter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Class {@code GojulFilterCompiler} compiles a tree of filters into a single {@link GojulFilter}, whose
+ * tree is a chain of {@link MethodHandle}s instead of nested {@link GojulFilterComposite} instances. When
+ * a composite contains filters of many different classes, the call to {@code filter.accept} in its loop
+ * sees all these classes, which prevents the JIT compiler from inlining it. In a compiled filter each
+ * filter of the tree is called from its own method handle, to which it is bound, so that once the JVM
+ * specializes the chain for the compiled filter each call only ever sees a single class.
+ * </p>
+ * <p>The compiled filter returns the same results as the tree it has been compiled from, applying the
+ * filters in the same order and stopping as soon as the result is known. The tree is read when
+ * the filter is compiled, so that the filters it contains must not be modified afterwards. The ANDs,
+ * ORs, negations and constant filters of this package are all compiled into the chain, which can be
+ * combined with {@link GojulFilters#normalize(GojulFilter)} in order to simplify the tree first. The other
+ * filters, including the subclasses of these ones and the filters whose order changes at runtime like
+ * {@link GojulAdaptiveFilterComposite}, are compiled as a whole.</p>
+ */
+public final class GojulFilterCompiler {
+
+    private final static MethodType ACCEPT_TYPE = MethodType.methodType(boolean.class, Object.class, Object.class);
+    private final static MethodHandle ACCEPT;
+    private final static MethodHandle NOT;
+    private final static MethodHandle ALWAYS_TRUE = MethodHandles.dropArguments(
+            MethodHandles.constant(boolean.class, true), 0, Object.class, Object.class);
+    private final static MethodHandle ALWAYS_FALSE = MethodHandles.dropArguments(
+            MethodHandles.constant(boolean.class, false), 0, Object.class, Object.class);
+
+    static {
+        try {
+            ACCEPT = MethodHandles.publicLookup().findVirtual(GojulFilter.class, "accept", ACCEPT_TYPE);
+            NOT = MethodHandles.lookup().findStatic(GojulFilterCompiler.class, "not",
+                    MethodType.methodType(boolean.class, boolean.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private GojulFilterCompiler() {
+        // Private constructor. Prevents class from
+        // being instanciated from the outside.
+        throw new IllegalStateException("Shoo away !!!");
+    }
+
+    /**
+     * Compile {@code filter} into a single filter.
+     *
+     * @param filter the filter to compile, typically a {@link GojulFilterComposite}.
+     * @param <S>    the type of objects to accept.
+     * @param <T>    the type of the filtering context objects.
+     * @return the compiled filter.
+     * @throws NullPointerException if {@code filter} is {@code null}, or contains {@code null} filters.
+     */
+    public static <S, T> GojulFilter<S, T> compile(final GojulFilter<S, T> filter) {
+        Objects.requireNonNull(filter, "filter is null");
+
+        return new CompiledFilter<>(compileHandle(filter));
+    }
+
+    /**
+     * Compile {@code filter} into a single filter which always uses {@code context} as its filtering
+     * context, whatever the context passed to it. Binding the context when compiling the filter avoids
+     * passing it along the chain for each value.
+     *
+     * @param filter  the filter to compile, typically a {@link GojulFilterComposite}.
+     * @param context the filtering context, which can be {@code null}.
+     * @param <S>     the type of objects to accept.
+     * @param <T>     the type of the filtering context objects.
+     * @return the compiled filter, which ignores the context passed to it.
+     * @throws NullPointerException if {@code filter} is {@code null}, or contains {@code null} filters.
+     */
+    public static <S, T> GojulFilter<S, T> compile(final GojulFilter<S, T> filter, final T context) {
+        Objects.requireNonNull(filter, "filter is null");
+
+        MethodHandle bound = MethodHandles.insertArguments(compileHandle(filter), 1, context);
+        return new CompiledFilter<>(MethodHandles.dropArguments(bound, 1, Object.class));
+    }
+
+    /**
+     * Return the method handle of type {@code (Object, Object) boolean} which applies {@code filter}.
+     */
+    private static MethodHandle compileHandle(final GojulFilter<?, ?> filter) {
+        Objects.requireNonNull(filter, "filter is null");
+
+        if (filter instanceof CompiledFilter) {
+            return ((CompiledFilter<?, ?>) filter).handle;
+        }
+        Boolean constant = GojulFilters.constantValueOf(filter);
+        if (constant != null) {
+            return constant ? ALWAYS_TRUE : ALWAYS_FALSE;
+        }
+        if (filter.getClass() == GojulFilterComposite.class) {
+            return compileJunction(((GojulFilterComposite<?, ?>) filter).getFilters(), true);
+        }
+        if (filter.getClass() == GojulOrFilterComposite.class) {
+            return compileJunction(((GojulOrFilterComposite<?, ?>) filter).getFilters(), false);
+        }
+        if (filter.getClass() == GojulNotFilter.class) {
+            return MethodHandles.filterReturnValue(compileHandle(((GojulNotFilter<?, ?>) filter).getFilter()), NOT);
+        }
+        return ACCEPT.bindTo(filter);
+    }
+
+    /**
+     * Compile an AND of {@code filters} if {@code and} is {@code true}, an OR of them otherwise.
+     */
+    private static MethodHandle compileJunction(final List<? extends GojulFilter<?, ?>> filters, final boolean and) {
+        MethodHandle result = and ? ALWAYS_TRUE : ALWAYS_FALSE;
+        for (int i = filters.size() - 1; i >= 0; i--) {
+            MethodHandle test = compileHandle(filters.get(i));
+            result = and ? MethodHandles.guardWithTest(test, result, ALWAYS_FALSE)
+                    : MethodHandles.guardWithTest(test, ALWAYS_TRUE, result);
+        }
+        return result;
+    }
+
+    private static boolean not(final boolean value) {
+        return !value;
+    }
+
+    /**
+     * The filter which applies a compiled method handle.
+     *
+     * @param <S> the type of objects to accept.
+     * @param <T> the type of the filtering context objects.
+     */
+    private final static class CompiledFilter<S, T> implements GojulFilter<S, T> {
+
+        private final MethodHandle handle;
+
+        private CompiledFilter(final MethodHandle handle) {
+            this.handle = handle;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean accept(final S value, final T context) {
+            Objects.requireNonNull(value, "value is null");
+
+            try {
+                return (boolean) handle.invokeExact((Object) value, (Object) context);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Error while applying the compiled filter", e);
+            }
+        }
+    }
+}
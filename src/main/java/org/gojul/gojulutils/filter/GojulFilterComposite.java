@@ -1,6 +1,8 @@
 package org.gojul.gojulutils.filter;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
@@ -8,6 +10,9 @@ import java.util.Objects;
  * Class {@code GojulFilterComposite} is a composite implementation of
  * the {@link GojulFilter} interface. It simply aggregates other {@link GojulFilter}
  * instances so that you could write your own filtering rules much more easily.
+ * The bulk operations apply the filters one after the other to the values which
+ * have not been rejected yet, instead of applying all the filters to a value before
+ * moving to the next one, which keeps each filter call hot while filtering many values.
  *
  * @param <S> the type of objects to accept.
  * @param <T> the type of the filtering context objects.
@@ -28,6 +33,16 @@ public class GojulFilterComposite<S, T> implements GojulFilter<S, T> {
         this.filters = new ArrayList<>(filters);
     }
 
+    /**
+     * Return the filters, in the order in which they're applied. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the filters, in the order in which they're applied.
+     */
+    List<GojulFilter<S, T>> getFilters() {
+        return filters;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -43,4 +58,52 @@ public class GojulFilterComposite<S, T> implements GojulFilter<S, T> {
 
         return true;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet acceptAll(final Collection<? extends S> values, final T context, final boolean parallel) {
+        Objects.requireNonNull(values, "values is null");
+
+        return GojulBulkFilters.acceptAll(values.toArray(), context, parallel, rangeAcceptor());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<S> filterAll(final Collection<? extends S> values, final T context, final boolean parallel) {
+        return GojulBulkFilters.filterAll(values, context, parallel, rangeAcceptor());
+    }
+
+    /**
+     * Return the range acceptor used by the bulk operations. Applying the filters one after the other
+     * bypasses {@link #accept(Object, Object)}, so that a subclass which overrides it falls back to
+     * applying it to each value.
+     *
+     * @return the range acceptor used by the bulk operations.
+     */
+    private GojulBulkFilters.RangeAcceptor<T> rangeAcceptor() {
+        return getClass() == GojulFilterComposite.class ? this::acceptRange : GojulBulkFilters.rangeAcceptor(this);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void acceptRange(final Object[] values, final int from, final int to, final T context,
+                             final long[] words) {
+        for (int i = from; i < to; i++) {
+            Objects.requireNonNull(values[i], "value is null");
+            words[i >>> 6] |= 1L << i;
+        }
+
+        // Each filter is only applied to the values which the previous ones accepted, as accept() does.
+        for (GojulFilter<S, T> filter : filters) {
+            for (int i = from; i < to; i++) {
+                long mask = 1L << i;
+                if ((words[i >>> 6] & mask) != 0L && !filter.accept((S) values[i], context)) {
+                    words[i >>> 6] &= ~mask;
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,224 @@
+package org.gojul.gojulutils.filter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>
+ * Class {@code GojulFilters} contains the operations of the boolean algebra of {@link GojulFilter}
+ * instances : AND, OR, NOT and the constant filters, along with a normalizer which simplifies trees of
+ * filters, typically trees built from some configuration, so that they apply as few filters as possible.
+ * </p>
+ * <p>The normalizer only simplifies the filters of this package whose class is exactly
+ * {@link GojulFilterComposite}, {@link GojulOrFilterComposite} or {@link GojulNotFilter}, the other filters,
+ * including subclasses of these ones, being kept as is. As it may remove some filters or change the
+ * number of times they're applied, the filters of the trees it normalizes must not have side effects.</p>
+ */
+public final class GojulFilters {
+
+    private final static GojulFilter<Object, Object> ALWAYS_TRUE = new ConstantFilter(true);
+    private final static GojulFilter<Object, Object> ALWAYS_FALSE = new ConstantFilter(false);
+
+    private GojulFilters() {
+        // Private constructor. Prevents class from
+        // being instanciated from the outside.
+        throw new IllegalStateException("Shoo away !!!");
+    }
+
+    /**
+     * Return the filter which accepts all the values.
+     *
+     * @param <S> the type of objects to accept.
+     * @param <T> the type of the filtering context objects.
+     * @return the filter which accepts all the values.
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, T> GojulFilter<S, T> alwaysTrue() {
+        return (GojulFilter<S, T>) ALWAYS_TRUE;
+    }
+
+    /**
+     * Return the filter which rejects all the values.
+     *
+     * @param <S> the type of objects to accept.
+     * @param <T> the type of the filtering context objects.
+     * @return the filter which rejects all the values.
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, T> GojulFilter<S, T> alwaysFalse() {
+        return (GojulFilter<S, T>) ALWAYS_FALSE;
+    }
+
+    /**
+     * Return the filter which accepts the values which all of {@code filters} accept.
+     *
+     * @param filters the filters, applied following the order in which they're declared.
+     * @param <S>     the type of objects to accept.
+     * @param <T>     the type of the filtering context objects.
+     * @return the filter which accepts the values which all of {@code filters} accept.
+     * @throws NullPointerException if {@code filters} is {@code null}.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <S, T> GojulFilter<S, T> and(final GojulFilter<S, T>... filters) {
+        Objects.requireNonNull(filters, "filters is null");
+
+        return new GojulFilterComposite<>(Arrays.asList(filters));
+    }
+
+    /**
+     * Return the filter which accepts the values which one of {@code filters} at least accepts.
+     *
+     * @param filters the filters, applied following the order in which they're declared.
+     * @param <S>     the type of objects to accept.
+     * @param <T>     the type of the filtering context objects.
+     * @return the filter which accepts the values which one of {@code filters} at least accepts.
+     * @throws NullPointerException if {@code filters} is {@code null}.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <S, T> GojulFilter<S, T> or(final GojulFilter<S, T>... filters) {
+        Objects.requireNonNull(filters, "filters is null");
+
+        return new GojulOrFilterComposite<>(Arrays.asList(filters));
+    }
+
+    /**
+     * Return the filter which accepts the values which {@code filter} rejects.
+     *
+     * @param filter the filter to negate.
+     * @param <S>    the type of objects to accept.
+     * @param <T>    the type of the filtering context objects.
+     * @return the filter which accepts the values which {@code filter} rejects.
+     * @throws NullPointerException if {@code filter} is {@code null}.
+     */
+    public static <S, T> GojulFilter<S, T> not(final GojulFilter<S, T> filter) {
+        return new GojulNotFilter<>(filter);
+    }
+
+    /**
+     * Return the value of {@code filter} if it is one of the constant filters, {@code null} otherwise.
+     * Note that this method is package private because outer classes should not use it directly.
+     *
+     * @param filter the filter.
+     * @return the value of {@code filter} if it is one of the constant filters, {@code null} otherwise.
+     */
+    static Boolean constantValueOf(final GojulFilter<?, ?> filter) {
+        return filter instanceof ConstantFilter ? ((ConstantFilter) filter).value : null;
+    }
+
+    /**
+     * Return a filter equivalent to {@code filter}, which applies as few filters as possible. The
+     * normalization :
+     * <ul>
+     * <li>flattens the ANDs nested in ANDs, and the ORs nested in ORs,</li>
+     * <li>removes the filters which appear several times in the same AND or OR, comparing them by
+     * identity, and keeps their first occurrence,</li>
+     * <li>removes the constant filters which have no effect, like {@link #alwaysTrue()} in an AND, and
+     * replaces the ANDs and ORs which contain a constant filter deciding their result by this constant
+     * filter, like an AND which contains {@link #alwaysFalse()},</li>
+     * <li>replaces the empty ANDs and ORs by the constant filter they're equivalent to, and the ANDs and
+     * ORs which contain a single filter by this filter,</li>
+     * <li>removes double negations, and replaces the negation of a constant filter by the opposite one.</li>
+     * </ul>
+     * The filters are otherwise applied in the same order. {@code filter} itself is not modified.
+     *
+     * @param filter the filter to normalize.
+     * @param <S>    the type of objects to accept.
+     * @param <T>    the type of the filtering context objects.
+     * @return the normalized filter, which may be {@code filter} itself.
+     * @throws NullPointerException if {@code filter} is {@code null}, or contains {@code null} filters.
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, T> GojulFilter<S, T> normalize(final GojulFilter<S, T> filter) {
+        Objects.requireNonNull(filter, "filter is null");
+
+        if (filter.getClass() == GojulFilterComposite.class) {
+            return normalizeJunction(((GojulFilterComposite<S, T>) filter).getFilters(), true);
+        }
+        if (filter.getClass() == GojulOrFilterComposite.class) {
+            return normalizeJunction(((GojulOrFilterComposite<S, T>) filter).getFilters(), false);
+        }
+        if (filter.getClass() == GojulNotFilter.class) {
+            GojulFilter<S, T> negated = normalize(((GojulNotFilter<S, T>) filter).getFilter());
+            Boolean constant = constantValueOf(negated);
+            if (constant != null) {
+                return constant ? alwaysFalse() : alwaysTrue();
+            }
+            if (negated.getClass() == GojulNotFilter.class) {
+                return ((GojulNotFilter<S, T>) negated).getFilter();
+            }
+            return negated == ((GojulNotFilter<S, T>) filter).getFilter() ? filter : new GojulNotFilter<>(negated);
+        }
+        return filter;
+    }
+
+    /**
+     * Normalize an AND of {@code filters} if {@code and} is {@code true}, an OR of them otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    private static <S, T> GojulFilter<S, T> normalizeJunction(final List<GojulFilter<S, T>> filters,
+                                                              final boolean and) {
+        Class<?> junctionClass = and ? GojulFilterComposite.class : GojulOrFilterComposite.class;
+        List<GojulFilter<S, T>> result = new ArrayList<>(filters.size());
+        Set<GojulFilter<S, T>> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (GojulFilter<S, T> child : filters) {
+            GojulFilter<S, T> normalized = normalize(child);
+            Boolean constant = constantValueOf(normalized);
+            if (constant != null) {
+                if (constant != and) {
+                    // The constant decides the result, whatever the other filters.
+                    return normalized;
+                }
+                continue;
+            }
+            // A normalized junction of the same kind does not contain constants nor junctions
+            // of the same kind, so that its filters can be added as is.
+            List<GojulFilter<S, T>> flattened = normalized.getClass() != junctionClass
+                    ? Collections.singletonList(normalized)
+                    : and ? ((GojulFilterComposite<S, T>) normalized).getFilters()
+                    : ((GojulOrFilterComposite<S, T>) normalized).getFilters();
+            for (GojulFilter<S, T> f : flattened) {
+                if (seen.add(f)) {
+                    result.add(f);
+                }
+            }
+        }
+
+        if (result.isEmpty()) {
+            return and ? alwaysTrue() : alwaysFalse();
+        }
+        if (result.size() == 1) {
+            return result.get(0);
+        }
+        return and ? new GojulFilterComposite<>(result) : new GojulOrFilterComposite<>(result);
+    }
+
+    /**
+     * The constant filters.
+     */
+    private final static class ConstantFilter implements GojulFilter<Object, Object> {
+
+        private final boolean value;
+
+        private ConstantFilter(final boolean value) {
+            this.value = value;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean accept(final Object value, final Object context) {
+            Objects.requireNonNull(value, "value is null");
+
+            return this.value;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package org.gojul.gojulutils.filter;
+
+import org.gojul.gojulutils.data.GojulPair;
+import org.gojul.gojulutils.validation.GojulPreconditions;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>
+ * Class {@code GojulMemoizingFilter} is a decorator of {@link GojulFilter} which caches the results of the
+ * filter it decorates per value and context, so that applying it again to the same value in the same
+ * context does not apply the decorated filter again. It is intended for the filters which are expensive,
+ * like regular expressions matching or remote lookups, and which are applied to the same values many times.
+ * The decorated filter must thus not have side effects, and its result must only depend on the value and
+ * the context, which must both implement {@link Object#equals(Object)} and {@link Object#hashCode()}.
+ * </p>
+ * <p>The cache is bounded : once it contains its maximum number of results, each new result evicts an older
+ * one, following the "clock" algorithm, which evicts the oldest results first but gives a second chance to
+ * the results which have been read since they have been cached. The results can also expire after some
+ * time, in which case the decorated filter is applied again. The cache does not use any lock, so that
+ * this class is thread-safe as long as the decorated filter is. Note that two threads which apply the
+ * filter to the same value at the same time may both apply the decorated filter.</p>
+ *
+ * @param <S> the type of objects to accept.
+ * @param <T> the type of the filtering context objects.
+ */
+public class GojulMemoizingFilter<S, T> implements GojulFilter<S, T> {
+
+    private final GojulFilter<S, T> filter;
+    private final int maxSize;
+    private final long expireAfterNanos;
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<GojulPair<S, T>, CachedResult> results;
+    // The keys of the cached results, in the order of the clock.
+    private final Queue<GojulPair<S, T>> clock;
+    private final AtomicInteger size;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    /**
+     * Constructor. The cached results never expire.
+     *
+     * @param filter  the filter to decorate.
+     * @param maxSize the maximum number of cached results.
+     * @throws NullPointerException     if {@code filter} is {@code null}.
+     * @throws IllegalArgumentException if {@code maxSize} is not strictly positive.
+     */
+    public GojulMemoizingFilter(final GojulFilter<S, T> filter, final int maxSize) {
+        this(filter, maxSize, 0L, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param filter      the filter to decorate.
+     * @param maxSize     the maximum number of cached results.
+     * @param expireAfter the duration after which the cached results expire, or 0 if they never expire.
+     * @param unit        the unit of {@code expireAfter}.
+     * @throws NullPointerException     if {@code filter} or {@code unit} is {@code null}.
+     * @throws IllegalArgumentException if {@code maxSize} is not strictly positive, or if {@code expireAfter}
+     *                                  is negative.
+     */
+    public GojulMemoizingFilter(final GojulFilter<S, T> filter, final int maxSize, final long expireAfter,
+                                final TimeUnit unit) {
+        this(filter, maxSize, expireAfter, unit, System::nanoTime);
+    }
+
+    /**
+     * Constructor. Note that this constructor is package private because outer classes
+     * should not use it directly.
+     *
+     * @param filter      the filter to decorate.
+     * @param maxSize     the maximum number of cached results.
+     * @param expireAfter the duration after which the cached results expire, or 0 if they never expire.
+     * @param unit        the unit of {@code expireAfter}.
+     * @param nanoClock   the clock used in order to expire the results, in nanoseconds.
+     */
+    GojulMemoizingFilter(final GojulFilter<S, T> filter, final int maxSize, final long expireAfter,
+                         final TimeUnit unit, final LongSupplier nanoClock) {
+        Objects.requireNonNull(filter, "filter is null");
+        Objects.requireNonNull(unit, "unit is null");
+        GojulPreconditions.checkAssertion(maxSize > 0, "maxSize must be strictly positive");
+        GojulPreconditions.checkAssertion(expireAfter >= 0L, "expireAfter must not be negative");
+
+        this.filter = filter;
+        this.maxSize = maxSize;
+        this.expireAfterNanos = unit.toNanos(expireAfter);
+        this.nanoClock = nanoClock;
+        this.results = new ConcurrentHashMap<>();
+        this.clock = new ConcurrentLinkedQueue<>();
+        this.size = new AtomicInteger();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean accept(final S value, final T context) {
+        Objects.requireNonNull(value, "value is null");
+
+        GojulPair<S, T> key = new GojulPair<>(value, context);
+        CachedResult cached = results.get(key);
+        long now = expireAfterNanos > 0L ? nanoClock.getAsLong() : 0L;
+        if (cached != null && (expireAfterNanos == 0L || now - cached.cachedAt < expireAfterNanos)) {
+            cached.referenced = true;
+            hits.increment();
+            return cached.result;
+        }
+
+        misses.increment();
+        boolean result = filter.accept(value, context);
+        CachedResult newResult = new CachedResult(result, now);
+        if (cached != null) {
+            // The key already has its place in the clock.
+            results.replace(key, cached, newResult);
+        } else if (results.putIfAbsent(key, newResult) == null) {
+            clock.add(key);
+            if (size.incrementAndGet() > maxSize) {
+                evict();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Evict cached results until the cache does not contain more than its maximum number of results.
+     */
+    private void evict() {
+        while (size.get() > maxSize) {
+            GojulPair<S, T> key = clock.poll();
+            if (key == null) {
+                return;
+            }
+            CachedResult cached = results.get(key);
+            if (cached == null) {
+                continue;
+            }
+            if (cached.referenced) {
+                cached.referenced = false;
+                clock.add(key);
+            } else if (results.remove(key, cached)) {
+                size.decrementAndGet();
+                evictions.increment();
+            } else {
+                // The result has been replaced meanwhile, so that it keeps its place in the clock.
+                clock.add(key);
+            }
+        }
+    }
+
+    /**
+     * Return the number of results currently cached.
+     *
+     * @return the number of results currently cached.
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Return the number of times a cached result has been returned.
+     *
+     * @return the number of times a cached result has been returned.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Return the number of times the decorated filter has been applied, because no result was
+     * cached or because the cached result had expired.
+     *
+     * @return the number of times the decorated filter has been applied.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Return the number of results evicted from the cache in order to keep it bounded.
+     *
+     * @return the number of results evicted from the cache.
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Return the ratio of the calls which returned a cached result, or 0 if the filter has not been
+     * applied yet.
+     *
+     * @return the ratio of the calls which returned a cached result.
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0L ? 0.0 : (double) hitCount / total;
+    }
+
+    /**
+     * A cached result.
+     */
+    private final static class CachedResult {
+
+        private final boolean result;
+        private final long cachedAt;
+        private volatile boolean referenced;
+
+        private CachedResult(final boolean result, final long cachedAt) {
+            this.result = result;
+            this.cachedAt = cachedAt;
+        }
+    }
+}
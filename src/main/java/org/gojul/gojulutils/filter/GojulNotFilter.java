@@ -0,0 +1,48 @@
+package org.gojul.gojulutils.filter;
+
+import java.util.Objects;
+
+/**
+ * Class {@code GojulNotFilter} is an implementation of the {@link GojulFilter}
+ * interface which accepts the values that the filter it wraps rejects, and rejects
+ * the values it accepts.
+ *
+ * @param <S> the type of objects to accept.
+ * @param <T> the type of the filtering context objects.
+ * @see GojulFilters#normalize(GojulFilter)
+ */
+public class GojulNotFilter<S, T> implements GojulFilter<S, T> {
+
+    private final GojulFilter<S, T> filter;
+
+    /**
+     * Constructor.
+     *
+     * @param filter the filter to negate.
+     * @throws NullPointerException if {@code filter} is {@code null}.
+     */
+    public GojulNotFilter(final GojulFilter<S, T> filter) {
+        Objects.requireNonNull(filter, "filter is null");
+        this.filter = filter;
+    }
+
+    /**
+     * Return the negated filter. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the negated filter.
+     */
+    GojulFilter<S, T> getFilter() {
+        return filter;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean accept(final S value, final T context) {
+        Objects.requireNonNull(value, "value is null");
+
+        return !filter.accept(value, context);
+    }
+}
@@ -0,0 +1,110 @@
+package org.gojul.gojulutils.filter;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Class {@code GojulOrFilterComposite} is a composite implementation of
+ * the {@link GojulFilter} interface which accepts a value as soon as one of the
+ * {@link GojulFilter} instances it aggregates accepts it, the same way
+ * {@link GojulFilterComposite} accepts a value only if all its filters accept it.
+ * A composite which does not contain any filter thus rejects all the values.
+ * The bulk operations apply the filters one after the other to the values which
+ * have not been accepted yet.
+ *
+ * @param <S> the type of objects to accept.
+ * @param <T> the type of the filtering context objects.
+ * @see GojulFilters#normalize(GojulFilter)
+ */
+public class GojulOrFilterComposite<S, T> implements GojulFilter<S, T> {
+
+    private final List<GojulFilter<S, T>> filters;
+
+    /**
+     * Constructor.
+     *
+     * @param filters the list of filters to apply. These filters will be applied
+     *                following the order in which they're declared in the list.
+     * @throws NullPointerException if {@code filters} is {@code null}.
+     */
+    public GojulOrFilterComposite(final List<GojulFilter<S, T>> filters) {
+        Objects.requireNonNull(filters, "filters is null");
+        this.filters = new ArrayList<>(filters);
+    }
+
+    /**
+     * Return the filters, in the order in which they're applied. Note that this method is package
+     * private because outer classes should not use it directly.
+     *
+     * @return the filters, in the order in which they're applied.
+     */
+    List<GojulFilter<S, T>> getFilters() {
+        return filters;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean accept(final S value, final T context) {
+        Objects.requireNonNull(value, "value is null");
+
+        for (GojulFilter<S, T> filter : filters) {
+            if (filter.accept(value, context)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet acceptAll(final Collection<? extends S> values, final T context, final boolean parallel) {
+        Objects.requireNonNull(values, "values is null");
+
+        return GojulBulkFilters.acceptAll(values.toArray(), context, parallel, rangeAcceptor());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<S> filterAll(final Collection<? extends S> values, final T context, final boolean parallel) {
+        return GojulBulkFilters.filterAll(values, context, parallel, rangeAcceptor());
+    }
+
+    /**
+     * Return the range acceptor used by the bulk operations. Applying the filters one after the other
+     * bypasses {@link #accept(Object, Object)}, so that a subclass which overrides it falls back to
+     * applying it to each value.
+     *
+     * @return the range acceptor used by the bulk operations.
+     */
+    private GojulBulkFilters.RangeAcceptor<T> rangeAcceptor() {
+        return getClass() == GojulOrFilterComposite.class ? this::acceptRange : GojulBulkFilters.rangeAcceptor(this);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void acceptRange(final Object[] values, final int from, final int to, final T context,
+                             final long[] words) {
+        for (int i = from; i < to; i++) {
+            Objects.requireNonNull(values[i], "value is null");
+        }
+
+        // Each filter is only applied to the values which the previous ones rejected, as accept() does.
+        for (GojulFilter<S, T> filter : filters) {
+            for (int i = from; i < to; i++) {
+                long mask = 1L << i;
+                if ((words[i >>> 6] & mask) == 0L && filter.accept((S) values[i], context)) {
+                    words[i >>> 6] |= mask;
+                }
+            }
+        }
+    }
+}
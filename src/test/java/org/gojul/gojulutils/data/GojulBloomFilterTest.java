@@ -0,0 +1,43 @@
+package org.gojul.gojulutils.data;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertTrue;
+
+public class GojulBloomFilterTest {
+
+    @Test
+    public void testNoFalseNegatives() {
+        GojulBloomFilter filter = new GojulBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(Integer.valueOf(i * 7).hashCode());
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain(Integer.valueOf(i * 7).hashCode()));
+        }
+    }
+
+    @Test
+    public void testFalsePositiveRate() {
+        GojulBloomFilter filter = new GojulBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(("key" + i).hashCode());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(("other" + i).hashCode())) {
+                falsePositives++;
+            }
+        }
+        assertTrue("Too many false positives : " + falsePositives, falsePositives < 2_000);
+    }
+
+    @Test
+    public void testEmptyFilter() {
+        GojulBloomFilter filter = new GojulBloomFilter(0, 0.5);
+        filter.put(0);
+
+        assertTrue(filter.mightContain(0));
+    }
+}
@@ -0,0 +1,109 @@
+package org.gojul.gojulutils.data;
+
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class GojulCompactGroupedMapTest {
+
+    private final GojulJoinData.GojulJoinDataKey<String, String> key = e -> e.isEmpty() ? null : e.substring(0, 1);
+
+    @Test
+    public void testGroups() {
+        GojulCompactGroupedMap<String, String> map = new GojulCompactGroupedMap<>(key,
+                Arrays.asList("20", "123", "", "25", "10", "", "35"));
+
+        assertEquals(4, map.size());
+        assertEquals(4, map.groupCount());
+        assertEquals(7, map.elementCount());
+        assertEquals(Arrays.asList("2", "1", null, "3"), new ArrayList<>(map.keySet()));
+        assertEquals(Arrays.asList("20", "25"), map.get("2"));
+        assertEquals(Arrays.asList("123", "10"), map.get("1"));
+        assertEquals(Arrays.asList("", ""), map.get(null));
+        assertEquals(Collections.singletonList("35"), map.get("3"));
+        assertNull(map.get("4"));
+        assertTrue(map.containsKey(null));
+        assertFalse(map.containsKey("4"));
+        assertEquals(2, map.groupIndex(null));
+        assertEquals(-1, map.groupIndex("4"));
+        assertEquals("3", map.groupKey(3));
+        assertEquals(Collections.singletonList("35"), map.group(3));
+    }
+
+    @Test
+    public void testBuilderWithPrecomputedKeys() {
+        GojulCompactGroupedMap.Builder<String, String> builder = new GojulCompactGroupedMap.Builder<>(
+                GojulKeyEquivalence.natural());
+        builder.add("2", "20");
+        builder.add(null, "");
+        builder.add("2", "25");
+        assertEquals(2, builder.groupCount());
+        builder.add("1", "10");
+        assertEquals(3, builder.groupCount());
+
+        GojulCompactGroupedMap<String, String> map = builder.build();
+        assertEquals(Arrays.asList("2", null, "1"), new ArrayList<>(map.keySet()));
+        assertEquals(Arrays.asList("20", "25"), map.get("2"));
+        assertEquals(Collections.singletonList(""), map.get(null));
+        assertEquals(Collections.singletonList("10"), map.get("1"));
+    }
+
+    @Test
+    public void testEqualsHashCode() {
+        List<String> data = Arrays.asList("20", "123", "", "25", "10", "", "35");
+        Map<String, List<String>> expected = new LinkedHashMap<>();
+        for (String e : data) {
+            expected.computeIfAbsent(key.getKey(e), k -> new ArrayList<>()).add(e);
+        }
+
+        GojulCompactGroupedMap<String, String> map = new GojulCompactGroupedMap<>(key, data);
+
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        assertEquals(expected.hashCode(), map.hashCode());
+    }
+
+    @Test
+    public void testEmpty() {
+        GojulCompactGroupedMap<String, String> map = new GojulCompactGroupedMap<>(key, Collections.emptyList());
+
+        assertTrue(map.isEmpty());
+        assertNull(map.get("1"));
+        assertNull(map.get(null));
+    }
+
+    @Test
+    public void testManyKeys() {
+        List<Integer> data = new ArrayList<>();
+        Random random = new Random(42L);
+        for (int i = 0; i < 20000; i++) {
+            data.add(random.nextInt(5000));
+        }
+        Map<Integer, List<Integer>> expected = new LinkedHashMap<>();
+        for (Integer e : data) {
+            expected.computeIfAbsent(e % 3000, k -> new ArrayList<>()).add(e);
+        }
+
+        GojulCompactGroupedMap<Integer, Integer> map = new GojulCompactGroupedMap<>(e -> e % 3000, data);
+
+        assertEquals(expected, map);
+        assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(map.keySet()));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testGroupsAreUnmodifiable() {
+        new GojulCompactGroupedMap<>(key, Arrays.asList("10", "20")).get("1").add("30");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testMapIsUnmodifiable() {
+        new GojulCompactGroupedMap<>(key, Arrays.asList("10", "20")).put("3", Collections.singletonList("30"));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGroupOutOfBoundsThrowsException() {
+        new GojulCompactGroupedMap<>(key, Arrays.asList("10", "20", "25")).get("2").get(2);
+    }
+}
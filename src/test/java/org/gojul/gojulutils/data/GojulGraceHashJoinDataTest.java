@@ -0,0 +1,103 @@
+package org.gojul.gojulutils.data;
+
+import org.junit.Test;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class GojulGraceHashJoinDataTest {
+
+    private final GojulJoinData.GojulJoinDataKey<String, String> keyLeft = e -> e.substring(0, 1);
+    private final GojulJoinData.GojulJoinDataKey<String, Integer> keyRight = e -> String.valueOf(e).substring(0, 1);
+
+    private final List<String> leftData = Collections.unmodifiableList(Arrays.asList("123", "10", "20", "25", "35"));
+    private final List<Integer> rightData = Collections.unmodifiableList(Arrays.asList(143, 100, 232, 275, 321));
+
+    private final GojulJoinSerializer<String> stringSerializer = new GojulJoinSerializer<String>() {
+        @Override
+        public void write(final String value, final DataOutput out) throws IOException {
+            out.writeUTF(value);
+        }
+
+        @Override
+        public String read(final DataInput in) throws IOException {
+            return in.readUTF();
+        }
+    };
+
+    private final GojulJoinSerializer<Integer> intSerializer = new GojulJoinSerializer<Integer>() {
+        @Override
+        public void write(final Integer value, final DataOutput out) throws IOException {
+            out.writeInt(value);
+        }
+
+        @Override
+        public Integer read(final DataInput in) throws IOException {
+            return in.readInt();
+        }
+    };
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullLeftKeyThrowsException() {
+        new GojulGraceHashJoinData<>(null, leftData, stringSerializer, keyRight, rightData, intSerializer, 10);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullLeftDataThrowsException() {
+        new GojulGraceHashJoinData<>(keyLeft, null, stringSerializer, keyRight, rightData, intSerializer, 10);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullLeftSerializerThrowsException() {
+        new GojulGraceHashJoinData<>(keyLeft, leftData, null, keyRight, rightData, intSerializer, 10);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullRightKeyThrowsException() {
+        new GojulGraceHashJoinData<>(keyLeft, leftData, stringSerializer, null, rightData, intSerializer, 10);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullRightDataThrowsException() {
+        new GojulGraceHashJoinData<>(keyLeft, leftData, stringSerializer, keyRight, null, intSerializer, 10);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullRightSerializerThrowsException() {
+        new GojulGraceHashJoinData<>(keyLeft, leftData, stringSerializer, keyRight, rightData, null, 10);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullTempDirectoryThrowsException() {
+        new GojulGraceHashJoinData<>(keyLeft, leftData, stringSerializer, keyRight, rightData, intSerializer, 10,
+                null, 4);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorWithInvalidBudgetThrowsException() {
+        new GojulGraceHashJoinData<>(keyLeft, leftData, stringSerializer, keyRight, rightData, intSerializer, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorWithInvalidPartitionCountThrowsException() {
+        new GojulGraceHashJoinData<>(keyLeft, leftData, stringSerializer, keyRight, rightData, intSerializer, 10,
+                Paths.get("."), 1);
+    }
+
+    @Test
+    public void testGetters() {
+        GojulGraceHashJoinData<String, String, Integer> joinData = new GojulGraceHashJoinData<>(keyLeft, leftData,
+                stringSerializer, keyRight, rightData, intSerializer, 10);
+
+        assertEquals(10, joinData.getMaxInMemoryElements());
+        assertEquals(GojulGraceHashJoinData.DEFAULT_PARTITION_COUNT, joinData.getPartitionCount());
+        assertEquals(Paths.get(System.getProperty("java.io.tmpdir")), joinData.getTempDirectory());
+    }
+}
@@ -0,0 +1,134 @@
+package org.gojul.gojulutils.data;
+
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class GojulHashJoinDataTest {
+
+    private final GojulJoinData.GojulJoinDataKey<String, String> keyLeft = e -> e.substring(0, 1);
+    private final GojulJoinData.GojulJoinDataKey<String, Integer> keyRight = e -> String.valueOf(e).substring(0, 1);
+
+    private final List<String> leftData = Collections.unmodifiableList(Arrays.asList("123", "10", "20", "25", "35"));
+    private final List<Integer> rightData = Collections.unmodifiableList(Arrays.asList(143, 100, 232, 275, 321));
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullLeftKeyThrowsException() {
+        new GojulHashJoinData<>(null, leftData, keyRight, rightData);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullLeftDataThrowsException() {
+        new GojulHashJoinData<>(keyLeft, null, keyRight, rightData);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullRightKeyThrowsException() {
+        new GojulHashJoinData<>(keyLeft, leftData, null, rightData);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullRightDataThrowsException() {
+        new GojulHashJoinData<>(keyLeft, leftData, keyRight, null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullBuildSideThrowsException() {
+        new GojulHashJoinData<>(keyLeft, leftData, keyRight, rightData, null);
+    }
+
+    @Test
+    public void testBuildSideIsChosenFromSizes() {
+        assertEquals(GojulHashJoinData.BuildSide.RIGHT,
+                new GojulHashJoinData<>(keyLeft, leftData, keyRight, rightData).getBuildSide());
+        assertEquals(GojulHashJoinData.BuildSide.LEFT,
+                new GojulHashJoinData<>(keyLeft, leftData.subList(0, 2), keyRight, rightData).getBuildSide());
+        assertEquals(GojulHashJoinData.BuildSide.RIGHT,
+                new GojulHashJoinData<>(keyLeft, leftData.subList(0, 2), keyRight, rightData::iterator).getBuildSide());
+    }
+
+    @Test
+    public void testRightBuildSide() {
+        GojulHashJoinData<String, String, Integer> joinData = new GojulHashJoinData<>(keyLeft, leftData,
+                keyRight, rightData, GojulHashJoinData.BuildSide.RIGHT);
+
+        Map<String, List<Integer>> expectedRight = new HashMap<>();
+        expectedRight.put("1", Arrays.asList(143, 100));
+        expectedRight.put("2", Arrays.asList(232, 275));
+        expectedRight.put("3", Arrays.asList(321));
+
+        assertNull(joinData.getLeftElementsPerKey());
+        assertEquals(expectedRight, joinData.getRightElementsPerKey());
+        assertSame(joinData.getRightElementsPerKey(), joinData.getRightElementsPerKey());
+        assertSame(leftData, joinData.getLeftElements());
+    }
+
+    @Test
+    public void testLeftBuildSide() {
+        GojulHashJoinData<String, String, Integer> joinData = new GojulHashJoinData<>(keyLeft, leftData,
+                keyRight, rightData, GojulHashJoinData.BuildSide.LEFT);
+
+        Map<String, List<String>> expectedLeft = new HashMap<>();
+        expectedLeft.put("1", Arrays.asList("123", "10"));
+        expectedLeft.put("2", Arrays.asList("20", "25"));
+        expectedLeft.put("3", Arrays.asList("35"));
+
+        assertEquals(expectedLeft, joinData.getLeftElementsPerKey());
+        assertNull(joinData.getRightElementsPerKey());
+        assertSame(rightData, joinData.getRightElements());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testIndexIsUnmodifiable() {
+        new GojulHashJoinData<>(keyLeft, leftData, keyRight, rightData).getRightElementsPerKey().get("1").add(42);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullEquivalenceThrowsException() {
+        new GojulHashJoinData<>(keyLeft, leftData, keyRight, rightData, GojulHashJoinData.BuildSide.RIGHT, null);
+    }
+
+    @Test
+    public void testConstructorWithEquivalence() {
+        GojulHashJoinData<String, String, String> joinData = new GojulHashJoinData<>(e -> e, Arrays.asList("Abc"),
+                e -> e, Arrays.asList("aBC", "ABC", "def"), GojulHashJoinData.BuildSide.RIGHT,
+                GojulKeyEquivalence.caseInsensitive());
+
+        assertEquals(Arrays.asList("aBC", "ABC"), joinData.getRightElementsPerKey().get("abc"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorWithZeroFalsePositiveRateThrowsException() {
+        new GojulHashJoinData<>(keyLeft, leftData, keyRight, rightData, GojulHashJoinData.BuildSide.RIGHT,
+                GojulKeyEquivalence.natural(), 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorWithUnitFalsePositiveRateThrowsException() {
+        new GojulHashJoinData<>(keyLeft, leftData, keyRight, rightData, GojulHashJoinData.BuildSide.RIGHT,
+                GojulKeyEquivalence.natural(), 1.0);
+    }
+
+    @Test
+    public void testBloomFilter() {
+        GojulHashJoinData<String, String, Integer> joinData = new GojulHashJoinData<>(keyLeft, leftData,
+                keyRight, Arrays.asList(143, 100), GojulHashJoinData.BuildSide.RIGHT,
+                GojulKeyEquivalence.natural(), 0.01);
+
+        assertTrue(joinData.hasBloomFilter());
+        assertTrue(joinData.mightMatch("1"));
+        assertEquals(0L, joinData.getBloomFilterEliminatedCount());
+
+        int eliminated = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (!joinData.mightMatch("x" + i)) {
+                eliminated++;
+            }
+        }
+        assertTrue(eliminated > 900);
+        assertEquals(eliminated, joinData.getBloomFilterEliminatedCount());
+        assertFalse(new GojulHashJoinData<>(keyLeft, leftData, keyRight, rightData).hasBloomFilter());
+    }
+}
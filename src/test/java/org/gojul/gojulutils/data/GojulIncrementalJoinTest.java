@@ -0,0 +1,153 @@
+package org.gojul.gojulutils.data;
+
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class GojulIncrementalJoinTest {
+
+    private final GojulJoinData.GojulJoinDataKey<String, String> keyLeft = e -> e.substring(0, 1);
+    private final GojulJoinData.GojulJoinDataKey<String, Integer> keyRight = e -> String.valueOf(e).substring(0, 1);
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullLeftKeyThrowsException() {
+        new GojulIncrementalJoin<>(null, keyRight, GojulIncrementalJoin.JoinType.LEFT);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullRightKeyThrowsException() {
+        new GojulIncrementalJoin<>(keyLeft, null, GojulIncrementalJoin.JoinType.LEFT);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullJoinTypeThrowsException() {
+        new GojulIncrementalJoin<>(keyLeft, keyRight, null);
+    }
+
+    @Test
+    public void testLeftJoinDeltas() {
+        GojulIncrementalJoin<String, String, Integer> join = new GojulIncrementalJoin<>(keyLeft, keyRight,
+                GojulIncrementalJoin.JoinType.LEFT);
+
+        assertEquals(Collections.singletonList(new GojulPair<>("123", (Integer) null)), join.insertLeft("123").getAdded());
+
+        GojulJoinDelta<String, Integer> delta = join.insertRight(143);
+        assertEquals(Collections.singletonList(new GojulPair<>("123", 143)), delta.getAdded());
+        assertEquals(Collections.singletonList(new GojulPair<>("123", (Integer) null)), delta.getRemoved());
+
+        delta = join.insertRight(100);
+        assertEquals(Collections.singletonList(new GojulPair<>("123", 100)), delta.getAdded());
+        assertTrue(delta.getRemoved().isEmpty());
+
+        delta = join.insertLeft("10");
+        assertEquals(Arrays.asList(new GojulPair<>("10", 143), new GojulPair<>("10", 100)), delta.getAdded());
+
+        delta = join.deleteRight(143);
+        assertTrue(delta.getAdded().isEmpty());
+        assertEquals(Arrays.asList(new GojulPair<>("123", 143), new GojulPair<>("10", 143)), delta.getRemoved());
+
+        delta = join.deleteRight(100);
+        assertEquals(Arrays.asList(new GojulPair<>("123", (Integer) null), new GojulPair<>("10", (Integer) null)),
+                delta.getAdded());
+        assertEquals(Arrays.asList(new GojulPair<>("123", 100), new GojulPair<>("10", 100)), delta.getRemoved());
+
+        assertTrue(join.deleteRight(100).isEmpty());
+        assertTrue(join.deleteLeft("999").isEmpty());
+
+        delta = join.deleteLeft("10");
+        assertEquals(Collections.singletonList(new GojulPair<>("10", (Integer) null)), delta.getRemoved());
+        assertEquals(Collections.singletonList(new GojulPair<>("123", (Integer) null)), join.getResult());
+    }
+
+    @Test
+    public void testInnerJoinDeltas() {
+        GojulIncrementalJoin<String, String, Integer> join = new GojulIncrementalJoin<>(keyLeft, keyRight,
+                GojulIncrementalJoin.JoinType.INNER);
+
+        assertTrue(join.insertLeft("123").isEmpty());
+        assertEquals(Collections.singletonList(new GojulPair<>("123", 143)), join.insertRight(143).getAdded());
+        assertTrue(join.insertRight(232).isEmpty());
+        assertEquals(Collections.singletonList(new GojulPair<>("123", 143)), join.deleteRight(143).getRemoved());
+        assertTrue(join.getResult().isEmpty());
+    }
+
+    @Test
+    public void testUpdateCancelsUnchangedPairs() {
+        GojulIncrementalJoin<String, String, Integer> join = new GojulIncrementalJoin<>(keyLeft, keyRight,
+                GojulIncrementalJoin.JoinType.LEFT);
+        join.insertLeft("123");
+        join.insertLeft("10");
+        join.insertRight(143);
+
+        assertTrue(join.updateLeft("10", "10").isEmpty());
+
+        GojulJoinDelta<String, Integer> delta = join.updateRight(143, 100);
+        assertEquals(Arrays.asList(new GojulPair<>("123", 100), new GojulPair<>("10", 100)), delta.getAdded());
+        assertEquals(Arrays.asList(new GojulPair<>("123", 143), new GojulPair<>("10", 143)), delta.getRemoved());
+
+        delta = join.updateRight(100, 232);
+        assertEquals(Arrays.asList(new GojulPair<>("123", (Integer) null), new GojulPair<>("10", (Integer) null)),
+                delta.getAdded());
+        assertEquals(Arrays.asList(new GojulPair<>("123", 100), new GojulPair<>("10", 100)), delta.getRemoved());
+    }
+
+    @Test
+    public void testDeltasMatchFullJoin() {
+        Random random = new Random(42L);
+        GojulJoinDataService service = new GojulJoinDataService();
+        GojulJoinData.GojulJoinDataKey<Integer, Integer> key = e -> e % 7 == 0 ? null : e % 10;
+
+        for (GojulIncrementalJoin.JoinType joinType : GojulIncrementalJoin.JoinType.values()) {
+            GojulIncrementalJoin<Integer, Integer, Integer> join = new GojulIncrementalJoin<>(key, key, joinType);
+            List<Integer> leftData = new ArrayList<>();
+            List<Integer> rightData = new ArrayList<>();
+            Map<GojulPair<Integer, Integer>, Integer> result = new HashMap<>();
+
+            for (int i = 0; i < 2000; i++) {
+                int value = random.nextInt(100);
+                boolean left = random.nextBoolean();
+                List<Integer> data = left ? leftData : rightData;
+                GojulJoinDelta<Integer, Integer> delta;
+                if (data.isEmpty() || random.nextInt(3) > 0) {
+                    data.add(value);
+                    delta = left ? join.insertLeft(value) : join.insertRight(value);
+                } else if (random.nextBoolean()) {
+                    Integer old = data.remove(random.nextInt(data.size()));
+                    delta = left ? join.deleteLeft(old) : join.deleteRight(old);
+                } else {
+                    Integer old = data.set(random.nextInt(data.size()), value);
+                    delta = left ? join.updateLeft(old, value) : join.updateRight(old, value);
+                }
+
+                for (GojulPair<Integer, Integer> pair : delta.getRemoved()) {
+                    Integer count = result.get(pair);
+                    assertNotNull(count);
+                    if (count == 1) {
+                        result.remove(pair);
+                    } else {
+                        result.put(pair, count - 1);
+                    }
+                }
+                for (GojulPair<Integer, Integer> pair : delta.getAdded()) {
+                    result.merge(pair, 1, Integer::sum);
+                }
+            }
+
+            GojulJoinData<Integer, Integer, Integer> joinData = new GojulJoinData<>(key, leftData, key, rightData);
+            List<GojulPair<Integer, Integer>> expected = joinType == GojulIncrementalJoin.JoinType.LEFT
+                    ? service.leftJoin(joinData) : service.innerJoin(joinData);
+            assertEquals(counts(expected), result);
+            assertEquals(counts(expected), counts(join.getResult()));
+        }
+    }
+
+    private static <P> Map<P, Integer> counts(final List<P> elements) {
+        Map<P, Integer> result = new HashMap<>();
+        for (P element : elements) {
+            result.merge(element, 1, Integer::sum);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,42 @@
+package org.gojul.gojulutils.data;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertSame;
+
+public class GojulIndexJoinDataTest {
+
+    private final GojulJoinData.GojulJoinDataKey<String, String> keyLeft = e -> e.substring(0, 1);
+    private final GojulJoinData.GojulJoinDataKey<String, Integer> keyRight = e -> String.valueOf(e).substring(0, 1);
+
+    private final List<String> leftData = Collections.unmodifiableList(Arrays.asList("123", "10", "20", "25", "35"));
+    private final GojulJoinIndex<String, Integer> rightIndex = new GojulJoinIndex<>(keyRight, Arrays.asList(143, 100));
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullLeftKeyThrowsException() {
+        new GojulIndexJoinData<>(null, leftData, rightIndex);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullLeftDataThrowsException() {
+        new GojulIndexJoinData<>(keyLeft, null, rightIndex);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullRightIndexThrowsException() {
+        new GojulIndexJoinData<String, String, Integer>(keyLeft, leftData, null);
+    }
+
+    @Test
+    public void testConstructor() {
+        GojulIndexJoinData<String, String, Integer> joinData = new GojulIndexJoinData<>(keyLeft, leftData, rightIndex);
+
+        assertSame(keyLeft, joinData.getLeftKey());
+        assertSame(leftData, joinData.getLeftElements());
+        assertSame(rightIndex, joinData.getRightIndex());
+    }
+}
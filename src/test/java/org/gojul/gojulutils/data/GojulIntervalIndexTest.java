@@ -0,0 +1,74 @@
+package org.gojul.gojulutils.data;
+
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.assertEquals;
+
+public class GojulIntervalIndexTest {
+
+    private static List<int[]> containing(final GojulIntervalIndex<Integer, int[]> index, final Integer point) {
+        List<int[]> result = new ArrayList<>();
+        index.forEachContaining(point, result::add);
+        return result;
+    }
+
+    @Test
+    public void testEmptyIndex() {
+        GojulIntervalIndex<Integer, int[]> index = new GojulIntervalIndex<>(e -> e[0], e -> e[1],
+                Collections.emptyList(), Comparator.naturalOrder());
+
+        assertEquals(0, index.size());
+        assertEquals(0, containing(index, 12).size());
+    }
+
+    @Test
+    public void testUnboundedIntervals() {
+        GojulIntervalIndex<Integer, Integer[]> index = new GojulIntervalIndex<>(e -> e[0], e -> e[1],
+                Arrays.asList(new Integer[]{null, 10}, new Integer[]{5, null}, new Integer[]{null, null},
+                        new Integer[]{10, 20}), Comparator.naturalOrder());
+
+        List<Integer[]> result = new ArrayList<>();
+        index.forEachContaining(10, result::add);
+        assertEquals(3, result.size());
+        assertEquals(null, result.get(0)[0]);
+        assertEquals(null, result.get(0)[1]);
+        assertEquals(Integer.valueOf(5), result.get(1)[0]);
+        assertEquals(Integer.valueOf(10), result.get(2)[0]);
+
+        result.clear();
+        index.forEachContaining(null, result::add);
+        assertEquals(0, result.size());
+    }
+
+    @Test
+    public void testMatchesBruteForce() {
+        Random random = new Random(42L);
+        List<int[]> intervals = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            int start = random.nextInt(10_000);
+            intervals.add(new int[]{start, start + random.nextInt(500), i});
+        }
+        GojulIntervalIndex<Integer, int[]> index = new GojulIntervalIndex<>(e -> e[0], e -> e[1], intervals,
+                Comparator.naturalOrder());
+
+        for (int point = -10; point < 10_600; point += 7) {
+            Set<Integer> expected = new HashSet<>();
+            for (int[] interval : intervals) {
+                if (interval[0] <= point && point < interval[1]) {
+                    expected.add(interval[2]);
+                }
+            }
+
+            Set<Integer> actual = new HashSet<>();
+            int previousStart = Integer.MIN_VALUE;
+            for (int[] interval : containing(index, point)) {
+                assertEquals(true, interval[0] >= previousStart);
+                previousStart = interval[0];
+                actual.add(interval[2]);
+            }
+            assertEquals(expected, actual);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.gojul.gojulutils.data;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class GojulIntervalJoinDataTest {
+
+    private final GojulJoinData.GojulJoinDataKey<Integer, Integer> point = e -> e;
+    private final GojulJoinData.GojulJoinDataKey<Integer, int[]> start = e -> e[0];
+    private final GojulJoinData.GojulJoinDataKey<Integer, int[]> end = e -> e[1];
+
+    private final List<Integer> leftData = Collections.unmodifiableList(Arrays.asList(1, 5, 12));
+    private final List<int[]> rightData = Collections.unmodifiableList(Arrays.asList(new int[]{0, 10},
+            new int[]{10, 20}));
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullLeftPointThrowsException() {
+        new GojulIntervalJoinData<>(null, leftData, start, end, rightData, Comparator.naturalOrder());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullLeftDataThrowsException() {
+        new GojulIntervalJoinData<>(point, null, start, end, rightData, Comparator.naturalOrder());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullRightStartThrowsException() {
+        new GojulIntervalJoinData<>(point, leftData, null, end, rightData, Comparator.naturalOrder());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullRightEndThrowsException() {
+        new GojulIntervalJoinData<>(point, leftData, start, null, rightData, Comparator.naturalOrder());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullRightDataThrowsException() {
+        new GojulIntervalJoinData<>(point, leftData, start, end, null, Comparator.naturalOrder());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullComparatorThrowsException() {
+        new GojulIntervalJoinData<>(point, leftData, start, end, rightData, null);
+    }
+
+    @Test
+    public void testConstructor() {
+        GojulIntervalJoinData<Integer, Integer, int[]> joinData = new GojulIntervalJoinData<>(point, leftData,
+                start, end, rightData, Comparator.naturalOrder());
+
+        assertSame(leftData, joinData.getLeftElements());
+        assertEquals(2, joinData.getRightIndex().size());
+    }
+}
@@ -0,0 +1,66 @@
+package org.gojul.gojulutils.data;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+
+public class GojulJoinAggregatorTest {
+
+    @Test(expected = NullPointerException.class)
+    public void testOfWithNullSupplierThrowsException() {
+        GojulJoinAggregator.of(null, (StringBuilder a, String s, Integer t) -> a.append(s),
+                StringBuilder::append, StringBuilder::toString);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testFromCollectorWithNullCollectorThrowsException() {
+        GojulJoinAggregator.fromCollector(null);
+    }
+
+    @Test
+    public void testOf() {
+        GojulJoinAggregator<String, Integer, StringBuilder, String> aggregator = GojulJoinAggregator.of(
+                StringBuilder::new, (StringBuilder a, String s, Integer t) -> a.append(s).append(t),
+                StringBuilder::append, StringBuilder::toString);
+
+        StringBuilder container1 = aggregator.supply();
+        aggregator.accumulate(container1, "a", 1);
+        StringBuilder container2 = aggregator.supply();
+        aggregator.accumulate(container2, "b", null);
+
+        assertEquals("a1bnull", aggregator.finish(aggregator.combine(container1, container2)));
+    }
+
+    @Test
+    public void testFromCollector() {
+        GojulJoinAggregator<String, Integer, ?, String> aggregator = GojulJoinAggregator.fromCollector(
+                Collectors.mapping(p -> p.getFirst() + p.getSecond(), Collectors.joining(",")));
+
+        assertEquals("a1,b2", finish(aggregator, Arrays.asList(new GojulPair<>("a", 1), new GojulPair<>("b", 2))));
+    }
+
+    @Test
+    public void testCounting() {
+        GojulJoinAggregator<String, Integer, long[], Long> aggregator = GojulJoinAggregator.counting();
+
+        long[] container1 = aggregator.supply();
+        aggregator.accumulate(container1, "a", 1);
+        aggregator.accumulate(container1, "a", 2);
+        long[] container2 = aggregator.supply();
+        aggregator.accumulate(container2, "b", null);
+
+        assertEquals(Long.valueOf(3L), aggregator.finish(aggregator.combine(container1, container2)));
+    }
+
+    private static <A, R> R finish(final GojulJoinAggregator<String, Integer, A, R> aggregator,
+                                   final Iterable<GojulPair<String, Integer>> pairs) {
+        A container = aggregator.supply();
+        for (GojulPair<String, Integer> pair : pairs) {
+            aggregator.accumulate(container, pair.getFirst(), pair.getSecond());
+        }
+        return aggregator.finish(container);
+    }
+}
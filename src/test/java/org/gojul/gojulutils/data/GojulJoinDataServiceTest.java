@@ -1,11 +1,21 @@
 package org.gojul.gojulutils.data;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class GojulJoinDataServiceTest {
 
@@ -15,6 +25,21 @@ public class GojulJoinDataServiceTest {
     private final List<String> leftData = Collections.unmodifiableList(Arrays.asList("123", "10", "20", "25", "35"));
     private final List<Integer> rightData = Collections.unmodifiableList(Arrays.asList(143, 100, 232, 275, 521));
 
+    private final GojulJoinSerializer<Integer> intSerializer = new GojulJoinSerializer<Integer>() {
+        @Override
+        public void write(final Integer value, final DataOutput out) throws IOException {
+            out.writeInt(value);
+        }
+
+        @Override
+        public Integer read(final DataInput in) throws IOException {
+            return in.readInt();
+        }
+    };
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private GojulJoinDataService service;
 
     @Before
@@ -67,4 +92,978 @@ public class GojulJoinDataServiceTest {
                 keyRight, rightData))));
     }
 
-}
\ No newline at end of file
+    @Test(expected = NullPointerException.class)
+    public void testLeftJoinStreamWithNullDataThrowsException() throws Exception {
+        service.leftJoinStream(null);
+    }
+
+    @Test
+    public void testLeftJoinStream() throws Exception {
+        GojulJoinData<String, String, Integer> joinData = new GojulJoinData<>(keyLeft, leftData, keyRight, rightData);
+
+        assertEquals(service.leftJoin(joinData), service.leftJoinStream(joinData).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testLeftJoinStreamWithShortCircuit() throws Exception {
+        GojulJoinData<String, String, Integer> joinData = new GojulJoinData<>(keyLeft, leftData, keyRight, rightData);
+
+        assertEquals(Arrays.asList(new GojulPair<>("123", 143), new GojulPair<>("123", 100),
+                new GojulPair<>("10", 143)), service.leftJoinStream(joinData).limit(3L).collect(Collectors.toList()));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testInnerJoinStreamWithNullDataThrowsException() throws Exception {
+        service.innerJoinStream(null);
+    }
+
+    @Test
+    public void testInnerJoinStream() throws Exception {
+        GojulJoinData<String, String, Integer> joinData = new GojulJoinData<>(keyLeft, leftData, keyRight, rightData);
+
+        assertEquals(service.innerJoin(joinData), service.innerJoinStream(joinData).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testInnerJoinStreamWithoutMatchIsEmpty() throws Exception {
+        GojulJoinData<String, String, Integer> joinData = new GojulJoinData<>(keyLeft, leftData, keyRight,
+                Collections.singletonList(999));
+
+        assertEquals(0L, service.innerJoinStream(joinData).count());
+    }
+
+    @Test
+    public void testInnerJoinSkipsNullRightElements() throws Exception {
+        // String.valueOf(null) is "null", so that the null right element has the key "n".
+        GojulJoinData<String, String, Integer> joinData = new GojulJoinData<>(keyLeft, Arrays.asList("10", "n1"),
+                keyRight, Arrays.asList(143, null));
+        List<GojulPair<String, Integer>> expected = Collections.singletonList(new GojulPair<>("10", 143));
+
+        assertEquals(Arrays.asList(new GojulPair<>("10", 143), new GojulPair<>("n1", (Integer) null)),
+                service.leftJoin(joinData));
+        assertEquals(expected, service.innerJoin(joinData));
+        assertEquals(expected, service.innerJoinStream(joinData).collect(Collectors.toList()));
+        List<GojulPair<String, Integer>> result = new ArrayList<>();
+        service.innerJoin(joinData, (s, t) -> result.add(new GojulPair<>(s, t)));
+        assertEquals(expected, result);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testLeftJoinWithNullHashJoinDataThrowsException() throws Exception {
+        service.leftHashJoin(null);
+    }
+
+    @Test
+    public void testLeftJoinWithHashJoinData() throws Exception {
+        Set<GojulPair<String, Integer>> expected = new HashSet<>(service.leftJoin(new GojulJoinData<>(keyLeft, leftData,
+                keyRight, rightData)));
+
+        for (GojulHashJoinData.BuildSide buildSide : GojulHashJoinData.BuildSide.values()) {
+            List<GojulPair<String, Integer>> result = service.leftHashJoin(new GojulHashJoinData<>(keyLeft, leftData,
+                    keyRight, rightData, buildSide));
+            assertEquals(expected.size(), result.size());
+            assertEquals(expected, new HashSet<>(result));
+        }
+    }
+
+    @Test
+    public void testLeftJoinWithRightBuildSideKeepsLeftOrder() throws Exception {
+        List<GojulPair<String, Integer>> result = service.leftHashJoin(new GojulHashJoinData<>(keyLeft,
+                Arrays.asList("35", "10"), keyRight, rightData, GojulHashJoinData.BuildSide.RIGHT));
+
+        assertEquals(Arrays.asList(new GojulPair<>("35", null), new GojulPair<>("10", 143),
+                new GojulPair<>("10", 100)), result);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testInnerJoinWithNullHashJoinDataThrowsException() throws Exception {
+        service.innerHashJoin(null);
+    }
+
+    @Test
+    public void testInnerJoinWithHashJoinData() throws Exception {
+        Set<GojulPair<String, Integer>> expected = new HashSet<>(service.innerJoin(new GojulJoinData<>(keyLeft, leftData,
+                keyRight, rightData)));
+
+        for (GojulHashJoinData.BuildSide buildSide : GojulHashJoinData.BuildSide.values()) {
+            List<GojulPair<String, Integer>> result = service.innerHashJoin(new GojulHashJoinData<>(keyLeft, leftData,
+                    keyRight, rightData, buildSide));
+            assertEquals(expected.size(), result.size());
+            assertEquals(expected, new HashSet<>(result));
+        }
+    }
+
+    @Test
+    public void testInnerJoinWithHashJoinDataSkipsNullRightElements() throws Exception {
+        // String.valueOf(null) is "null", so that the null right element has the key "n".
+        List<String> left = Arrays.asList("10", "n1");
+        List<Integer> right = Arrays.asList(143, null);
+
+        for (GojulHashJoinData.BuildSide buildSide : GojulHashJoinData.BuildSide.values()) {
+            GojulHashJoinData<String, String, Integer> joinData = new GojulHashJoinData<>(keyLeft, left, keyRight,
+                    right, buildSide);
+            assertEquals(Collections.singletonList(new GojulPair<>("10", 143)), service.innerHashJoin(joinData));
+            assertEquals(new HashSet<>(Arrays.asList(new GojulPair<>("10", 143), new GojulPair<>("n1", null))),
+                    new HashSet<>(service.leftHashJoin(joinData)));
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testLeftJoinWithNullPartitionedJoinDataThrowsException() throws Exception {
+        service.leftPartitionedJoin(null);
+    }
+
+    @Test
+    public void testLeftJoinWithPartitionedJoinData() throws Exception {
+        assertEquals(service.leftJoin(new GojulJoinData<>(keyLeft, leftData, keyRight, rightData)),
+                service.leftPartitionedJoin(new GojulPartitionedJoinData<>(keyLeft, leftData, keyRight, rightData)));
+    }
+
+    @Test
+    public void testLeftJoinWithPartitionedJoinDataOnBigInputs() throws Exception {
+        Random random = new Random(42L);
+        List<Integer> left = new ArrayList<>();
+        List<Integer> right = new ArrayList<>();
+        for (int i = 0; i < 50000; i++) {
+            left.add(random.nextInt(20000));
+            right.add(random.nextInt(30000));
+        }
+        GojulJoinData.GojulJoinDataKey<Integer, Integer> key = e -> e % 1000 == 0 ? null : e;
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            GojulPartitionedJoinData<Integer, Integer, Integer> joinData = new GojulPartitionedJoinData<>(key, left,
+                    key, right, pool, 13);
+
+            assertEquals(service.leftJoin(new GojulJoinData<>(key, left, key, right)), service.leftPartitionedJoin(joinData));
+            assertEquals(service.innerJoin(new GojulJoinData<>(key, left, key, right)), service.innerPartitionedJoin(joinData));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testInnerJoinWithNullPartitionedJoinDataThrowsException() throws Exception {
+        service.innerPartitionedJoin(null);
+    }
+
+    @Test
+    public void testInnerJoinWithPartitionedJoinData() throws Exception {
+        assertEquals(service.innerJoin(new GojulJoinData<>(keyLeft, leftData, keyRight, rightData)),
+                service.innerPartitionedJoin(new GojulPartitionedJoinData<>(keyLeft, leftData, keyRight, rightData)));
+    }
+
+    private GojulSortMergeJoinData<String, String, Integer> sortMergeJoinData(final List<String> left,
+                                                                               final List<Integer> right) {
+        return new GojulSortMergeJoinData<>(keyLeft, left.iterator(), keyRight, right.iterator(),
+                Comparator.naturalOrder());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testLeftJoinWithNullSortMergeJoinDataThrowsException() throws Exception {
+        service.leftSortMergeJoin(null);
+    }
+
+    @Test
+    public void testLeftJoinWithSortMergeJoinData() throws Exception {
+        List<String> left = Arrays.asList("05", "123", "10", "35", "36", "50", "51");
+        List<Integer> right = Arrays.asList(143, 100, 232, 275, 521, 600);
+
+        assertEquals(service.leftJoin(new GojulJoinData<>(keyLeft, left, keyRight, right)),
+                service.leftSortMergeJoin(sortMergeJoinData(left, right)));
+    }
+
+    @Test
+    public void testLeftJoinWithSortMergeJoinDataAndNullKeys() throws Exception {
+        GojulJoinData.GojulJoinDataKey<Integer, Integer> key = e -> e < 0 ? null : e / 10;
+        List<Integer> left = Arrays.asList(-1, -2, 11, 12, 25, 41);
+        List<Integer> right = Arrays.asList(-5, 3, 14, 40, 42, 43);
+
+        assertEquals(service.leftJoin(new GojulJoinData<>(key, left, key, right)),
+                service.leftSortMergeJoin(new GojulSortMergeJoinData<>(key, left.iterator(), key, right.iterator(),
+                        Comparator.naturalOrder())));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testLeftJoinWithUnsortedSortMergeJoinDataThrowsException() throws Exception {
+        service.leftSortMergeJoin(sortMergeJoinData(Arrays.asList("20", "10"), rightData));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testLeftJoinWithConsumedSortMergeJoinDataThrowsException() throws Exception {
+        GojulSortMergeJoinData<String, String, Integer> joinData = sortMergeJoinData(leftData, rightData);
+        service.leftSortMergeJoinStream(joinData);
+        service.leftSortMergeJoinStream(joinData);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testInnerJoinWithNullSortMergeJoinDataThrowsException() throws Exception {
+        service.innerSortMergeJoin(null);
+    }
+
+    @Test
+    public void testInnerJoinWithSortMergeJoinData() throws Exception {
+        List<String> left = Arrays.asList("05", "123", "10", "35", "36", "50", "51");
+        List<Integer> right = Arrays.asList(143, 100, 232, 275, 521, 600);
+
+        assertEquals(service.innerJoin(new GojulJoinData<>(keyLeft, left, keyRight, right)),
+                service.innerSortMergeJoin(sortMergeJoinData(left, right)));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testLeftJoinWithConsumerAndNullDataThrowsException() throws Exception {
+        service.leftJoin((GojulJoinData<String, String, Integer>) null, (s, t) -> {
+        });
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testLeftJoinWithNullConsumerThrowsException() throws Exception {
+        service.leftJoin(new GojulJoinData<>(keyLeft, leftData, keyRight, rightData), null);
+    }
+
+    @Test
+    public void testLeftJoinWithConsumer() throws Exception {
+        GojulJoinData<String, String, Integer> joinData = new GojulJoinData<>(keyLeft, leftData, keyRight, rightData);
+        List<GojulPair<String, Integer>> result = new ArrayList<>();
+
+        service.leftJoin(joinData, (s, t) -> result.add(new GojulPair<>(s, t)));
+
+        assertEquals(service.leftJoin(joinData), result);
+    }
+
+    @Test
+    public void testInnerJoinWithConsumer() throws Exception {
+        GojulJoinData<String, String, Integer> joinData = new GojulJoinData<>(keyLeft, leftData, keyRight, rightData);
+        List<GojulPair<String, Integer>> result = new ArrayList<>();
+
+        service.innerJoin(joinData, (s, t) -> result.add(new GojulPair<>(s, t)));
+
+        assertEquals(service.innerJoin(joinData), result);
+    }
+
+    @Test
+    public void testJoinWithConsumerAndHashJoinData() throws Exception {
+        GojulHashJoinData<String, String, Integer> joinData = new GojulHashJoinData<>(keyLeft, leftData,
+                keyRight, rightData);
+        List<GojulPair<String, Integer>> leftResult = new ArrayList<>();
+        List<GojulPair<String, Integer>> innerResult = new ArrayList<>();
+
+        service.leftHashJoin(joinData, (s, t) -> leftResult.add(new GojulPair<>(s, t)));
+        service.innerHashJoin(joinData, (s, t) -> innerResult.add(new GojulPair<>(s, t)));
+
+        assertEquals(service.leftHashJoin(joinData), leftResult);
+        assertEquals(service.innerHashJoin(joinData), innerResult);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testLeftJoinMapWithNullMapperThrowsException() throws Exception {
+        service.leftJoinMap(new GojulJoinData<>(keyLeft, leftData, keyRight, rightData), null);
+    }
+
+    @Test
+    public void testLeftJoinMap() throws Exception {
+        assertEquals(Arrays.asList("123-143", "123-100", "10-143", "10-100", "20-232", "20-275", "25-232", "25-275",
+                "35-null"), service.leftJoinMap(new GojulJoinData<>(keyLeft, leftData, keyRight, rightData),
+                (s, t) -> s + "-" + t));
+    }
+
+    @Test
+    public void testInnerJoinMap() throws Exception {
+        assertEquals(Arrays.asList("123-143", "123-100", "10-143", "10-100", "20-232", "20-275", "25-232", "25-275"),
+                service.innerJoinMap(new GojulJoinData<>(keyLeft, leftData, keyRight, rightData),
+                        (s, t) -> s + "-" + t));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testLeftJoinWithNullPrimitiveJoinDataThrowsException() throws Exception {
+        service.leftPrimitiveJoin(null);
+    }
+
+    @Test
+    public void testLeftJoinWithPrimitiveJoinData() throws Exception {
+        GojulPrimitiveJoinData<String, Integer> joinData = GojulPrimitiveJoinData.withIntKeys(
+                e -> Integer.parseInt(e.substring(0, 1)), leftData, e -> Integer.parseInt(String.valueOf(e).substring(0, 1)),
+                rightData);
+
+        assertEquals(service.leftJoin(new GojulJoinData<>(keyLeft, leftData, keyRight, rightData)),
+                service.leftPrimitiveJoin(joinData));
+    }
+
+    @Test
+    public void testInnerJoinWithPrimitiveJoinData() throws Exception {
+        GojulPrimitiveJoinData<String, Integer> joinData = GojulPrimitiveJoinData.withLongKeys(
+                e -> Long.parseLong(e.substring(0, 1)), leftData, e -> Long.parseLong(String.valueOf(e).substring(0, 1)),
+                rightData);
+        List<GojulPair<String, Integer>> result = new ArrayList<>();
+
+        service.innerPrimitiveJoin(joinData, (s, t) -> result.add(new GojulPair<>(s, t)));
+
+        assertEquals(service.innerJoin(new GojulJoinData<>(keyLeft, leftData, keyRight, rightData)),
+                service.innerPrimitiveJoin(joinData));
+        assertEquals(service.innerPrimitiveJoin(joinData), result);
+    }
+
+    @Test
+    public void testInnerJoinWithPrimitiveJoinDataSkipsNullRightElements() throws Exception {
+        GojulPrimitiveJoinData<String, Integer> joinData = GojulPrimitiveJoinData.withLongKeys(
+                e -> Long.parseLong(e.substring(0, 1)), Collections.singletonList("10"),
+                e -> e == null ? 1L : Long.parseLong(String.valueOf(e).substring(0, 1)), Arrays.asList(143, null));
+
+        assertEquals(Collections.singletonList(new GojulPair<>("10", 143)), service.innerPrimitiveJoin(joinData));
+        assertEquals(Arrays.asList(new GojulPair<>("10", 143), new GojulPair<>("10", (Integer) null)),
+                service.leftPrimitiveJoin(joinData));
+    }
+
+    private static <S, T> List<String> sorted(final List<GojulPair<S, T>> pairs) {
+        return pairs.stream().map(String::valueOf).sorted().collect(Collectors.toList());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testLeftJoinWithNullGraceHashJoinDataThrowsException() throws Exception {
+        service.leftGraceHashJoin(null);
+    }
+
+    @Test
+    public void testLeftJoinWithGraceHashJoinDataInMemory() throws Exception {
+        GojulJoinData.GojulJoinDataKey<Integer, Integer> key = e -> e / 10;
+        List<Integer> left = Arrays.asList(5, 12, 14, 27, 33);
+        List<Integer> right = Arrays.asList(1, 13, 15, 31);
+
+        GojulGraceHashJoinData<Integer, Integer, Integer> joinData = new GojulGraceHashJoinData<>(key, left,
+                intSerializer, key, right, intSerializer, 10, temporaryFolder.getRoot().toPath(), 4);
+
+        assertEquals(sorted(service.leftJoin(new GojulJoinData<>(key, left, key, right))),
+                sorted(service.leftGraceHashJoin(joinData)));
+        assertEquals(0, temporaryFolder.getRoot().list().length);
+    }
+
+    @Test
+    public void testJoinWithGraceHashJoinDataSpillingToDisk() throws Exception {
+        Random random = new Random(42L);
+        List<Integer> left = new ArrayList<>();
+        List<Integer> right = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            left.add(random.nextInt(5000));
+            right.add(random.nextInt(5000));
+        }
+        GojulJoinData.GojulJoinDataKey<Integer, Integer> key = e -> e % 500 == 0 ? null : e / 3;
+
+        GojulGraceHashJoinData<Integer, Integer, Integer> joinData = new GojulGraceHashJoinData<>(key, left,
+                intSerializer, key, right, intSerializer, 50, temporaryFolder.getRoot().toPath(), 4);
+
+        assertEquals(sorted(service.leftJoin(new GojulJoinData<>(key, left, key, right))),
+                sorted(service.leftGraceHashJoin(joinData)));
+        assertEquals(sorted(service.innerJoin(new GojulJoinData<>(key, left, key, right))),
+                sorted(service.innerGraceHashJoin(joinData)));
+        assertEquals(0, temporaryFolder.getRoot().list().length);
+    }
+
+    @Test
+    public void testJoinWithGraceHashJoinDataAndSkewedKey() throws Exception {
+        List<Integer> left = Arrays.asList(1, 2, 3);
+        List<Integer> right = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            right.add(i);
+        }
+        GojulJoinData.GojulJoinDataKey<Integer, Integer> key = e -> e % 2;
+
+        GojulGraceHashJoinData<Integer, Integer, Integer> joinData = new GojulGraceHashJoinData<>(key, left,
+                intSerializer, key, right, intSerializer, 10, temporaryFolder.getRoot().toPath(), 2);
+
+        List<GojulPair<Integer, Integer>> result = service.innerGraceHashJoin(joinData);
+        assertEquals(sorted(service.innerJoin(new GojulJoinData<>(key, left, key, right))), sorted(result));
+        assertEquals(150, result.size());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testInnerJoinWithGraceHashJoinDataAndNullConsumerThrowsException() throws Exception {
+        GojulJoinData.GojulJoinDataKey<Integer, Integer> key = e -> e;
+        service.innerGraceHashJoin(new GojulGraceHashJoinData<>(key, Arrays.asList(1, 2), intSerializer, key,
+                Arrays.asList(2, 3), intSerializer, 10), null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testRightJoinWithNullDataThrowsException() throws Exception {
+        service.rightJoin(null);
+    }
+
+    @Test
+    public void testRightJoin() throws Exception {
+        assertEquals(Arrays.asList(
+                new GojulPair<>("123", 143),
+                new GojulPair<>("10", 143),
+                new GojulPair<>("123", 100),
+                new GojulPair<>("10", 100),
+                new GojulPair<>("20", 232),
+                new GojulPair<>("25", 232),
+                new GojulPair<>("20", 275),
+                new GojulPair<>("25", 275),
+                new GojulPair<>(null, 521)
+        ), service.rightJoin(new GojulJoinData<>(keyLeft, leftData, keyRight, rightData)));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testFullOuterJoinWithNullDataThrowsException() throws Exception {
+        service.fullOuterJoin(null);
+    }
+
+    @Test
+    public void testFullOuterJoin() throws Exception {
+        GojulJoinData<String, String, Integer> joinData = new GojulJoinData<>(keyLeft, leftData, keyRight, rightData);
+
+        List<GojulPair<String, Integer>> expected = new ArrayList<>(service.leftJoin(joinData));
+        expected.add(new GojulPair<>(null, 521));
+
+        assertEquals(expected, service.fullOuterJoin(joinData));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testSemiJoinWithNullDataThrowsException() throws Exception {
+        service.semiJoin(null);
+    }
+
+    @Test
+    public void testSemiJoin() throws Exception {
+        assertEquals(Arrays.asList("123", "10", "20", "25"),
+                service.semiJoin(new GojulJoinData<>(keyLeft, leftData, keyRight, rightData)));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testAntiJoinWithNullDataThrowsException() throws Exception {
+        service.antiJoin(null);
+    }
+
+    @Test
+    public void testAntiJoin() throws Exception {
+        assertEquals(Collections.singletonList("35"),
+                service.antiJoin(new GojulJoinData<>(keyLeft, leftData, keyRight, rightData)));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testLeftJoinPairListWithNullDataThrowsException() throws Exception {
+        service.leftJoinPairList(null);
+    }
+
+    @Test
+    public void testLeftJoinPairList() throws Exception {
+        GojulJoinData<String, String, Integer> joinData = new GojulJoinData<>(keyLeft, leftData, keyRight, rightData);
+
+        assertEquals(service.leftJoin(joinData), service.leftJoinPairList(joinData).asList());
+    }
+
+    @Test
+    public void testInnerJoinPairList() throws Exception {
+        GojulJoinData<String, String, Integer> joinData = new GojulJoinData<>(keyLeft, leftData, keyRight, rightData);
+
+        assertEquals(service.innerJoin(joinData), service.innerJoinPairList(joinData).asList());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testLeftJoinWithNullIndexDataThrowsException() throws Exception {
+        service.leftIndexJoin(null);
+    }
+
+    @Test
+    public void testLeftJoinWithIndexData() throws Exception {
+        GojulIndexJoinData<String, String, Integer> joinData = new GojulIndexJoinData<>(keyLeft, leftData,
+                new GojulJoinIndex<>(keyRight, rightData));
+
+        assertEquals(Arrays.asList(
+                new GojulPair<>("123", 143),
+                new GojulPair<>("123", 100),
+                new GojulPair<>("10", 143),
+                new GojulPair<>("10", 100),
+                new GojulPair<>("20", 232),
+                new GojulPair<>("20", 275),
+                new GojulPair<>("25", 232),
+                new GojulPair<>("25", 275),
+                new GojulPair<>("35", (Integer) null)
+        ), service.leftIndexJoin(joinData));
+
+        List<GojulPair<String, Integer>> result = new ArrayList<>();
+        service.leftIndexJoin(joinData, (s, t) -> result.add(new GojulPair<>(s, t)));
+        assertEquals(service.leftIndexJoin(joinData), result);
+    }
+
+    @Test
+    public void testInnerJoinWithIndexData() throws Exception {
+        GojulIndexJoinData<String, String, Integer> joinData = new GojulIndexJoinData<>(keyLeft, leftData,
+                new GojulJoinIndex<>(keyRight, rightData));
+
+        assertEquals(service.innerHashJoin(new GojulHashJoinData<>(keyLeft, leftData, keyRight, rightData,
+                GojulHashJoinData.BuildSide.RIGHT)), service.innerIndexJoin(joinData));
+
+        List<GojulPair<String, Integer>> result = new ArrayList<>();
+        service.innerIndexJoin(joinData, (s, t) -> result.add(new GojulPair<>(s, t)));
+        assertEquals(service.innerIndexJoin(joinData), result);
+    }
+
+    @Test
+    public void testJoinWithIndexDataReflectsIndexUpdates() throws Exception {
+        GojulJoinIndex<String, Integer> index = new GojulJoinIndex<>(keyRight, rightData);
+        GojulIndexJoinData<String, String, Integer> joinData = new GojulIndexJoinData<>(keyLeft, leftData, index);
+
+        index.add(350);
+        index.remove(143);
+        index.remove(100);
+
+        assertEquals(Arrays.asList(
+                new GojulPair<>("20", 232),
+                new GojulPair<>("20", 275),
+                new GojulPair<>("25", 232),
+                new GojulPair<>("25", 275),
+                new GojulPair<>("35", 350)
+        ), service.innerIndexJoin(joinData));
+    }
+
+    @Test
+    public void testInnerJoinWithIndexDataSkipsNullRightElements() throws Exception {
+        // String.valueOf(null) is "null", so that the null right element has the key "n".
+        GojulJoinIndex<String, Integer> index = new GojulJoinIndex<>(keyRight, Collections.singletonList(143));
+        index.add(null);
+        GojulIndexJoinData<String, String, Integer> joinData = new GojulIndexJoinData<>(keyLeft,
+                Arrays.asList("10", "n1"), index);
+        List<GojulPair<String, Integer>> expected = Collections.singletonList(new GojulPair<>("10", 143));
+
+        assertEquals(expected, service.innerIndexJoin(joinData));
+        List<GojulPair<String, Integer>> result = new ArrayList<>();
+        service.innerIndexJoin(joinData, (s, t) -> result.add(new GojulPair<>(s, t)));
+        assertEquals(expected, result);
+        assertEquals(Arrays.asList(new GojulPair<>("10", 143), new GojulPair<>("n1", (Integer) null)),
+                service.leftIndexJoin(joinData));
+    }
+
+    @Test
+    public void testRightAndFullOuterJoinWithIndexData() throws Exception {
+        GojulJoinData<String, String, Integer> reference = new GojulJoinData<>(keyLeft, leftData, keyRight, rightData);
+        GojulIndexJoinData<String, String, Integer> joinData = new GojulIndexJoinData<>(keyLeft, leftData,
+                new GojulJoinIndex<>(keyRight, rightData));
+
+        assertEquals(new HashSet<>(service.rightJoin(reference)), new HashSet<>(service.rightIndexJoin(joinData)));
+        assertEquals(new HashSet<>(service.fullOuterJoin(reference)), new HashSet<>(service.fullOuterIndexJoin(joinData)));
+        assertEquals(9, service.rightIndexJoin(joinData).size());
+    }
+
+    @Test
+    public void testFullOuterJoinWithIndexDataComputesEachLeftKeyOnce() throws Exception {
+        AtomicInteger keyCount = new AtomicInteger();
+        GojulIndexJoinData<String, String, Integer> joinData = new GojulIndexJoinData<>(e -> {
+            keyCount.incrementAndGet();
+            return keyLeft.getKey(e);
+        }, leftData, new GojulJoinIndex<>(keyRight, rightData));
+
+        service.fullOuterIndexJoin(joinData);
+
+        assertEquals(leftData.size(), keyCount.get());
+    }
+
+    @Test
+    public void testSemiAndAntiJoinWithIndexData() throws Exception {
+        GojulIndexJoinData<String, String, Integer> joinData = new GojulIndexJoinData<>(keyLeft, leftData,
+                new GojulJoinIndex<>(keyRight, rightData));
+
+        assertEquals(Arrays.asList("123", "10", "20", "25"), service.semiIndexJoin(joinData));
+        assertEquals(Collections.singletonList("35"), service.antiIndexJoin(joinData));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testLeftJoinWithNullStarDataThrowsException() throws Exception {
+        service.leftStarJoin(null);
+    }
+
+    @Test
+    public void testLeftJoinWithStarData() throws Exception {
+        GojulStarJoinData<String, String> joinData = new GojulStarJoinData<>(keyLeft, leftData, Arrays.asList(
+                new GojulStarJoinData.Dimension<>(keyRight, rightData),
+                new GojulStarJoinData.Dimension<>(keyLeft, Arrays.asList("1a", "3a"))));
+
+        List<GojulTuple> expected = Arrays.asList(
+                new GojulTuple("123", 143, "1a"),
+                new GojulTuple("123", 100, "1a"),
+                new GojulTuple("10", 143, "1a"),
+                new GojulTuple("10", 100, "1a"),
+                new GojulTuple("20", 232, null),
+                new GojulTuple("20", 275, null),
+                new GojulTuple("25", 232, null),
+                new GojulTuple("25", 275, null),
+                new GojulTuple("35", null, "3a")
+        );
+        assertEquals(expected, service.leftStarJoin(joinData));
+
+        List<GojulTuple> result = new ArrayList<>();
+        service.leftStarJoin(joinData, result::add);
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void testInnerJoinWithStarData() throws Exception {
+        GojulStarJoinData<String, String> joinData = new GojulStarJoinData<>(keyLeft, leftData, Arrays.asList(
+                new GojulStarJoinData.Dimension<>(keyRight, rightData),
+                new GojulStarJoinData.Dimension<>(keyLeft, Arrays.asList("1a", "1b", "2a")),
+                new GojulStarJoinData.Dimension<>(keyRight, Arrays.asList(111, 222))));
+
+        List<GojulTuple> expected = Arrays.asList(
+                new GojulTuple("123", 143, "1a", 111),
+                new GojulTuple("123", 143, "1b", 111),
+                new GojulTuple("123", 100, "1a", 111),
+                new GojulTuple("123", 100, "1b", 111),
+                new GojulTuple("10", 143, "1a", 111),
+                new GojulTuple("10", 143, "1b", 111),
+                new GojulTuple("10", 100, "1a", 111),
+                new GojulTuple("10", 100, "1b", 111),
+                new GojulTuple("20", 232, "2a", 222),
+                new GojulTuple("20", 275, "2a", 222),
+                new GojulTuple("25", 232, "2a", 222),
+                new GojulTuple("25", 275, "2a", 222)
+        );
+        assertEquals(expected, service.innerStarJoin(joinData));
+
+        List<GojulTuple> result = new ArrayList<>();
+        service.innerStarJoin(joinData, result::add);
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void testStarJoinMatchesChainedJoins() throws Exception {
+        GojulJoinData.GojulJoinDataKey<Integer, Integer> key = e -> e % 13 == 0 ? null : e % 50;
+        List<Integer> facts = new ArrayList<>();
+        List<Integer> dimension1 = new ArrayList<>();
+        List<Integer> dimension2 = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            facts.add(i);
+            if (i % 3 == 0) {
+                dimension1.add(i);
+            }
+            if (i % 4 == 0) {
+                dimension2.add(i);
+            }
+        }
+
+        List<GojulTuple> expected = new ArrayList<>();
+        for (GojulPair<Integer, Integer> pair : service.leftJoin(new GojulJoinData<>(key, facts, key, dimension1))) {
+            for (GojulPair<Integer, Integer> pair2 : service.leftJoin(new GojulJoinData<>(key,
+                    Collections.singletonList(pair.getFirst()), key, dimension2))) {
+                expected.add(new GojulTuple(pair.getFirst(), pair.getSecond(), pair2.getSecond()));
+            }
+        }
+
+        List<GojulTuple> result = service.leftStarJoin(new GojulStarJoinData<>(key, facts, Arrays.asList(
+                new GojulStarJoinData.Dimension<>(key, dimension1), new GojulStarJoinData.Dimension<>(key, dimension2))));
+        assertEquals(new HashSet<>(expected), new HashSet<>(result));
+        assertEquals(expected.size(), result.size());
+    }
+
+    @Test
+    public void testJoinsWithKeyEquivalence() throws Exception {
+        List<String> left = Arrays.asList("Paris", " london", "Berlin", null);
+        List<String> right = Arrays.asList("PARIS ", "London", "london", "Rome", null);
+        GojulKeyEquivalence<String> equivalence = GojulKeyEquivalence.trimmedCaseInsensitive();
+
+        List<GojulPair<String, String>> expected = Arrays.asList(
+                new GojulPair<>("Paris", "PARIS "),
+                new GojulPair<>(" london", "London"),
+                new GojulPair<>(" london", "london"),
+                new GojulPair<>("Berlin", (String) null),
+                new GojulPair<>((String) null, (String) null)
+        );
+
+        assertEquals(expected, service.leftJoin(new GojulJoinData<>(e -> e, left, e -> e, right, equivalence)));
+        assertEquals(expected, service.leftHashJoin(new GojulHashJoinData<>(e -> e, left, e -> e, right,
+                GojulHashJoinData.BuildSide.RIGHT, equivalence)));
+        assertEquals(new HashSet<>(expected), new HashSet<>(service.leftHashJoin(new GojulHashJoinData<>(e -> e, left,
+                e -> e, right, GojulHashJoinData.BuildSide.LEFT, equivalence))));
+        assertEquals(Arrays.asList("Berlin", null),
+                service.antiJoin(new GojulJoinData<>(e -> e, left, e -> e, right.subList(0, 4), equivalence)));
+    }
+
+    @Test
+    public void testHashJoinsWithBloomFilter() throws Exception {
+        GojulJoinData.GojulJoinDataKey<Integer, Integer> key = e -> e == null ? null : e % 10_000;
+        List<Integer> left = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            left.add(i);
+        }
+        left.add(null);
+        List<Integer> right = Arrays.asList(5, 17, 17, 9_999, 20_005, null);
+
+        for (GojulHashJoinData.BuildSide buildSide : GojulHashJoinData.BuildSide.values()) {
+            GojulHashJoinData<Integer, Integer, Integer> reference = new GojulHashJoinData<>(key, left, key, right,
+                    buildSide);
+            GojulHashJoinData<Integer, Integer, Integer> joinData = new GojulHashJoinData<>(key, left, key, right,
+                    buildSide, GojulKeyEquivalence.natural(), 0.01);
+
+            assertEquals(service.innerHashJoin(reference), service.innerHashJoin(joinData));
+            assertEquals(service.leftHashJoin(reference), service.leftHashJoin(joinData));
+        }
+
+        GojulHashJoinData<Integer, Integer, Integer> joinData = new GojulHashJoinData<>(key, left, key, right,
+                GojulHashJoinData.BuildSide.RIGHT, GojulKeyEquivalence.natural(), 0.01);
+        service.innerHashJoin(joinData);
+        assertTrue(joinData.getBloomFilterEliminatedCount() > 9_800L);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testLeftJoinWithNullIntervalDataThrowsException() throws Exception {
+        service.leftIntervalJoin(null);
+    }
+
+    @Test
+    public void testJoinsWithIntervalData() throws Exception {
+        // Prices valid from their first date included to their second date excluded.
+        List<String> prices = Arrays.asList("10;20;A", "20;30;B", "15;25;C", "30;;D");
+        List<String> events = Arrays.asList("17", "5", "25", "42", "");
+        GojulIntervalJoinData<Integer, String, String> joinData = new GojulIntervalJoinData<>(
+                e -> e.isEmpty() ? null : Integer.valueOf(e), events,
+                e -> Integer.valueOf(e.split(";")[0]),
+                e -> e.split(";").length < 2 || e.split(";")[1].isEmpty() ? null : Integer.valueOf(e.split(";")[1]),
+                prices, Comparator.naturalOrder());
+
+        assertEquals(Arrays.asList(
+                new GojulPair<>("17", "10;20;A"),
+                new GojulPair<>("17", "15;25;C"),
+                new GojulPair<>("5", (String) null),
+                new GojulPair<>("25", "20;30;B"),
+                new GojulPair<>("42", "30;;D"),
+                new GojulPair<>("", (String) null)
+        ), service.leftIntervalJoin(joinData));
+
+        List<GojulPair<String, String>> expectedInner = Arrays.asList(
+                new GojulPair<>("17", "10;20;A"),
+                new GojulPair<>("17", "15;25;C"),
+                new GojulPair<>("25", "20;30;B"),
+                new GojulPair<>("42", "30;;D")
+        );
+        assertEquals(expectedInner, service.innerIntervalJoin(joinData));
+
+        List<GojulPair<String, String>> result = new ArrayList<>();
+        service.innerIntervalJoin(joinData, (s, t) -> result.add(new GojulPair<>(s, t)));
+        assertEquals(expectedInner, result);
+    }
+
+    @Test
+    public void testInnerJoinWithIntervalDataSkipsNullRightElements() throws Exception {
+        // The null price is valid from 0 with no end.
+        GojulIntervalJoinData<Integer, String, String> joinData = new GojulIntervalJoinData<>(Integer::valueOf,
+                Collections.singletonList("17"), e -> e == null ? 0 : Integer.valueOf(e.split(";")[0]),
+                e -> e == null ? null : Integer.valueOf(e.split(";")[1]), Arrays.asList("10;20;A", null),
+                Comparator.naturalOrder());
+
+        assertEquals(Collections.singletonList(new GojulPair<>("17", "10;20;A")), service.innerIntervalJoin(joinData));
+        assertEquals(new HashSet<>(Arrays.asList(new GojulPair<>("17", "10;20;A"), new GojulPair<>("17", null))),
+                new HashSet<>(service.leftIntervalJoin(joinData)));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testLeftJoinAggregateWithNullAggregatorThrowsException() throws Exception {
+        service.leftJoinAggregate(new GojulJoinData<>(keyLeft, leftData, keyRight, rightData), null, false);
+    }
+
+    @Test
+    public void testJoinAggregate() throws Exception {
+        GojulJoinData<String, String, Integer> joinData = new GojulJoinData<>(keyLeft, leftData, keyRight, rightData);
+        GojulJoinAggregator<String, Integer, ?, Integer> sum = GojulJoinAggregator.fromCollector(
+                Collectors.summingInt(p -> p.getSecond() == null ? 0 : p.getSecond()));
+
+        Map<String, Long> expectedCounts = new LinkedHashMap<>();
+        expectedCounts.put("1", 4L);
+        expectedCounts.put("2", 4L);
+        expectedCounts.put("3", 1L);
+        Map<String, Integer> expectedSums = new LinkedHashMap<>();
+        expectedSums.put("1", 486);
+        expectedSums.put("2", 1014);
+
+        for (boolean parallel : new boolean[]{false, true}) {
+            Map<String, Long> counts = service.leftJoinAggregate(joinData, GojulJoinAggregator.counting(), parallel);
+            assertEquals(expectedCounts, counts);
+            assertEquals(Arrays.asList("1", "2", "3"), new ArrayList<>(counts.keySet()));
+            assertEquals(expectedSums, service.innerJoinAggregate(joinData, sum, parallel));
+        }
+    }
+
+    @Test
+    public void testParallelJoinAggregateKeepsOrder() throws Exception {
+        GojulJoinData.GojulJoinDataKey<Integer, Integer> key = e -> e % 5 == 0 ? null : e % 3;
+        List<Integer> left = new ArrayList<>();
+        List<Integer> right = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            left.add(i);
+            if (i % 50 == 0) {
+                right.add(i);
+            }
+        }
+        GojulJoinData<Integer, Integer, Integer> joinData = new GojulJoinData<>(key, left, key, right);
+        GojulJoinAggregator<Integer, Integer, ?, List<GojulPair<Integer, Integer>>> toList =
+                GojulJoinAggregator.fromCollector(Collectors.toList());
+
+        Map<Integer, List<GojulPair<Integer, Integer>>> expected = new LinkedHashMap<>();
+        for (GojulPair<Integer, Integer> pair : service.leftJoin(joinData)) {
+            expected.computeIfAbsent(key.getKey(pair.getFirst()), k -> new ArrayList<>()).add(pair);
+        }
+
+        assertEquals(expected, service.leftJoinAggregate(joinData, toList, true));
+        assertEquals(expected, service.leftJoinAggregate(joinData, toList, false));
+    }
+
+    private GojulMappedJoinIndex<String, Integer> writeMappedIndex() throws IOException {
+        GojulJoinSerializer<String> keySerializer = new GojulJoinSerializer<String>() {
+            @Override
+            public void write(final String value, final DataOutput out) throws IOException {
+                out.writeUTF(value);
+            }
+
+            @Override
+            public String read(final DataInput in) throws IOException {
+                return in.readUTF();
+            }
+        };
+        Path file = temporaryFolder.newFile().toPath();
+        GojulMappedJoinIndex.write(file, keyRight, rightData, keySerializer, intSerializer);
+        return GojulMappedJoinIndex.open(file, keySerializer, intSerializer);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testLeftJoinWithNullMappedDataThrowsException() throws Exception {
+        service.leftMappedJoin(null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testInnerJoinWithNullMappedConsumerThrowsException() throws Exception {
+        try (GojulMappedJoinIndex<String, Integer> index = writeMappedIndex()) {
+            service.innerMappedJoin(new GojulMappedJoinData<>(keyLeft, leftData, index), null);
+        }
+    }
+
+    @Test
+    public void testLeftJoinWithMappedData() throws Exception {
+        try (GojulMappedJoinIndex<String, Integer> index = writeMappedIndex()) {
+            GojulMappedJoinData<String, String, Integer> joinData = new GojulMappedJoinData<>(keyLeft, leftData, index);
+
+            assertEquals(service.leftIndexJoin(new GojulIndexJoinData<>(keyLeft, leftData,
+                    new GojulJoinIndex<>(keyRight, rightData))), service.leftMappedJoin(joinData));
+
+            List<GojulPair<String, Integer>> result = new ArrayList<>();
+            service.leftMappedJoin(joinData, (s, t) -> result.add(new GojulPair<>(s, t)));
+            assertEquals(service.leftMappedJoin(joinData), result);
+        }
+    }
+
+    @Test
+    public void testInnerJoinWithMappedData() throws Exception {
+        try (GojulMappedJoinIndex<String, Integer> index = writeMappedIndex()) {
+            GojulMappedJoinData<String, String, Integer> joinData = new GojulMappedJoinData<>(keyLeft, leftData, index);
+
+            assertEquals(service.innerIndexJoin(new GojulIndexJoinData<>(keyLeft, leftData,
+                    new GojulJoinIndex<>(keyRight, rightData))), service.innerMappedJoin(joinData));
+
+            List<GojulPair<String, Integer>> result = new ArrayList<>();
+            service.innerMappedJoin(joinData, (s, t) -> result.add(new GojulPair<>(s, t)));
+            assertEquals(service.innerMappedJoin(joinData), result);
+        }
+    }
+
+    private GojulOffHeapJoinIndex<String, Integer> newOffHeapIndex() {
+        return new GojulOffHeapJoinIndex<>(keyRight, rightData, new GojulJoinSerializer<String>() {
+            @Override
+            public void write(final String value, final DataOutput out) throws IOException {
+                out.writeUTF(value);
+            }
+
+            @Override
+            public String read(final DataInput in) throws IOException {
+                return in.readUTF();
+            }
+        }, intSerializer);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testLeftJoinWithNullOffHeapDataThrowsException() throws Exception {
+        service.leftOffHeapJoin(null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testInnerJoinWithNullOffHeapConsumerThrowsException() throws Exception {
+        try (GojulOffHeapJoinIndex<String, Integer> index = newOffHeapIndex()) {
+            service.innerOffHeapJoin(new GojulOffHeapJoinData<>(keyLeft, leftData, index), null);
+        }
+    }
+
+    @Test
+    public void testLeftJoinWithOffHeapData() throws Exception {
+        try (GojulOffHeapJoinIndex<String, Integer> index = newOffHeapIndex()) {
+            GojulOffHeapJoinData<String, String, Integer> joinData = new GojulOffHeapJoinData<>(keyLeft, leftData,
+                    index);
+
+            assertEquals(service.leftIndexJoin(new GojulIndexJoinData<>(keyLeft, leftData,
+                    new GojulJoinIndex<>(keyRight, rightData))), service.leftOffHeapJoin(joinData));
+
+            List<GojulPair<String, Integer>> result = new ArrayList<>();
+            service.leftOffHeapJoin(joinData, (s, t) -> result.add(new GojulPair<>(s, t)));
+            assertEquals(service.leftOffHeapJoin(joinData), result);
+        }
+    }
+
+    @Test
+    public void testInnerJoinWithOffHeapData() throws Exception {
+        try (GojulOffHeapJoinIndex<String, Integer> index = newOffHeapIndex()) {
+            GojulOffHeapJoinData<String, String, Integer> joinData = new GojulOffHeapJoinData<>(keyLeft, leftData,
+                    index);
+
+            assertEquals(service.innerIndexJoin(new GojulIndexJoinData<>(keyLeft, leftData,
+                    new GojulJoinIndex<>(keyRight, rightData))), service.innerOffHeapJoin(joinData));
+
+            List<GojulPair<String, Integer>> result = new ArrayList<>();
+            service.innerOffHeapJoin(joinData, (s, t) -> result.add(new GojulPair<>(s, t)));
+            assertEquals(service.innerOffHeapJoin(joinData), result);
+        }
+    }
+
+    @Test
+    public void testInnerJoinWithSerializedDataSkipsNullRightElements() throws Exception {
+        GojulJoinSerializer<String> keySerializer = new GojulJoinSerializer<String>() {
+            @Override
+            public void write(final String value, final DataOutput out) throws IOException {
+                out.writeUTF(value);
+            }
+
+            @Override
+            public String read(final DataInput in) throws IOException {
+                return in.readUTF();
+            }
+        };
+        // Integer.MIN_VALUE is decoded to null.
+        GojulJoinSerializer<Integer> nullableSerializer = new GojulJoinSerializer<Integer>() {
+            @Override
+            public void write(final Integer value, final DataOutput out) throws IOException {
+                out.writeInt(value == null ? Integer.MIN_VALUE : value);
+            }
+
+            @Override
+            public Integer read(final DataInput in) throws IOException {
+                int value = in.readInt();
+                return value == Integer.MIN_VALUE ? null : value;
+            }
+        };
+        List<Integer> right = Arrays.asList(143, Integer.MIN_VALUE);
+        List<GojulPair<String, Integer>> expected = Collections.singletonList(new GojulPair<>("10", 143));
+
+        Path file = temporaryFolder.newFile().toPath();
+        GojulMappedJoinIndex.write(file, keyRight, right, keySerializer, nullableSerializer);
+        try (GojulMappedJoinIndex<String, Integer> index = GojulMappedJoinIndex.open(file, keySerializer,
+                nullableSerializer)) {
+            GojulMappedJoinData<String, String, Integer> joinData = new GojulMappedJoinData<>(keyLeft,
+                    Arrays.asList("10", "-1"), index);
+            assertEquals(expected, service.innerMappedJoin(joinData));
+            assertEquals(Arrays.asList(new GojulPair<>("10", 143), new GojulPair<>("-1", (Integer) null)),
+                    service.leftMappedJoin(joinData));
+        }
+
+        try (GojulOffHeapJoinIndex<String, Integer> index = new GojulOffHeapJoinIndex<>(keyRight, right,
+                keySerializer, nullableSerializer)) {
+            GojulOffHeapJoinData<String, String, Integer> joinData = new GojulOffHeapJoinData<>(keyLeft,
+                    Arrays.asList("10", "-1"), index);
+            assertEquals(expected, service.innerOffHeapJoin(joinData));
+            assertEquals(Arrays.asList(new GojulPair<>("10", 143), new GojulPair<>("-1", (Integer) null)),
+                    service.leftOffHeapJoin(joinData));
+        }
+    }
+}
@@ -51,4 +51,19 @@ public class GojulJoinDataTest {
         assertEquals(expectedLeft, joinData.getLeftElementsPerKey());
         assertEquals(expectedRight, joinData.getRightElementsPerKey());
     }
-}
\ No newline at end of file
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullEquivalenceThrowsException() {
+        new GojulJoinData<>(keyLeft, leftData, keyRight, rightData, null);
+    }
+
+    @Test
+    public void testConstructorWithEquivalence() {
+        GojulJoinData<String, String, String> joinData = new GojulJoinData<>(e -> e, Arrays.asList("Abc", " abc", "DEF"),
+                e -> e, Arrays.asList("aBC ", "xyz"), GojulKeyEquivalence.trimmedCaseInsensitive());
+
+        assertEquals(2, joinData.getLeftElementsPerKey().size());
+        assertEquals(Arrays.asList("Abc", " abc"), joinData.getLeftElementsPerKey().get("ABC"));
+        assertEquals(Arrays.asList("aBC "), joinData.getRightElementsPerKey().get("abc"));
+    }
+}
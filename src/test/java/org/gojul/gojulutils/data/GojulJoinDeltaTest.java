@@ -0,0 +1,38 @@
+package org.gojul.gojulutils.data;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class GojulJoinDeltaTest {
+
+    @Test
+    public void testOfCancelsPairsPresentInBothLists() {
+        GojulJoinDelta<String, Integer> delta = GojulJoinDelta.of(
+                Arrays.asList(new GojulPair<>("a", 1), new GojulPair<>("a", 1), new GojulPair<>("b", 2)),
+                Arrays.asList(new GojulPair<>("a", 1), new GojulPair<>("c", 3)));
+
+        assertEquals(Arrays.asList(new GojulPair<>("a", 1), new GojulPair<>("b", 2)), delta.getAdded());
+        assertEquals(Collections.singletonList(new GojulPair<>("c", 3)), delta.getRemoved());
+        assertFalse(delta.isEmpty());
+    }
+
+    @Test
+    public void testOfWithFullCancellationReturnsEmptyDelta() {
+        GojulJoinDelta<String, Integer> delta = GojulJoinDelta.of(
+                Collections.singletonList(new GojulPair<>("a", null)),
+                Collections.singletonList(new GojulPair<>("a", null)));
+
+        assertTrue(delta.isEmpty());
+        assertEquals(GojulJoinDelta.empty(), delta);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testGetAddedIsUnmodifiable() {
+        GojulJoinDelta.<String, Integer>of(Collections.singletonList(new GojulPair<>("a", 1)),
+                Collections.emptyList()).getAdded().clear();
+    }
+}
@@ -0,0 +1,111 @@
+package org.gojul.gojulutils.data;
+
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+public class GojulJoinIndexTest {
+
+    private final GojulJoinData.GojulJoinDataKey<String, Integer> keyRight =
+            e -> e == null ? null : String.valueOf(e).substring(0, 1);
+
+    private final List<Integer> rightData = Collections.unmodifiableList(Arrays.asList(143, 100, 232, 275, 521));
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullKeyThrowsException() {
+        new GojulJoinIndex<>(null, rightData);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullElementsThrowsException() {
+        new GojulJoinIndex<>(keyRight, null);
+    }
+
+    @Test
+    public void testConstructor() {
+        GojulJoinIndex<String, Integer> index = new GojulJoinIndex<>(keyRight, rightData);
+
+        assertEquals(5, index.size());
+        assertEquals(3, index.keyCount());
+        assertEquals(Arrays.asList(143, 100), index.get("1"));
+        assertEquals(Collections.singletonList(521), index.get("5"));
+        assertNull(index.get("3"));
+        assertTrue(index.containsKey("2"));
+        assertFalse(index.containsKey("3"));
+    }
+
+    @Test
+    public void testAddAndRemove() {
+        GojulJoinIndex<String, Integer> index = new GojulJoinIndex<>(keyRight);
+        assertEquals(0, index.size());
+
+        index.add(143);
+        index.add(100);
+        index.add(null);
+        index.addAll(Arrays.asList(232, 111));
+
+        assertEquals(5, index.size());
+        assertEquals(Arrays.asList(143, 100, 111), index.get("1"));
+        assertEquals(Collections.singletonList((Integer) null), index.get(null));
+
+        assertTrue(index.remove(100));
+        assertFalse(index.remove(100));
+        assertFalse(index.remove(999));
+        assertTrue(index.remove(null));
+        assertTrue(index.remove(232));
+
+        assertEquals(2, index.size());
+        assertEquals(1, index.keyCount());
+        assertEquals(Arrays.asList(143, 111), index.get("1"));
+        assertFalse(index.containsKey(null));
+        assertFalse(index.containsKey("2"));
+    }
+
+    @Test
+    public void testGetReturnsSnapshot() {
+        GojulJoinIndex<String, Integer> index = new GojulJoinIndex<>(keyRight, rightData);
+        List<Integer> elements = index.get("1");
+        index.add(111);
+
+        assertEquals(Arrays.asList(143, 100), elements);
+        assertEquals(Arrays.asList(143, 100, 111), index.get("1"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testGetReturnsUnmodifiableList() {
+        new GojulJoinIndex<>(keyRight, rightData).get("1").set(0, 12);
+    }
+
+    @Test
+    public void testConcurrentUpdates() throws Exception {
+        GojulJoinIndex<Integer, Integer> index = new GojulJoinIndex<>(e -> e % 10);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int offset = t * 1000;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        index.add(offset + i);
+                    }
+                    for (int i = 0; i < 1000; i += 2) {
+                        assertTrue(index.remove(offset + i));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(2000, index.size());
+        assertEquals(5, index.keyCount());
+        assertEquals(400, index.get(1).size());
+        assertNull(index.get(0));
+    }
+}
@@ -0,0 +1,47 @@
+package org.gojul.gojulutils.data;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class GojulKeyEquivalenceTest {
+
+    @Test
+    public void testNatural() {
+        GojulKeyEquivalence<Object> equivalence = GojulKeyEquivalence.natural();
+
+        assertEquals("hello".hashCode(), equivalence.hash("hello"));
+        assertTrue(equivalence.equivalent(42, 42));
+        assertFalse(equivalence.equivalent("hello", "Hello"));
+    }
+
+    @Test
+    public void testCaseInsensitive() {
+        GojulKeyEquivalence<String> equivalence = GojulKeyEquivalence.caseInsensitive();
+
+        assertTrue(equivalence.equivalent("Hello", "hELLO"));
+        assertEquals(equivalence.hash("Hello"), equivalence.hash("hELLO"));
+        assertFalse(equivalence.equivalent("Hello", "Hello "));
+        assertFalse(equivalence.equivalent("Hello", "Hell"));
+    }
+
+    @Test
+    public void testTrimmed() {
+        GojulKeyEquivalence<String> equivalence = GojulKeyEquivalence.trimmed();
+
+        assertTrue(equivalence.equivalent(" Hello\t", "Hello"));
+        assertEquals(equivalence.hash(" Hello\t"), equivalence.hash("Hello"));
+        assertEquals("Hello".hashCode(), equivalence.hash("  Hello  "));
+        assertFalse(equivalence.equivalent(" Hello", "hello"));
+        assertTrue(equivalence.equivalent("   ", ""));
+    }
+
+    @Test
+    public void testTrimmedCaseInsensitive() {
+        GojulKeyEquivalence<String> equivalence = GojulKeyEquivalence.trimmedCaseInsensitive();
+
+        assertTrue(equivalence.equivalent(" HeLLo ", "hello"));
+        assertEquals(equivalence.hash(" HeLLo "), equivalence.hash("hello"));
+        assertFalse(equivalence.equivalent(" Hello", "hello world"));
+    }
+}
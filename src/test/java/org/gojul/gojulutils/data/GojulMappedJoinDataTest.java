@@ -0,0 +1,89 @@
+package org.gojul.gojulutils.data;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertSame;
+
+public class GojulMappedJoinDataTest {
+
+    private final GojulJoinData.GojulJoinDataKey<String, String> keyLeft = e -> e.substring(0, 1);
+    private final GojulJoinData.GojulJoinDataKey<String, Integer> keyRight = e -> String.valueOf(e).substring(0, 1);
+
+    private final List<String> leftData = Collections.unmodifiableList(Arrays.asList("123", "10", "20", "25", "35"));
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private GojulMappedJoinIndex<String, Integer> rightIndex;
+
+    @Before
+    public void setup() throws IOException {
+        GojulJoinSerializer<String> keySerializer = new GojulJoinSerializer<String>() {
+            @Override
+            public void write(final String value, final DataOutput out) throws IOException {
+                out.writeUTF(value);
+            }
+
+            @Override
+            public String read(final DataInput in) throws IOException {
+                return in.readUTF();
+            }
+        };
+        GojulJoinSerializer<Integer> intSerializer = new GojulJoinSerializer<Integer>() {
+            @Override
+            public void write(final Integer value, final DataOutput out) throws IOException {
+                out.writeInt(value);
+            }
+
+            @Override
+            public Integer read(final DataInput in) throws IOException {
+                return in.readInt();
+            }
+        };
+
+        Path file = temporaryFolder.newFile().toPath();
+        GojulMappedJoinIndex.write(file, keyRight, Arrays.asList(143, 100), keySerializer, intSerializer);
+        rightIndex = GojulMappedJoinIndex.open(file, keySerializer, intSerializer);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        rightIndex.close();
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullLeftKeyThrowsException() {
+        new GojulMappedJoinData<>(null, leftData, rightIndex);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullLeftDataThrowsException() {
+        new GojulMappedJoinData<>(keyLeft, null, rightIndex);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullRightIndexThrowsException() {
+        new GojulMappedJoinData<String, String, Integer>(keyLeft, leftData, null);
+    }
+
+    @Test
+    public void testConstructor() {
+        GojulMappedJoinData<String, String, Integer> joinData = new GojulMappedJoinData<>(keyLeft, leftData, rightIndex);
+
+        assertSame(keyLeft, joinData.getLeftKey());
+        assertSame(leftData, joinData.getLeftElements());
+        assertSame(rightIndex, joinData.getRightIndex());
+    }
+}
@@ -0,0 +1,195 @@
+package org.gojul.gojulutils.data;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class GojulMappedJoinIndexTest {
+
+    private final GojulJoinData.GojulJoinDataKey<String, String> key = e -> e == null ? null : e.substring(0, 1);
+
+    private final GojulJoinSerializer<String> serializer = new GojulJoinSerializer<String>() {
+        @Override
+        public void write(final String value, final DataOutput out) throws IOException {
+            out.writeBoolean(value != null);
+            if (value != null) {
+                out.writeUTF(value);
+            }
+        }
+
+        @Override
+        public String read(final DataInput in) throws IOException {
+            return in.readBoolean() ? in.readUTF() : null;
+        }
+    };
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path writeIndex(final List<String> elements) throws IOException {
+        Path file = temporaryFolder.newFile().toPath();
+        GojulMappedJoinIndex.write(file, key, elements, serializer, serializer);
+        return file;
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testWriteWithNullFileThrowsException() throws Exception {
+        GojulMappedJoinIndex.write(null, key, Collections.<String>emptyList(), serializer, serializer);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testWriteWithNullKeyGenThrowsException() throws Exception {
+        GojulMappedJoinIndex.write(temporaryFolder.newFile().toPath(), null, Collections.<String>emptyList(),
+                serializer, serializer);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testWriteWithNullElementsThrowsException() throws Exception {
+        GojulMappedJoinIndex.write(temporaryFolder.newFile().toPath(), key, null, serializer, serializer);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testWriteWithNullKeySerializerThrowsException() throws Exception {
+        GojulMappedJoinIndex.write(temporaryFolder.newFile().toPath(), key, Collections.<String>emptyList(),
+                null, serializer);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testWriteWithNullElementSerializerThrowsException() throws Exception {
+        GojulMappedJoinIndex.write(temporaryFolder.newFile().toPath(), key, Collections.<String>emptyList(),
+                serializer, null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testOpenWithNullFileThrowsException() throws Exception {
+        GojulMappedJoinIndex.open(null, serializer, serializer);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testOpenWithNullKeySerializerThrowsException() throws Exception {
+        GojulMappedJoinIndex.open(writeIndex(Collections.<String>emptyList()), null, serializer);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testOpenWithNullElementSerializerThrowsException() throws Exception {
+        GojulMappedJoinIndex.open(writeIndex(Collections.<String>emptyList()), serializer, null);
+    }
+
+    @Test(expected = IOException.class)
+    public void testOpenWithInvalidFileThrowsException() throws Exception {
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, new byte[100]);
+        GojulMappedJoinIndex.open(file, serializer, serializer);
+    }
+
+    @Test(expected = IOException.class)
+    public void testOpenWithEmptyFileThrowsException() throws Exception {
+        GojulMappedJoinIndex.open(temporaryFolder.newFile().toPath(), serializer, serializer);
+    }
+
+    @Test
+    public void testGet() throws Exception {
+        Path file = writeIndex(Arrays.asList("10", "20", "123", null, "25", "35"));
+
+        try (GojulMappedJoinIndex<String, String> index = GojulMappedJoinIndex.open(file, serializer, serializer)) {
+            assertEquals(Arrays.asList("10", "123"), index.get("1"));
+            assertEquals(Arrays.asList("20", "25"), index.get("2"));
+            assertEquals(Collections.singletonList("35"), index.get("3"));
+            assertEquals(Collections.singletonList(null), index.get(null));
+            assertEquals(Collections.emptyList(), index.get("4"));
+        }
+    }
+
+    @Test
+    public void testGetWithManyKeys() throws Exception {
+        Path file = temporaryFolder.newFile().toPath();
+        GojulJoinData.GojulJoinDataKey<String, String> modKey = e -> String.valueOf(Integer.parseInt(e) % 1000);
+        String[] elements = new String[5000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = String.valueOf(i);
+        }
+        GojulMappedJoinIndex.write(file, modKey, Arrays.asList(elements), serializer, serializer);
+
+        try (GojulMappedJoinIndex<String, String> index = GojulMappedJoinIndex.open(file, serializer, serializer)) {
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(Arrays.asList(String.valueOf(i), String.valueOf(i + 1000), String.valueOf(i + 2000),
+                        String.valueOf(i + 3000), String.valueOf(i + 4000)), index.get(String.valueOf(i)));
+            }
+            assertEquals(5000L, index.size());
+            assertEquals(1000L, index.keyCount());
+        }
+    }
+
+    @Test
+    public void testContainsKey() throws Exception {
+        Path file = writeIndex(Arrays.asList("10", "20", null));
+
+        try (GojulMappedJoinIndex<String, String> index = GojulMappedJoinIndex.open(file, serializer, serializer)) {
+            assertTrue(index.containsKey("1"));
+            assertTrue(index.containsKey(null));
+            assertFalse(index.containsKey("3"));
+        }
+    }
+
+    @Test
+    public void testSizeAndKeyCount() throws Exception {
+        Path file = writeIndex(Arrays.asList("10", "20", "123", "25"));
+
+        try (GojulMappedJoinIndex<String, String> index = GojulMappedJoinIndex.open(file, serializer, serializer)) {
+            assertEquals(4L, index.size());
+            assertEquals(2L, index.keyCount());
+        }
+    }
+
+    @Test
+    public void testEmptyIndex() throws Exception {
+        Path file = writeIndex(Collections.<String>emptyList());
+
+        try (GojulMappedJoinIndex<String, String> index = GojulMappedJoinIndex.open(file, serializer, serializer)) {
+            assertEquals(0L, index.size());
+            assertEquals(0L, index.keyCount());
+            assertFalse(index.containsKey("1"));
+            assertEquals(Collections.emptyList(), index.get(null));
+        }
+    }
+
+    @Test
+    public void testReopen() throws Exception {
+        Path file = writeIndex(Arrays.asList("10", "20"));
+
+        GojulMappedJoinIndex.open(file, serializer, serializer).close();
+        try (GojulMappedJoinIndex<String, String> index = GojulMappedJoinIndex.open(file, serializer, serializer)) {
+            assertEquals(Collections.singletonList("20"), index.get("2"));
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testGetOnClosedIndexThrowsException() throws Exception {
+        GojulMappedJoinIndex<String, String> index = GojulMappedJoinIndex.open(writeIndex(Arrays.asList("10")),
+                serializer, serializer);
+        index.close();
+
+        index.get("1");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testContainsKeyOnClosedIndexThrowsException() throws Exception {
+        GojulMappedJoinIndex<String, String> index = GojulMappedJoinIndex.open(writeIndex(Arrays.asList("10")),
+                serializer, serializer);
+        index.close();
+        index.close();
+
+        index.containsKey("1");
+    }
+}
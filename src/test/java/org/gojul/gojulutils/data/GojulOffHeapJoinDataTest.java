@@ -0,0 +1,74 @@
+package org.gojul.gojulutils.data;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertSame;
+
+public class GojulOffHeapJoinDataTest {
+
+    private final GojulJoinData.GojulJoinDataKey<String, String> keyLeft = e -> e.substring(0, 1);
+    private final GojulJoinData.GojulJoinDataKey<String, Integer> keyRight = e -> String.valueOf(e).substring(0, 1);
+
+    private final List<String> leftData = Collections.unmodifiableList(Arrays.asList("123", "10", "20", "25", "35"));
+
+    private final GojulOffHeapJoinIndex<String, Integer> rightIndex = new GojulOffHeapJoinIndex<>(keyRight,
+            Arrays.asList(143, 100), new GojulJoinSerializer<String>() {
+        @Override
+        public void write(final String value, final DataOutput out) throws IOException {
+            out.writeUTF(value);
+        }
+
+        @Override
+        public String read(final DataInput in) throws IOException {
+            return in.readUTF();
+        }
+    }, new GojulJoinSerializer<Integer>() {
+        @Override
+        public void write(final Integer value, final DataOutput out) throws IOException {
+            out.writeInt(value);
+        }
+
+        @Override
+        public Integer read(final DataInput in) throws IOException {
+            return in.readInt();
+        }
+    });
+
+    @After
+    public void tearDown() {
+        rightIndex.close();
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullLeftKeyThrowsException() {
+        new GojulOffHeapJoinData<>(null, leftData, rightIndex);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullLeftDataThrowsException() {
+        new GojulOffHeapJoinData<>(keyLeft, null, rightIndex);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullRightIndexThrowsException() {
+        new GojulOffHeapJoinData<String, String, Integer>(keyLeft, leftData, null);
+    }
+
+    @Test
+    public void testConstructor() {
+        GojulOffHeapJoinData<String, String, Integer> joinData = new GojulOffHeapJoinData<>(keyLeft, leftData,
+                rightIndex);
+
+        assertSame(keyLeft, joinData.getLeftKey());
+        assertSame(leftData, joinData.getLeftElements());
+        assertSame(rightIndex, joinData.getRightIndex());
+    }
+}
@@ -0,0 +1,158 @@
+package org.gojul.gojulutils.data;
+
+import org.junit.Test;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class GojulOffHeapJoinIndexTest {
+
+    private final GojulJoinData.GojulJoinDataKey<String, String> key = e -> e == null ? null : e.substring(0, 1);
+
+    private final GojulJoinSerializer<String> serializer = new GojulJoinSerializer<String>() {
+        @Override
+        public void write(final String value, final DataOutput out) throws IOException {
+            out.writeBoolean(value != null);
+            if (value != null) {
+                out.writeUTF(value);
+            }
+        }
+
+        @Override
+        public String read(final DataInput in) throws IOException {
+            return in.readBoolean() ? in.readUTF() : null;
+        }
+    };
+
+    private GojulOffHeapJoinIndex<String, String> newIndex(final List<String> elements) {
+        return new GojulOffHeapJoinIndex<>(key, elements, serializer, serializer);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullKeyGenThrowsException() {
+        new GojulOffHeapJoinIndex<>(null, Collections.<String>emptyList(), serializer, serializer);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullElementsThrowsException() {
+        new GojulOffHeapJoinIndex<>(key, null, serializer, serializer);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullKeySerializerThrowsException() {
+        new GojulOffHeapJoinIndex<>(key, Collections.<String>emptyList(), null, serializer);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullElementSerializerThrowsException() {
+        new GojulOffHeapJoinIndex<>(key, Collections.<String>emptyList(), serializer, null);
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    public void testConstructorWithFailingSerializerThrowsException() {
+        new GojulOffHeapJoinIndex<>(key, Collections.singletonList("10"), serializer,
+                new GojulJoinSerializer<String>() {
+                    @Override
+                    public void write(final String value, final DataOutput out) throws IOException {
+                        throw new IOException("Failure");
+                    }
+
+                    @Override
+                    public String read(final DataInput in) throws IOException {
+                        throw new IOException("Failure");
+                    }
+                });
+    }
+
+    @Test
+    public void testGet() {
+        try (GojulOffHeapJoinIndex<String, String> index = newIndex(Arrays.asList("10", "20", "123", null, "25", "35"))) {
+            assertEquals(Arrays.asList("10", "123"), index.get("1"));
+            assertEquals(Arrays.asList("20", "25"), index.get("2"));
+            assertEquals(Collections.singletonList("35"), index.get("3"));
+            assertEquals(Collections.singletonList(null), index.get(null));
+            assertEquals(Collections.emptyList(), index.get("4"));
+        }
+    }
+
+    @Test
+    public void testGetWithManyKeys() {
+        GojulJoinData.GojulJoinDataKey<String, String> modKey = e -> String.valueOf(Integer.parseInt(e) % 1000);
+        String[] elements = new String[5000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = String.valueOf(i);
+        }
+
+        try (GojulOffHeapJoinIndex<String, String> index = new GojulOffHeapJoinIndex<>(modKey,
+                Arrays.asList(elements), serializer, serializer)) {
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(Arrays.asList(String.valueOf(i), String.valueOf(i + 1000), String.valueOf(i + 2000),
+                        String.valueOf(i + 3000), String.valueOf(i + 4000)), index.get(String.valueOf(i)));
+            }
+            assertEquals(5000L, index.size());
+            assertEquals(1000L, index.keyCount());
+        }
+    }
+
+    @Test
+    public void testContainsKey() {
+        try (GojulOffHeapJoinIndex<String, String> index = newIndex(Arrays.asList("10", "20", null))) {
+            assertTrue(index.containsKey("1"));
+            assertTrue(index.containsKey(null));
+            assertFalse(index.containsKey("3"));
+        }
+    }
+
+    @Test
+    public void testSizeAndKeyCount() {
+        try (GojulOffHeapJoinIndex<String, String> index = newIndex(Arrays.asList("10", "20", "123", "25"))) {
+            assertEquals(4L, index.size());
+            assertEquals(2L, index.keyCount());
+        }
+    }
+
+    @Test
+    public void testEmptyIndex() {
+        try (GojulOffHeapJoinIndex<String, String> index = newIndex(Collections.<String>emptyList())) {
+            assertEquals(0L, index.size());
+            assertEquals(0L, index.keyCount());
+            assertFalse(index.containsKey("1"));
+            assertEquals(Collections.emptyList(), index.get(null));
+        }
+    }
+
+    @Test
+    public void testClose() {
+        GojulOffHeapJoinIndex<String, String> index = newIndex(Arrays.asList("10", "20"));
+        assertTrue(index.getReservedBytes() > 0L);
+
+        index.close();
+        index.close();
+
+        assertEquals(0L, index.getReservedBytes());
+        assertEquals(2L, index.size());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testGetOnClosedIndexThrowsException() {
+        GojulOffHeapJoinIndex<String, String> index = newIndex(Arrays.asList("10", "20"));
+        index.close();
+
+        index.get("1");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testContainsKeyOnClosedIndexThrowsException() {
+        GojulOffHeapJoinIndex<String, String> index = newIndex(Arrays.asList("10", "20"));
+        index.close();
+
+        index.containsKey("1");
+    }
+}
@@ -0,0 +1,123 @@
+package org.gojul.gojulutils.data;
+
+import org.junit.Test;
+
+import java.io.DataInputStream;
+import java.io.InputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class GojulOffHeapMemoryTest {
+
+    @Test
+    public void testAllocateAlignsBlocks() {
+        try (GojulOffHeapMemory memory = new GojulOffHeapMemory(64)) {
+            assertEquals(0L, memory.allocate(3));
+            assertEquals(8L, memory.allocate(8));
+            assertEquals(16L, memory.allocate(0));
+            assertEquals(16L, memory.allocate(50));
+            assertEquals(128L, memory.getReservedBytes());
+        }
+    }
+
+    @Test
+    public void testChunksGrowGeometrically() {
+        try (GojulOffHeapMemory memory = new GojulOffHeapMemory(16, 64)) {
+            memory.allocate(8);
+            assertEquals(16L, memory.getReservedBytes());
+            memory.allocate(100);
+            assertEquals(16L + 32L + 64L, memory.getReservedBytes());
+            memory.allocate(8);
+            assertEquals(16L + 32L + 64L + 64L, memory.getReservedBytes());
+        }
+    }
+
+    @Test
+    public void testPutAndGetAcrossGrowingChunks() throws Exception {
+        try (GojulOffHeapMemory memory = new GojulOffHeapMemory(16, 64)) {
+            long offset = memory.allocate(400);
+            for (int i = 0; i < 50; i++) {
+                memory.putLong(offset + 8L * i, i * 1000000007L);
+            }
+            for (int i = 0; i < 50; i++) {
+                assertEquals(i * 1000000007L, memory.getLong(offset + 8L * i));
+            }
+
+            byte[] bytes = new byte[300];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = (byte) (i * 7);
+            }
+            memory.put(offset + 50L, bytes, 0, bytes.length);
+            byte[] read = new byte[bytes.length];
+            new DataInputStream(memory.openStream(offset + 50L)).readFully(read);
+            assertArrayEquals(bytes, read);
+        }
+    }
+
+    @Test
+    public void testPutAndGetPrimitives() {
+        try (GojulOffHeapMemory memory = new GojulOffHeapMemory(64)) {
+            long offset = memory.allocate(200);
+            for (int i = 0; i < 25; i++) {
+                memory.putLong(offset + 8L * i, i * 1000000007L);
+            }
+            for (int i = 0; i < 25; i++) {
+                assertEquals(i * 1000000007L, memory.getLong(offset + 8L * i));
+            }
+            memory.putInt(offset + 68L, 42);
+            assertEquals(42, memory.getInt(offset + 68L));
+        }
+    }
+
+    @Test
+    public void testPutAndReadBytesAcrossChunks() throws Exception {
+        try (GojulOffHeapMemory memory = new GojulOffHeapMemory(16)) {
+            byte[] bytes = new byte[100];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = (byte) (i * 7);
+            }
+            long offset = memory.allocate(bytes.length);
+            memory.put(offset, bytes, 0, bytes.length);
+
+            byte[] read = new byte[bytes.length];
+            new DataInputStream(memory.openStream(offset)).readFully(read);
+            assertArrayEquals(bytes, read);
+
+            assertEquals((byte) (99 * 7) & 0xFF, memory.openStream(offset + 99L).read());
+
+            // The block is padded to 104 bytes, after which nothing has been allocated.
+            InputStream in = memory.openStream(offset + 104L);
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    public void testStreamSeeksAcrossChunks() throws Exception {
+        try (GojulOffHeapMemory memory = new GojulOffHeapMemory(16, 64)) {
+            long offset = memory.allocate(200);
+            for (int i = 0; i < 25; i++) {
+                memory.putLong(offset + 8L * i, i * 1000000007L);
+            }
+
+            GojulOffHeapMemory.RegionStream stream = memory.openStream(offset);
+            DataInputStream in = new DataInputStream(stream);
+            for (int i : new int[]{24, 0, 7, 1, 18, 18, 3}) {
+                stream.seek(offset + 8L * i);
+                assertEquals(i * 1000000007L, in.readLong());
+            }
+            stream.seek(offset + 200L);
+            assertEquals(-1, stream.read());
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testGetAfterCloseThrowsException() {
+        GojulOffHeapMemory memory = new GojulOffHeapMemory(64);
+        long offset = memory.allocate(8);
+        memory.close();
+        memory.close();
+
+        memory.getLong(offset);
+    }
+}
@@ -0,0 +1,98 @@
+package org.gojul.gojulutils.data;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class GojulPairListTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorWithNegativeCapacityThrowsException() {
+        new GojulPairList<String, Integer>(-1);
+    }
+
+    @Test
+    public void testAddAndGetters() {
+        GojulPairList<String, Integer> list = new GojulPairList<>(0);
+        assertTrue(list.isEmpty());
+
+        for (int i = 0; i < 100; i++) {
+            list.add("v" + i, i % 2 == 0 ? i : null);
+        }
+        list.accept("last", 42);
+
+        assertFalse(list.isEmpty());
+        assertEquals(101, list.size());
+        assertEquals("v3", list.getFirst(3));
+        assertNull(list.getSecond(3));
+        assertEquals(Integer.valueOf(4), list.getSecond(4));
+        assertEquals("last", list.getFirst(100));
+        assertEquals(Integer.valueOf(42), list.getSecond(100));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetFirstOutOfBoundsThrowsException() {
+        GojulPairList<String, Integer> list = new GojulPairList<>();
+        list.add("hello", 42);
+        list.getFirst(1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetSecondWithNegativeIndexThrowsException() {
+        new GojulPairList<String, Integer>().getSecond(-1);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testForEachWithNullActionThrowsException() {
+        new GojulPairList<String, Integer>().forEach(null);
+    }
+
+    @Test
+    public void testForEach() {
+        GojulPairList<String, Integer> list = new GojulPairList<>();
+        list.add("hello", 42);
+        list.add("world", null);
+
+        List<String> result = new ArrayList<>();
+        list.forEach((s, t) -> result.add(s + "-" + t));
+
+        assertEquals(Arrays.asList("hello-42", "world-null"), result);
+    }
+
+    @Test
+    public void testAsList() {
+        GojulPairList<String, Integer> list = new GojulPairList<>();
+        list.add("hello", 42);
+        List<GojulPair<String, Integer>> view = list.asList();
+        list.add("world", null);
+
+        assertEquals(Arrays.asList(new GojulPair<>("hello", 42), new GojulPair<>("world", (Integer) null)), view);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testAsListIsUnmodifiable() {
+        new GojulPairList<String, Integer>().asList().add(new GojulPair<>("hello", 42));
+    }
+
+    @Test
+    public void testEqualsHashCode() {
+        GojulPairList<String, Integer> list1 = new GojulPairList<>();
+        list1.add("hello", 42);
+        list1.add("world", null);
+        GojulPairList<String, Integer> list2 = new GojulPairList<>(1);
+        list2.add("hello", 42);
+        list2.add("world", null);
+        GojulPairList<String, Integer> list3 = new GojulPairList<>();
+        list3.add("hello", 42);
+
+        assertEquals(list1, list2);
+        assertEquals(list1.hashCode(), list2.hashCode());
+        assertNotEquals(list1, list3);
+        assertEquals(Collections.emptyList(), new GojulPairList<String, Integer>().asList());
+    }
+}
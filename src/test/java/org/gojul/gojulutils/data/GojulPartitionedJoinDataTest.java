@@ -0,0 +1,72 @@
+package org.gojul.gojulutils.data;
+
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+
+public class GojulPartitionedJoinDataTest {
+
+    private final GojulJoinData.GojulJoinDataKey<String, String> keyLeft = e -> e.substring(0, 1);
+    private final GojulJoinData.GojulJoinDataKey<String, Integer> keyRight = e -> String.valueOf(e).substring(0, 1);
+
+    private final List<String> leftData = Collections.unmodifiableList(Arrays.asList("123", "10", "20", "25", "35"));
+    private final List<Integer> rightData = Collections.unmodifiableList(Arrays.asList(143, 100, 232, 275, 321));
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullLeftKeyThrowsException() {
+        new GojulPartitionedJoinData<>(null, leftData, keyRight, rightData);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullLeftDataThrowsException() {
+        new GojulPartitionedJoinData<>(keyLeft, null, keyRight, rightData);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullRightKeyThrowsException() {
+        new GojulPartitionedJoinData<>(keyLeft, leftData, null, rightData);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullRightDataThrowsException() {
+        new GojulPartitionedJoinData<>(keyLeft, leftData, keyRight, null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullPoolThrowsException() {
+        new GojulPartitionedJoinData<>(keyLeft, leftData, keyRight, rightData, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorWithInvalidPartitionCountThrowsException() {
+        new GojulPartitionedJoinData<>(keyLeft, leftData, keyRight, rightData, ForkJoinPool.commonPool(), 0);
+    }
+
+    @Test
+    public void testPartitions() {
+        GojulPartitionedJoinData<String, String, Integer> joinData = new GojulPartitionedJoinData<>(keyLeft,
+                new LinkedList<>(leftData), keyRight, rightData, ForkJoinPool.commonPool(), 2);
+
+        assertEquals(2, joinData.getPartitions().size());
+
+        Map<String, List<String>> left = new HashMap<>();
+        Map<String, List<Integer>> right = new HashMap<>();
+        List<Integer> firstIndexes = new ArrayList<>();
+        for (GojulPartitionedJoinData.Partition<String, String, Integer> partition : joinData.getPartitions()) {
+            left.putAll(partition.getLeftElementsPerKey());
+            right.putAll(partition.getRightElementsPerKey());
+            for (int i : partition.getLeftFirstIndexes()) {
+                firstIndexes.add(i);
+            }
+        }
+        Collections.sort(firstIndexes);
+
+        GojulJoinData<String, String, Integer> expected = new GojulJoinData<>(keyLeft, leftData, keyRight, rightData);
+        assertEquals(expected.getLeftElementsPerKey(), left);
+        assertEquals(expected.getRightElementsPerKey(), right);
+        assertEquals(Arrays.asList(0, 2, 4), firstIndexes);
+    }
+}
@@ -0,0 +1,94 @@
+package org.gojul.gojulutils.data;
+
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class GojulPrimitiveJoinDataTest {
+
+    private final GojulPrimitiveJoinData.GojulLongJoinDataKey<String> keyLeft = e -> Long.parseLong(e.substring(0, 1));
+    private final GojulPrimitiveJoinData.GojulLongJoinDataKey<Integer> keyRight = e -> e / 100;
+
+    private final List<String> leftData = Collections.unmodifiableList(Arrays.asList("123", "10", "20", "25", "35"));
+    private final List<Integer> rightData = Collections.unmodifiableList(Arrays.asList(143, 100, 232, 275, 321));
+
+    @Test(expected = NullPointerException.class)
+    public void testWithLongKeysWithNullLeftKeyThrowsException() {
+        GojulPrimitiveJoinData.withLongKeys(null, leftData, keyRight, rightData);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testWithLongKeysWithNullLeftDataThrowsException() {
+        GojulPrimitiveJoinData.withLongKeys(keyLeft, null, keyRight, rightData);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testWithLongKeysWithNullRightKeyThrowsException() {
+        GojulPrimitiveJoinData.withLongKeys(keyLeft, leftData, null, rightData);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testWithLongKeysWithNullRightDataThrowsException() {
+        GojulPrimitiveJoinData.withLongKeys(keyLeft, leftData, keyRight, null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testWithIntKeysWithNullLeftKeyThrowsException() {
+        GojulPrimitiveJoinData.withIntKeys(null, leftData, (Integer e) -> e, rightData);
+    }
+
+    @Test
+    public void testRightIndex() {
+        GojulPrimitiveJoinData<String, Integer> joinData = GojulPrimitiveJoinData.withLongKeys(keyLeft, leftData,
+                keyRight, rightData);
+        GojulLongHashIndex<Integer> index = joinData.getRightIndex();
+
+        assertSame(leftData, joinData.getLeftElements());
+        assertEquals(3, index.keyCount());
+        assertEquals(5, index.size());
+        assertEquals(Arrays.asList(143, 100), valuesOf(index, 1L));
+        assertEquals(Arrays.asList(232, 275), valuesOf(index, 2L));
+        assertEquals(Arrays.asList(321), valuesOf(index, 3L));
+        assertEquals(-1, index.find(4L));
+    }
+
+    @Test
+    public void testRightIndexWithManyKeys() {
+        List<Long> values = new ArrayList<>();
+        Random random = new Random(42L);
+        Map<Long, List<Long>> expected = new HashMap<>();
+        for (int i = 0; i < 10000; i++) {
+            long value = random.nextLong() % 3000L;
+            values.add(value);
+            expected.computeIfAbsent(value / 2L, k -> new ArrayList<>()).add(value);
+        }
+
+        GojulLongHashIndex<Long> index = GojulPrimitiveJoinData.withLongKeys((Long e) -> e, values,
+                (Long e) -> e / 2L, values).getRightIndex();
+
+        assertEquals(expected.size(), index.keyCount());
+        for (Map.Entry<Long, List<Long>> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), valuesOf(index, entry.getKey()));
+        }
+    }
+
+    @Test
+    public void testWithIntKeys() {
+        GojulPrimitiveJoinData<String, Integer> joinData = GojulPrimitiveJoinData.withIntKeys(
+                e -> Integer.parseInt(e.substring(0, 1)), leftData, e -> e / 100, rightData);
+
+        assertEquals(Arrays.asList(232, 275), valuesOf(joinData.getRightIndex(), 2L));
+    }
+
+    private static <V> List<V> valuesOf(final GojulLongHashIndex<V> index, final long key) {
+        int slot = index.find(key);
+        List<V> result = new ArrayList<>();
+        for (int i = index.start(slot); i < index.end(slot); i++) {
+            result.add(index.valueAt(i));
+        }
+        return result;
+    }
+}
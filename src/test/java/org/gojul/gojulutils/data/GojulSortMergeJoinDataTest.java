@@ -0,0 +1,64 @@
+package org.gojul.gojulutils.data;
+
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class GojulSortMergeJoinDataTest {
+
+    private final GojulJoinData.GojulJoinDataKey<String, String> keyLeft = e -> e.substring(0, 1);
+    private final GojulJoinData.GojulJoinDataKey<String, Integer> keyRight = e -> String.valueOf(e).substring(0, 1);
+
+    private final List<String> leftData = Collections.unmodifiableList(Arrays.asList("123", "10", "20", "25", "35"));
+    private final List<Integer> rightData = Collections.unmodifiableList(Arrays.asList(143, 100, 232, 275, 321));
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullLeftKeyThrowsException() {
+        new GojulSortMergeJoinData<>(null, leftData.iterator(), keyRight, rightData.iterator(), Comparator.naturalOrder());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullLeftDataThrowsException() {
+        new GojulSortMergeJoinData<>(keyLeft, null, keyRight, rightData.iterator(), Comparator.naturalOrder());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullRightKeyThrowsException() {
+        new GojulSortMergeJoinData<>(keyLeft, leftData.iterator(), null, rightData.iterator(), Comparator.naturalOrder());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullRightDataThrowsException() {
+        new GojulSortMergeJoinData<>(keyLeft, leftData.iterator(), keyRight, null, Comparator.naturalOrder());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullComparatorThrowsException() {
+        new GojulSortMergeJoinData<>(keyLeft, leftData.iterator(), keyRight, rightData.iterator(), null);
+    }
+
+    @Test
+    public void testGetters() {
+        Iterator<String> left = leftData.iterator();
+        Iterator<Integer> right = rightData.iterator();
+        GojulSortMergeJoinData<String, String, Integer> joinData = new GojulSortMergeJoinData<>(keyLeft, left,
+                keyRight, right, Comparator.naturalOrder());
+
+        assertSame(left, joinData.getLeftElements());
+        assertSame(right, joinData.getRightElements());
+        assertEquals(-1, Integer.signum(joinData.getKeyComparator().compare(null, "1")));
+        assertEquals(1, Integer.signum(joinData.getKeyComparator().compare("2", "1")));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testMarkConsumedTwiceThrowsException() {
+        GojulSortMergeJoinData<String, String, Integer> joinData = new GojulSortMergeJoinData<>(keyLeft,
+                leftData.iterator(), keyRight, rightData.iterator(), Comparator.naturalOrder());
+
+        joinData.markConsumed();
+        joinData.markConsumed();
+    }
+}
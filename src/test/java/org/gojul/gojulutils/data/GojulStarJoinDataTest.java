@@ -0,0 +1,63 @@
+package org.gojul.gojulutils.data;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class GojulStarJoinDataTest {
+
+    private final GojulJoinData.GojulJoinDataKey<String, String> keyFact = e -> e.substring(0, 1);
+    private final GojulJoinData.GojulJoinDataKey<String, Integer> keyDimension = e -> String.valueOf(e).substring(0, 1);
+
+    private final List<String> factData = Collections.unmodifiableList(Arrays.asList("123", "10", "20", "25", "35"));
+    private final GojulStarJoinData.Dimension<String, Integer> dimension = new GojulStarJoinData.Dimension<>(
+            keyDimension, Arrays.asList(143, 100, 232));
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullFactKeyThrowsException() {
+        new GojulStarJoinData<>(null, factData, Collections.singletonList(dimension));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullFactDataThrowsException() {
+        new GojulStarJoinData<>(keyFact, null, Collections.singletonList(dimension));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullDimensionsThrowsException() {
+        new GojulStarJoinData<>(keyFact, factData, null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullDimensionThrowsException() {
+        new GojulStarJoinData<>(keyFact, factData, Arrays.asList(dimension, null));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorWithNoDimensionThrowsException() {
+        new GojulStarJoinData<>(keyFact, factData, Collections.<GojulStarJoinData.Dimension<String, ?>>emptyList());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testDimensionConstructorWithNullKeyThrowsException() {
+        new GojulStarJoinData.Dimension<>(null, Arrays.asList(143, 100));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testDimensionConstructorWithNullDataThrowsException() {
+        new GojulStarJoinData.Dimension<>(keyDimension, null);
+    }
+
+    @Test
+    public void testConstructor() {
+        GojulStarJoinData<String, String> joinData = new GojulStarJoinData<>(keyFact, factData,
+                Arrays.asList(dimension, dimension));
+
+        assertEquals(2, joinData.getDimensions().size());
+        assertEquals(Arrays.asList(143, 100), joinData.getDimensions().get(0).getElementsPerKey().get("1"));
+    }
+}
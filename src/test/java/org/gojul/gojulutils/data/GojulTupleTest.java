@@ -0,0 +1,47 @@
+package org.gojul.gojulutils.data;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class GojulTupleTest {
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullValuesThrowsException() {
+        new GojulTuple((Object[]) null);
+    }
+
+    @Test
+    public void testConstructorCopiesValues() {
+        Object[] values = {"hello", 42, null};
+        GojulTuple tuple = new GojulTuple(values);
+        values[0] = "world";
+
+        assertEquals(3, tuple.size());
+        assertEquals("hello", tuple.get(0));
+        assertEquals(Integer.valueOf(42), tuple.<Integer>get(1));
+        assertNull(tuple.get(2));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBoundsThrowsException() {
+        new GojulTuple("hello").get(1);
+    }
+
+    @Test
+    public void testEqualsHashCode() {
+        GojulTuple tuple1 = new GojulTuple("hello", 42, null);
+        GojulTuple tuple2 = new GojulTuple("hello", 42, null);
+        GojulTuple tuple3 = new GojulTuple("hello", 42);
+
+        assertEquals(tuple1, tuple2);
+        assertEquals(tuple1.hashCode(), tuple2.hashCode());
+        assertNotEquals(tuple1, tuple3);
+        assertNotEquals(tuple1, null);
+    }
+
+    @Test
+    public void testToString() {
+        assertEquals("GojulTuple{values=[hello, 42, null]}", new GojulTuple("hello", 42, null).toString());
+    }
+}
@@ -0,0 +1,187 @@
+package org.gojul.gojulutils.data;
+
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class GojulWindowedJoinTest {
+
+    private final GojulJoinData.GojulJoinDataKey<String, String> keyLeft = e -> e.substring(0, 1);
+    private final GojulJoinData.GojulJoinDataKey<String, Integer> keyRight = e -> String.valueOf(e).substring(0, 1);
+
+    private final List<GojulPair<String, Integer>> result = new ArrayList<>();
+
+    private GojulWindowedJoin<String, String, Integer> newJoin(final long windowMillis, final int maxElementsPerKey) {
+        return new GojulWindowedJoin<>(keyLeft, keyRight, windowMillis, maxElementsPerKey,
+                (s, t) -> result.add(new GojulPair<>(s, t)));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullLeftKeyThrowsException() {
+        new GojulWindowedJoin<>(null, keyRight, 10L, 10, (s, t) -> {
+        });
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullDownstreamThrowsException() {
+        new GojulWindowedJoin<>(keyLeft, keyRight, 10L, 10, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorWithNegativeWindowThrowsException() {
+        newJoin(-1L, 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorWithZeroMaxElementsThrowsException() {
+        newJoin(10L, 0);
+    }
+
+    @Test
+    public void testMatchesWithinWindow() {
+        GojulWindowedJoin<String, String, Integer> join = newJoin(10L, 100);
+
+        join.onLeft("123", 0L);
+        join.onLeft("20", 2L);
+        join.onRight(143, 5L);
+        join.onRight(232, 12L);
+        join.onLeft("10", 14L);
+        join.onRight(100, 20L);
+
+        assertEquals(Arrays.asList(
+                new GojulPair<>("123", 143),
+                new GojulPair<>("20", 232),
+                new GojulPair<>("10", 143),
+                new GojulPair<>("10", 100)
+        ), result);
+    }
+
+    @Test
+    public void testTimeEviction() {
+        GojulWindowedJoin<String, String, Integer> join = newJoin(10L, 100);
+
+        join.onLeft("123", 0L);
+        join.onLeft("10", 5L);
+        assertEquals(2, join.getBufferedElementCount());
+
+        join.advanceTo(12L);
+        assertEquals(1, join.getBufferedElementCount());
+
+        join.advanceTo(100L);
+        assertEquals(0, join.getBufferedElementCount());
+
+        join.onRight(143, 100L);
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    public void testTimeEvictionFollowsTimestampsRatherThanArrivalOrder() {
+        GojulWindowedJoin<String, String, Integer> join = newJoin(10L, 100);
+
+        join.onLeft("123", 100L);
+        join.onLeft("10", 95L);
+        assertEquals(2, join.getBufferedElementCount());
+
+        // The late element expires first, even though it arrived after the other one.
+        join.advanceTo(106L);
+        assertEquals(1, join.getBufferedElementCount());
+
+        join.onRight(143, 106L);
+        assertEquals(Collections.singletonList(new GojulPair<>("123", 143)), result);
+    }
+
+    @Test
+    public void testCountEvictionEvictsOldestTimestamps() {
+        GojulWindowedJoin<String, String, Integer> join = newJoin(1000L, 2);
+
+        join.onLeft("10", 10L);
+        join.onLeft("11", 5L);
+        join.onLeft("12", 8L);
+        assertEquals(2, join.getBufferedElementCount());
+
+        join.onRight(143, 10L);
+        assertEquals(Arrays.asList(new GojulPair<>("12", 143), new GojulPair<>("10", 143)), result);
+    }
+
+    @Test
+    public void testLateElementsAreDropped() {
+        GojulWindowedJoin<String, String, Integer> join = newJoin(10L, 100);
+
+        join.onLeft("123", 100L);
+        join.onRight(143, 85L);
+        join.onRight(100, 95L);
+
+        assertEquals(1L, join.getDroppedElementCount());
+        assertEquals(Collections.singletonList(new GojulPair<>("123", 100)), result);
+    }
+
+    @Test
+    public void testCountEviction() {
+        GojulWindowedJoin<String, String, Integer> join = newJoin(1000L, 2);
+
+        join.onLeft("10", 0L);
+        join.onLeft("11", 1L);
+        join.onLeft("12", 2L);
+        join.onLeft("20", 3L);
+        assertEquals(3, join.getBufferedElementCount());
+
+        join.onRight(143, 4L);
+        assertEquals(Arrays.asList(new GojulPair<>("11", 143), new GojulPair<>("12", 143)), result);
+
+        join.advanceTo(2000L);
+        assertEquals(0, join.getBufferedElementCount());
+    }
+
+    @Test
+    public void testBufferedElementsStayBounded() {
+        GojulWindowedJoin<Integer, Integer, Integer> join = new GojulWindowedJoin<>(e -> e % 100, e -> e % 100,
+                50L, 1000, (s, t) -> {
+        });
+
+        for (int i = 0; i < 100_000; i++) {
+            join.onLeft(i, i);
+            join.onRight(i, i);
+            assertTrue(join.getBufferedElementCount() <= 2 * 51);
+        }
+    }
+
+    @Test
+    public void testConcurrentProducers() throws Exception {
+        AtomicInteger matchCount = new AtomicInteger();
+        GojulWindowedJoin<Integer, Integer, Integer> join = new GojulWindowedJoin<>(e -> e, e -> e,
+                Long.MAX_VALUE, 10, (s, t) -> matchCount.incrementAndGet());
+        CountDownLatch start = new CountDownLatch(1);
+
+        Thread left = new Thread(() -> {
+            awaitQuietly(start);
+            for (int i = 0; i < 10_000; i++) {
+                join.onLeft(i, 0L);
+            }
+        });
+        Thread right = new Thread(() -> {
+            awaitQuietly(start);
+            for (int i = 0; i < 10_000; i++) {
+                join.onRight(i, 0L);
+            }
+        });
+        left.start();
+        right.start();
+        start.countDown();
+        left.join();
+        right.join();
+
+        assertEquals(10_000, matchCount.get());
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.gojul.gojulutils.filter;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+public class GojulAdaptiveFilterCompositeTest {
+
+    private final GojulFilter<Integer, String> even = (value, context) -> value % 2 == 0;
+    private final GojulFilter<Integer, String> positive = (value, context) -> value > 0;
+    private final GojulFilter<Integer, String> passAll = (value, context) -> true;
+    private final GojulFilter<Integer, String> rejectAll = (value, context) -> false;
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullArgThrowsException() {
+        new GojulAdaptiveFilterComposite<String, Date>(null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullFilterThrowsException() {
+        new GojulAdaptiveFilterComposite<>(Arrays.asList(even, null));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorWithInvalidSamplingRateThrowsException() {
+        new GojulAdaptiveFilterComposite<>(Arrays.asList(even, positive), 0, 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorWithInvalidReorderingIntervalThrowsException() {
+        new GojulAdaptiveFilterComposite<>(Arrays.asList(even, positive), 10, 0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testAcceptWithNullValueThrowsException() {
+        new GojulAdaptiveFilterComposite<>(Arrays.asList(even, positive)).accept(null, "hello");
+    }
+
+    @Test
+    public void testAccept() {
+        GojulAdaptiveFilterComposite<Integer, String> composite = new GojulAdaptiveFilterComposite<>(
+                Arrays.asList(positive, even), 1, 3);
+
+        for (int i = -50; i < 50; i++) {
+            assertEquals(i > 0 && i % 2 == 0, composite.accept(i, "hello"));
+        }
+    }
+
+    @Test
+    public void testAcceptWithDefaultSampling() {
+        GojulAdaptiveFilterComposite<Integer, String> composite = new GojulAdaptiveFilterComposite<>(
+                Arrays.asList(passAll, positive, even));
+
+        IntStream.range(-50000, 50000).parallel()
+                .forEach(i -> assertEquals(i > 0 && i % 2 == 0, composite.accept(i, "hello")));
+    }
+
+    @Test
+    public void testAcceptWithNoFilter() {
+        assertTrue(new GojulAdaptiveFilterComposite<Integer, String>(Collections.emptyList()).accept(1, "hello"));
+    }
+
+    @Test
+    public void testAcceptReordersRejectingFiltersFirst() {
+        AtomicInteger passAllCalls = new AtomicInteger();
+        GojulFilter<Integer, String> countingPassAll = (value, context) -> {
+            passAllCalls.incrementAndGet();
+            return true;
+        };
+        GojulAdaptiveFilterComposite<Integer, String> composite = new GojulAdaptiveFilterComposite<>(
+                Arrays.asList(countingPassAll, rejectAll), 1, 10);
+
+        for (int i = 0; i < 10; i++) {
+            assertFalse(composite.accept(i, "hello"));
+        }
+        assertEquals(Arrays.asList(rejectAll, countingPassAll), composite.getFilters());
+
+        passAllCalls.set(0);
+        for (int i = 0; i < 100; i++) {
+            assertFalse(composite.accept(i, "hello"));
+        }
+        assertEquals(Arrays.asList(rejectAll, countingPassAll), composite.getFilters());
+        assertEquals(0, passAllCalls.get());
+    }
+
+    @Test
+    public void testGetFilters() {
+        List<GojulFilter<Integer, String>> filters = Arrays.asList(even, positive);
+        GojulAdaptiveFilterComposite<Integer, String> composite = new GojulAdaptiveFilterComposite<>(filters);
+
+        assertEquals(filters, composite.getFilters());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testGetFiltersIsUnmodifiable() {
+        new GojulAdaptiveFilterComposite<>(Arrays.asList(even, positive)).getFilters().clear();
+    }
+}
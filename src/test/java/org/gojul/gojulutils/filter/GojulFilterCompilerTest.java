@@ -0,0 +1,149 @@
+package org.gojul.gojulutils.filter;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class GojulFilterCompilerTest {
+
+    private final GojulFilter<Integer, Integer> positive = (value, context) -> value > 0;
+    private final GojulFilter<Integer, Integer> even = (value, context) -> value % 2 == 0;
+    private final GojulFilter<Integer, Integer> lowerThanContext = (value, context) -> value < context;
+
+    @Test(expected = NullPointerException.class)
+    public void testCompileWithNullFilterThrowsException() {
+        GojulFilterCompiler.compile(null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testCompileWithNullFilterAndContextThrowsException() {
+        GojulFilterCompiler.compile(null, "hello");
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testCompileWithNullChildFilterThrowsException() {
+        GojulFilterCompiler.compile(new GojulFilterComposite<>(Arrays.asList(positive, null)));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testAcceptWithNullValueThrowsException() {
+        GojulFilterCompiler.compile(positive).accept(null, 10);
+    }
+
+    @Test
+    public void testCompileLeafFilter() {
+        GojulFilter<Integer, Integer> compiled = GojulFilterCompiler.compile(lowerThanContext);
+
+        assertTrue(compiled.accept(3, 10));
+        assertFalse(compiled.accept(30, 10));
+    }
+
+    @Test
+    public void testCompileComposite() {
+        GojulFilterComposite<Integer, Integer> composite = new GojulFilterComposite<>(
+                Arrays.asList(positive, new GojulFilterComposite<>(Arrays.asList(even, lowerThanContext))));
+        GojulFilter<Integer, Integer> compiled = GojulFilterCompiler.compile(composite);
+
+        for (int i = -20; i < 20; i++) {
+            assertEquals(composite.accept(i, 10), compiled.accept(i, 10));
+        }
+    }
+
+    @Test
+    public void testCompileEmptyComposite() {
+        assertTrue(GojulFilterCompiler.compile(new GojulFilterComposite<Integer, Integer>(Collections.emptyList()))
+                .accept(1, 10));
+    }
+
+    @Test
+    public void testCompileWithContext() {
+        GojulFilter<Integer, Integer> compiled = GojulFilterCompiler.compile(
+                new GojulFilterComposite<>(Arrays.asList(positive, lowerThanContext)), 10);
+
+        assertTrue(compiled.accept(3, null));
+        assertTrue(compiled.accept(3, 1));
+        assertFalse(compiled.accept(30, 100));
+        assertFalse(compiled.accept(-3, 100));
+    }
+
+    @Test
+    public void testCompileCompiledFilter() {
+        GojulFilter<Integer, Integer> compiled = GojulFilterCompiler.compile(
+                new GojulFilterComposite<>(Arrays.asList(GojulFilterCompiler.compile(positive), even)));
+
+        assertTrue(compiled.accept(4, 10));
+        assertFalse(compiled.accept(-4, 10));
+        assertFalse(compiled.accept(3, 10));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testAcceptStopsAtFirstRejectingFilter() {
+        Date d = new Date();
+
+        GojulFilter<Date, String> f1 = mock(GojulFilter.class);
+        GojulFilter<Date, String> f2 = mock(GojulFilter.class);
+        GojulFilter<Date, String> f3 = mock(GojulFilter.class);
+
+        when(f1.accept(d, "hello")).thenReturn(true);
+        when(f2.accept(d, "hello")).thenReturn(false);
+        when(f3.accept(d, "hello")).thenReturn(true);
+
+        GojulFilter<Date, String> compiled = GojulFilterCompiler.compile(
+                new GojulFilterComposite<>(Arrays.asList(f1, f2, f3)));
+
+        assertFalse(compiled.accept(d, "hello"));
+
+        verify(f1).accept(d, "hello");
+        verify(f2).accept(d, "hello");
+        verifyNoMoreInteractions(f3);
+    }
+
+    @Test
+    public void testAcceptPropagatesExceptions() {
+        IllegalArgumentException exception = new IllegalArgumentException("Failure");
+        GojulFilter<Integer, Integer> failing = (value, context) -> {
+            throw exception;
+        };
+
+        try {
+            GojulFilterCompiler.compile(new GojulFilterComposite<>(Arrays.asList(positive, failing))).accept(1, 10);
+            fail("An exception was expected");
+        } catch (IllegalArgumentException e) {
+            assertSame(exception, e);
+        }
+    }
+
+    @Test
+    public void testCompileBooleanAlgebra() {
+        GojulFilter<Integer, Integer> filter = GojulFilters.or(GojulFilters.and(positive, GojulFilters.not(even)),
+                GojulFilters.and(GojulFilters.alwaysTrue(), lowerThanContext), GojulFilters.alwaysFalse());
+        GojulFilter<Integer, Integer> compiled = GojulFilterCompiler.compile(filter);
+
+        for (int i = -20; i < 20; i++) {
+            assertEquals(filter.accept(i, 0), compiled.accept(i, 0));
+        }
+        assertFalse(GojulFilterCompiler.compile(GojulFilters.or()).accept(1, 10));
+        assertTrue(GojulFilterCompiler.compile(GojulFilters.not(GojulFilters.alwaysFalse())).accept(1, 10));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testAcceptStopsAtFirstAcceptingFilterOfOr() {
+        Date d = new Date();
+
+        GojulFilter<Date, String> f1 = mock(GojulFilter.class);
+        GojulFilter<Date, String> f2 = mock(GojulFilter.class);
+
+        when(f1.accept(d, "hello")).thenReturn(true);
+
+        assertTrue(GojulFilterCompiler.compile(GojulFilters.or(f1, f2)).accept(d, "hello"));
+
+        verifyNoMoreInteractions(f2);
+    }
+}
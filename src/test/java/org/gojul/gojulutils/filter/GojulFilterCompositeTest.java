@@ -2,9 +2,13 @@ package org.gojul.gojulutils.filter;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Date;
+import java.util.List;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.*;
@@ -67,4 +71,86 @@ public class GojulFilterCompositeTest {
 
         assertTrue(composite.accept(d, "hello"));
     }
-}
\ No newline at end of file
+
+    @Test(expected = NullPointerException.class)
+    public void testAcceptAllWithNullValuesThrowsException() {
+        new GojulFilterComposite<Date, String>(new ArrayList<>()).acceptAll(null, "hello");
+    }
+
+    @Test(expected = NullPointerException.class)
+    @SuppressWarnings("unchecked")
+    public void testAcceptAllWithNullValueThrowsException() {
+        GojulFilter<Date, String> f1 = mock(GojulFilter.class);
+
+        new GojulFilterComposite<>(Arrays.asList(f1)).acceptAll(Arrays.asList(new Date(), null), "hello");
+    }
+
+    @Test
+    public void testAcceptAll() {
+        GojulFilter<Integer, String> even = (value, context) -> value % 2 == 0;
+        GojulFilter<Integer, String> positive = (value, context) -> value > 0;
+        GojulFilterComposite<Integer, String> composite = new GojulFilterComposite<>(Arrays.asList(even, positive));
+
+        BitSet expected = new BitSet();
+        expected.set(2);
+        expected.set(4);
+
+        assertEquals(expected, composite.acceptAll(Arrays.asList(-2, 3, 4, -5, 6), "hello"));
+        assertEquals(Arrays.asList(4, 6), composite.filterAll(Arrays.asList(-2, 3, 4, -5, 6), "hello"));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testAcceptAllSkipsRejectedValues() {
+        Date d1 = new Date(1L);
+        Date d2 = new Date(2L);
+
+        GojulFilter<Date, String> f1 = mock(GojulFilter.class);
+        GojulFilter<Date, String> f2 = mock(GojulFilter.class);
+
+        when(f1.accept(d1, "hello")).thenReturn(false);
+        when(f1.accept(d2, "hello")).thenReturn(true);
+        when(f2.accept(d2, "hello")).thenReturn(true);
+
+        GojulFilterComposite<Date, String> composite = new GojulFilterComposite<>(Arrays.asList(f1, f2));
+
+        assertEquals(Arrays.asList(d2), composite.filterAll(Arrays.asList(d1, d2), "hello"));
+
+        verify(f2).accept(d2, "hello");
+        verifyNoMoreInteractions(f2);
+    }
+
+    @Test
+    public void testAcceptAllParallel() {
+        GojulFilter<Integer, String> multipleOf3 = (value, context) -> value % 3 == 0;
+        GojulFilter<Integer, String> multipleOf5 = (value, context) -> value % 5 == 0;
+        GojulFilterComposite<Integer, String> composite = new GojulFilterComposite<>(
+                Arrays.asList(multipleOf3, multipleOf5));
+
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            values.add(i);
+        }
+
+        BitSet result = composite.acceptAll(values, "hello", true);
+        for (int i = 0; i < values.size(); i++) {
+            assertEquals(composite.accept(i, "hello"), result.get(i));
+        }
+        assertEquals(composite.filterAll(values, "hello"), composite.filterAll(values, "hello", true));
+    }
+
+    @Test
+    public void testAcceptAllUsesOverriddenAccept() {
+        GojulFilter<Integer, String> even = (value, context) -> value % 2 == 0;
+        GojulFilterComposite<Integer, String> composite = new GojulFilterComposite<Integer, String>(
+                Arrays.asList(even)) {
+            @Override
+            public boolean accept(final Integer value, final String context) {
+                return super.accept(value, context) && value > 0;
+            }
+        };
+
+        assertEquals(Arrays.asList(4, 6), composite.filterAll(Arrays.asList(-2, 3, 4, -5, 6), "hello"));
+        assertEquals(Arrays.asList(4, 6), composite.filterAll(Arrays.asList(-2, 3, 4, -5, 6), "hello", true));
+    }
+}
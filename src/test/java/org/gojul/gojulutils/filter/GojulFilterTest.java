@@ -0,0 +1,75 @@
+package org.gojul.gojulutils.filter;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class GojulFilterTest {
+
+    private final GojulFilter<Integer, Integer> multipleOf = (value, context) -> value % context == 0;
+
+    private List<Integer> values(final int count) {
+        List<Integer> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(i);
+        }
+        return result;
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testAcceptAllWithNullValuesThrowsException() {
+        multipleOf.acceptAll(null, 3);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testFilterAllWithNullValuesThrowsException() {
+        multipleOf.filterAll(null, 3);
+    }
+
+    @Test
+    public void testAcceptAll() {
+        BitSet expected = new BitSet();
+        expected.set(1);
+        expected.set(3);
+
+        assertEquals(expected, multipleOf.acceptAll(Arrays.asList(5, 9, 7, 12), 3));
+        assertEquals(new BitSet(), multipleOf.acceptAll(Collections.<Integer>emptyList(), 3));
+    }
+
+    @Test
+    public void testFilterAll() {
+        assertEquals(Arrays.asList(9, 12), multipleOf.filterAll(Arrays.asList(5, 9, 7, 12), 3));
+        assertEquals(Collections.emptyList(), multipleOf.filterAll(Collections.<Integer>emptyList(), 3));
+    }
+
+    @Test
+    public void testAcceptAllParallel() {
+        List<Integer> values = values(100000);
+
+        BitSet result = multipleOf.acceptAll(values, 7, true);
+
+        for (int i = 0; i < values.size(); i++) {
+            assertEquals(i % 7 == 0, result.get(i));
+        }
+        assertEquals(multipleOf.acceptAll(values, 7), result);
+    }
+
+    @Test
+    public void testFilterAllParallel() {
+        List<Integer> values = values(100001);
+
+        List<Integer> result = multipleOf.filterAll(values, 7, true);
+
+        assertEquals(multipleOf.filterAll(values, 7), result);
+        assertEquals(100000 / 7 + 1, result.size());
+        for (int i = 0; i < result.size(); i++) {
+            assertEquals(Integer.valueOf(i * 7), result.get(i));
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package org.gojul.gojulutils.filter;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class GojulFiltersTest {
+
+    private final GojulFilter<Integer, String> positive = (value, context) -> value > 0;
+    private final GojulFilter<Integer, String> even = (value, context) -> value % 2 == 0;
+    private final GojulFilter<Integer, String> small = (value, context) -> Math.abs(value) < 10;
+
+    private void assertSameResults(final GojulFilter<Integer, String> expected,
+                                   final GojulFilter<Integer, String> actual) {
+        for (int i = -20; i < 20; i++) {
+            assertEquals(expected.accept(i, "hello"), actual.accept(i, "hello"));
+        }
+    }
+
+    @Test
+    public void testConstants() {
+        assertTrue(GojulFilters.<Integer, String>alwaysTrue().accept(1, "hello"));
+        assertFalse(GojulFilters.<Integer, String>alwaysFalse().accept(1, "hello"));
+        assertTrue(GojulFilters.constantValueOf(GojulFilters.alwaysTrue()));
+        assertFalse(GojulFilters.constantValueOf(GojulFilters.alwaysFalse()));
+        assertNull(GojulFilters.constantValueOf(positive));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstantWithNullValueThrowsException() {
+        GojulFilters.alwaysTrue().accept(null, "hello");
+    }
+
+    @Test
+    public void testAndOrNot() {
+        GojulFilter<Integer, String> filter = GojulFilters.or(GojulFilters.and(positive, even),
+                GojulFilters.not(small));
+
+        for (int i = -20; i < 20; i++) {
+            assertEquals(i > 0 && i % 2 == 0 || Math.abs(i) >= 10, filter.accept(i, "hello"));
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNormalizeWithNullFilterThrowsException() {
+        GojulFilters.normalize(null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNormalizeWithNullChildFilterThrowsException() {
+        GojulFilters.normalize(GojulFilters.and(positive, null));
+    }
+
+    @Test
+    public void testNormalizeLeafFilter() {
+        assertSame(positive, GojulFilters.normalize(positive));
+    }
+
+    @Test
+    public void testNormalizeFlattensNestedJunctions() {
+        GojulFilter<Integer, String> filter = GojulFilters.and(positive, GojulFilters.and(even,
+                GojulFilters.and(small)));
+
+        GojulFilter<Integer, String> normalized = GojulFilters.normalize(filter);
+
+        assertEquals(GojulFilterComposite.class, normalized.getClass());
+        assertEquals(Arrays.asList(positive, even, small), ((GojulFilterComposite<Integer, String>) normalized)
+                .getFilters());
+        assertSameResults(filter, normalized);
+
+        GojulFilter<Integer, String> orFilter = GojulFilters.or(GojulFilters.or(positive, even), small);
+        GojulFilter<Integer, String> normalizedOr = GojulFilters.normalize(orFilter);
+
+        assertEquals(Arrays.asList(positive, even, small), ((GojulOrFilterComposite<Integer, String>) normalizedOr)
+                .getFilters());
+        assertSameResults(orFilter, normalizedOr);
+    }
+
+    @Test
+    public void testNormalizeKeepsMixedJunctions() {
+        GojulFilter<Integer, String> inner = GojulFilters.or(even, small);
+        GojulFilter<Integer, String> filter = GojulFilters.and(positive, inner);
+
+        GojulFilter<Integer, String> normalized = GojulFilters.normalize(filter);
+
+        assertEquals(2, ((GojulFilterComposite<Integer, String>) normalized).getFilters().size());
+        assertSameResults(filter, normalized);
+    }
+
+    @Test
+    public void testNormalizeRemovesDuplicates() {
+        GojulFilter<Integer, String> filter = GojulFilters.and(positive, even, GojulFilters.and(positive, small),
+                even);
+
+        GojulFilter<Integer, String> normalized = GojulFilters.normalize(filter);
+
+        assertEquals(Arrays.asList(positive, even, small), ((GojulFilterComposite<Integer, String>) normalized)
+                .getFilters());
+        assertSameResults(filter, normalized);
+    }
+
+    @Test
+    public void testNormalizeRemovesNeutralConstants() {
+        assertSame(positive, GojulFilters.normalize(GojulFilters.and(GojulFilters.alwaysTrue(), positive)));
+        assertSame(positive, GojulFilters.normalize(GojulFilters.or(positive, GojulFilters.alwaysFalse())));
+    }
+
+    @Test
+    public void testNormalizeShortCircuitsAbsorbingConstants() {
+        assertSame(GojulFilters.alwaysFalse(), GojulFilters.normalize(GojulFilters.and(positive,
+                GojulFilters.or(even, small), GojulFilters.alwaysFalse())));
+        assertSame(GojulFilters.alwaysTrue(), GojulFilters.normalize(GojulFilters.or(positive,
+                GojulFilters.not(GojulFilters.alwaysFalse()))));
+    }
+
+    @Test
+    public void testNormalizeEmptyJunctions() {
+        assertSame(GojulFilters.alwaysTrue(), GojulFilters.normalize(
+                new GojulFilterComposite<Integer, String>(Collections.emptyList())));
+        assertSame(GojulFilters.alwaysFalse(), GojulFilters.normalize(
+                new GojulOrFilterComposite<Integer, String>(Collections.emptyList())));
+        assertSame(GojulFilters.alwaysTrue(), GojulFilters.normalize(GojulFilters.and(GojulFilters.alwaysTrue(),
+                GojulFilters.and())));
+    }
+
+    @Test
+    public void testNormalizeNegations() {
+        assertSame(positive, GojulFilters.normalize(GojulFilters.not(GojulFilters.not(positive))));
+        assertSame(GojulFilters.alwaysFalse(), GojulFilters.normalize(GojulFilters.not(GojulFilters.alwaysTrue())));
+
+        GojulFilter<Integer, String> notPositive = GojulFilters.not(positive);
+        assertSame(notPositive, GojulFilters.normalize(notPositive));
+
+        GojulFilter<Integer, String> filter = GojulFilters.not(GojulFilters.and(positive, GojulFilters.alwaysTrue()));
+        GojulFilter<Integer, String> normalized = GojulFilters.normalize(filter);
+        assertSame(positive, ((GojulNotFilter<Integer, String>) normalized).getFilter());
+        assertSameResults(filter, normalized);
+    }
+
+    @Test
+    public void testNormalizeKeepsSubclasses() {
+        GojulFilterComposite<Integer, String> subclass = new GojulFilterComposite<Integer, String>(
+                Arrays.asList(positive, positive)) {
+        };
+
+        assertSame(subclass, GojulFilters.normalize(GojulFilters.and(subclass)));
+    }
+}
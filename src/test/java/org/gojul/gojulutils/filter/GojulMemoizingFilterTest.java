@@ -0,0 +1,152 @@
+package org.gojul.gojulutils.filter;
+
+import org.junit.Test;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class GojulMemoizingFilterTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final GojulFilter<Integer, Integer> multipleOf = (value, context) -> {
+        calls.incrementAndGet();
+        return value % context == 0;
+    };
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullFilterThrowsException() {
+        new GojulMemoizingFilter<Integer, Integer>(null, 10);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullUnitThrowsException() {
+        new GojulMemoizingFilter<>(multipleOf, 10, 1L, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorWithInvalidMaxSizeThrowsException() {
+        new GojulMemoizingFilter<>(multipleOf, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorWithNegativeExpirationThrowsException() {
+        new GojulMemoizingFilter<>(multipleOf, 10, -1L, TimeUnit.SECONDS);
+    }
+
+    @Test(expected = NullPointerException.class)
+    @SuppressWarnings("unchecked")
+    public void testAcceptWithNullValueThrowsException() {
+        GojulFilter<Date, String> f = mock(GojulFilter.class);
+
+        new GojulMemoizingFilter<>(f, 10).accept(null, "hello");
+    }
+
+    @Test
+    public void testAccept() {
+        GojulMemoizingFilter<Integer, Integer> filter = new GojulMemoizingFilter<>(multipleOf, 10);
+
+        assertTrue(filter.accept(6, 3));
+        assertTrue(filter.accept(6, 3));
+        assertFalse(filter.accept(6, 4));
+        assertFalse(filter.accept(7, 3));
+        assertFalse(filter.accept(7, 3));
+
+        assertEquals(3, calls.get());
+        assertEquals(2L, filter.getHitCount());
+        assertEquals(3L, filter.getMissCount());
+        assertEquals(0.4, filter.getHitRate(), 0.0001);
+        assertEquals(3, filter.size());
+    }
+
+    @Test
+    public void testAcceptWithNullContext() {
+        GojulFilter<Integer, Integer> nullContext = (value, context) -> {
+            calls.incrementAndGet();
+            return context == null;
+        };
+        GojulMemoizingFilter<Integer, Integer> filter = new GojulMemoizingFilter<>(nullContext, 10);
+
+        assertTrue(filter.accept(1, null));
+        assertTrue(filter.accept(1, null));
+        assertFalse(filter.accept(1, 2));
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testAcceptEvictsOldestResults() {
+        GojulMemoizingFilter<Integer, Integer> filter = new GojulMemoizingFilter<>(multipleOf, 3);
+
+        for (int i = 0; i < 10; i++) {
+            filter.accept(i, 2);
+        }
+
+        assertEquals(3, filter.size());
+        assertEquals(7L, filter.getEvictionCount());
+
+        calls.set(0);
+        filter.accept(9, 2);
+        filter.accept(0, 2);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testAcceptGivesSecondChanceToReadResults() {
+        GojulMemoizingFilter<Integer, Integer> filter = new GojulMemoizingFilter<>(multipleOf, 3);
+
+        filter.accept(1, 2);
+        filter.accept(2, 2);
+        filter.accept(3, 2);
+        filter.accept(1, 2);
+        filter.accept(4, 2);
+
+        calls.set(0);
+        filter.accept(1, 2);
+        assertEquals(0, calls.get());
+        filter.accept(2, 2);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testAcceptExpiresResults() {
+        AtomicLong now = new AtomicLong(1000L);
+        GojulMemoizingFilter<Integer, Integer> filter = new GojulMemoizingFilter<>(multipleOf, 10, 100L,
+                TimeUnit.NANOSECONDS, now::get);
+
+        filter.accept(6, 3);
+        now.addAndGet(99L);
+        filter.accept(6, 3);
+        assertEquals(1, calls.get());
+
+        now.addAndGet(1L);
+        filter.accept(6, 3);
+        assertEquals(2, calls.get());
+        assertEquals(1, filter.size());
+
+        now.addAndGet(50L);
+        filter.accept(6, 3);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testAcceptConcurrently() {
+        GojulMemoizingFilter<Integer, Integer> filter = new GojulMemoizingFilter<>(multipleOf, 100);
+
+        IntStream.range(0, 100000).parallel().forEach(i -> assertEquals(i % 500 % 7 == 0,
+                filter.accept(i % 500, 7)));
+
+        assertTrue(filter.size() <= 100);
+        assertEquals(100000L, filter.getHitCount() + filter.getMissCount());
+    }
+
+    @Test
+    public void testGetHitRateWithoutCalls() {
+        assertEquals(0.0, new GojulMemoizingFilter<>(multipleOf, 10).getHitRate(), 0.0);
+    }
+}
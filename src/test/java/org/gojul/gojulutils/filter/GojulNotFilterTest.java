@@ -0,0 +1,41 @@
+package org.gojul.gojulutils.filter;
+
+import org.junit.Test;
+
+import java.util.Date;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class GojulNotFilterTest {
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullArgThrowsException() {
+        new GojulNotFilter<String, Date>(null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    @SuppressWarnings("unchecked")
+    public void testAcceptWithNullValueThrowsException() {
+        new GojulNotFilter<>((GojulFilter<Date, String>) mock(GojulFilter.class)).accept(null, "hello");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testAccept() {
+        Date d1 = new Date(1L);
+        Date d2 = new Date(2L);
+
+        GojulFilter<Date, String> f = mock(GojulFilter.class);
+
+        when(f.accept(d1, "hello")).thenReturn(true);
+        when(f.accept(d2, "hello")).thenReturn(false);
+
+        GojulNotFilter<Date, String> filter = new GojulNotFilter<>(f);
+
+        assertFalse(filter.accept(d1, "hello"));
+        assertTrue(filter.accept(d2, "hello"));
+    }
+}
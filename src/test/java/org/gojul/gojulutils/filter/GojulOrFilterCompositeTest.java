@@ -0,0 +1,113 @@
+package org.gojul.gojulutils.filter;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class GojulOrFilterCompositeTest {
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructorWithNullArgThrowsException() {
+        new GojulOrFilterComposite<String, Date>(null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    @SuppressWarnings("unchecked")
+    public void testAcceptWithNullValueThrowsException() {
+        GojulFilter<Date, String> f1 = mock(GojulFilter.class);
+
+        new GojulOrFilterComposite<>(Arrays.asList(f1)).accept(null, "hello");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testAcceptWithOneFilterPassingReturnTrueAndSkipOtherFilters() {
+        Date d = new Date();
+
+        GojulFilter<Date, String> f1 = mock(GojulFilter.class);
+        GojulFilter<Date, String> f2 = mock(GojulFilter.class);
+        GojulFilter<Date, String> f3 = mock(GojulFilter.class);
+
+        when(f1.accept(d, "hello")).thenReturn(false);
+        when(f2.accept(d, "hello")).thenReturn(true);
+        when(f3.accept(d, "hello")).thenReturn(false);
+
+        GojulOrFilterComposite<Date, String> composite = new GojulOrFilterComposite<>(Arrays.asList(f1, f2, f3));
+
+        assertTrue(composite.accept(d, "hello"));
+
+        verifyNoMoreInteractions(f3);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testAccept() {
+        Date d = new Date();
+
+        GojulFilter<Date, String> f1 = mock(GojulFilter.class);
+        GojulFilter<Date, String> f2 = mock(GojulFilter.class);
+
+        when(f1.accept(d, "hello")).thenReturn(false);
+        when(f2.accept(d, "hello")).thenReturn(false);
+
+        assertFalse(new GojulOrFilterComposite<>(Arrays.asList(f1, f2)).accept(d, "hello"));
+        assertFalse(new GojulOrFilterComposite<Date, String>(Collections.emptyList()).accept(d, "hello"));
+    }
+
+    @Test
+    public void testAcceptAll() {
+        GojulFilter<Integer, String> even = (value, context) -> value % 2 == 0;
+        GojulFilter<Integer, String> positive = (value, context) -> value > 0;
+        GojulOrFilterComposite<Integer, String> composite = new GojulOrFilterComposite<>(Arrays.asList(even, positive));
+
+        BitSet expected = new BitSet();
+        expected.set(0);
+        expected.set(1);
+        expected.set(2);
+
+        assertEquals(expected, composite.acceptAll(Arrays.asList(-2, 3, 4, -5), "hello"));
+        assertEquals(Arrays.asList(-2, 3, 4), composite.filterAll(Arrays.asList(-2, 3, 4, -5), "hello"));
+    }
+
+    @Test
+    public void testAcceptAllParallel() {
+        GojulFilter<Integer, String> multipleOf3 = (value, context) -> value % 3 == 0;
+        GojulFilter<Integer, String> multipleOf5 = (value, context) -> value % 5 == 0;
+        GojulOrFilterComposite<Integer, String> composite = new GojulOrFilterComposite<>(
+                Arrays.asList(multipleOf3, multipleOf5));
+
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            values.add(i);
+        }
+
+        BitSet result = composite.acceptAll(values, "hello", true);
+        for (int i = 0; i < values.size(); i++) {
+            assertEquals(composite.accept(i, "hello"), result.get(i));
+        }
+        assertEquals(composite.filterAll(values, "hello"), composite.filterAll(values, "hello", true));
+    }
+
+    @Test
+    public void testAcceptAllUsesOverriddenAccept() {
+        GojulFilter<Integer, String> even = (value, context) -> value % 2 == 0;
+        GojulOrFilterComposite<Integer, String> composite = new GojulOrFilterComposite<Integer, String>(
+                Arrays.asList(even)) {
+            @Override
+            public boolean accept(final Integer value, final String context) {
+                return super.accept(value, context) || value > 0;
+            }
+        };
+
+        assertEquals(Arrays.asList(-2, 3, 4), composite.filterAll(Arrays.asList(-2, 3, 4, -5), "hello"));
+        assertEquals(Arrays.asList(-2, 3, 4), composite.filterAll(Arrays.asList(-2, 3, 4, -5), "hello", true));
+    }
+}